@@ -0,0 +1,80 @@
+package internship.applicantProcessor.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic CSV rows for the pipeline benchmarks.
+ * <p>
+ * A share of the rows reuse the email of an earlier row, so that the repository replaces
+ * applicants, and a share break one validation rule each, cycling through a bad name, email,
+ * date-time, score and field count. Rows are available as parsed fields and as the bytes of a
+ * CSV file with a header line.
+ */
+final class ApplicantDataset {
+    static final String HEADER = "name,email,delivery_datetime,score";
+
+    private static final String[] FIRST_NAMES = {"Ana", "Ionică", "Carla", "Lucrețiu", "Robin", "Speranța", "Mihai"};
+    private static final String[] LAST_NAMES = {"Cruce", "Ramos", "Ștefănescu", "Hambare", "Hoffman-Rus", "Popescu"};
+    private static final int INVALID_KINDS = 5;
+
+    private final List<String[]> rows;
+
+    /**
+     * Generates a dataset.
+     * @param rows Number of data rows, without the header
+     * @param duplicateRate Share of rows reusing the email of an earlier row, in [0, 1]
+     * @param invalidRate Share of rows failing validation, in [0, 1]
+     * @param seed Seed of the random choices; the same arguments give the same rows
+     */
+    ApplicantDataset(int rows, double duplicateRate, double invalidRate, long seed) {
+        Random random = new Random(seed);
+        this.rows = new ArrayList<>(rows);
+        int emails = 0;
+        int invalid = 0;
+        for (int i = 0; i < rows; i++) {
+            int email = emails > 0 && random.nextDouble() < duplicateRate ? random.nextInt(emails) : emails++;
+            String[] row = {
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + ' ' + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    "applicant" + email + "@example.com",
+                    String.format("2024-01-%02dT%02d:%02d:%02d", 1 + random.nextInt(7),
+                            random.nextInt(24), random.nextInt(60), random.nextInt(60)),
+                    random.nextInt(10) + "." + random.nextInt(10) + random.nextInt(10)
+            };
+            if (random.nextDouble() < invalidRate) {
+                row = invalidate(row, invalid++ % INVALID_KINDS);
+            }
+            this.rows.add(row);
+        }
+    }
+
+    /**
+     * Returns the rows as parsed fields; invalid rows may not have four fields.
+     */
+    List<String[]> rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the dataset as a UTF-8 CSV file with a header line.
+     */
+    byte[] csv() {
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        for (String[] row : rows) {
+            csv.append(String.join(",", row)).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String[] invalidate(String[] row, int kind) {
+        return switch (kind) {
+            case 0 -> new String[]{"Mononym", row[1], row[2], row[3]};
+            case 1 -> new String[]{row[0], row[1].replace('@', '_'), row[2], row[3]};
+            case 2 -> new String[]{row[0], row[1], "2024-02-30T12:00:00", row[3]};
+            case 3 -> new String[]{row[0], row[1], row[2], "10.50"};
+            default -> new String[]{row[0], row[1], row[2]};
+        };
+    }
+}
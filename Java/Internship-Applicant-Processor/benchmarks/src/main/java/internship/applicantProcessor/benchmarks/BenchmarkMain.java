@@ -0,0 +1,24 @@
+package internship.applicantProcessor.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}: runs JMH with its usual command line, but writes the
+ * results as JSON to {@value #RESULT_FILE} unless a result format or file is given, so that
+ * runs can be compared over time.
+ */
+public final class BenchmarkMain {
+    static final String RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf") && !arguments.contains("-rff")) {
+            arguments.addAll(List.of("-rf", "json", "-rff", RESULT_FILE));
+        }
+        org.openjdk.jmh.Main.main(arguments.toArray(String[]::new));
+    }
+}
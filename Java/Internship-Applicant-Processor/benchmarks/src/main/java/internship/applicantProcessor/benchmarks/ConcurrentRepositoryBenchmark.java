@@ -0,0 +1,117 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.repository.ConcurrentApplicantRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the writer-thread scalability of {@link ConcurrentApplicantRepository}: the same
+ * pre-built rows are added to a new repository by {@code writers} threads, each taking a
+ * contiguous block of rows with their line sequence numbers, so blocks interleave out of order.
+ * Comparing the scores across {@code writers} gives the speedup over one thread.
+ * <p>
+ * After each iteration the last repository filled is checked against the sequential
+ * {@link ApplicantRepository}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentRepositoryBenchmark {
+    private static final long SEED = 20240131L;
+    private static final long FIRST_DELIVERY =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T00:00:00").epochSecond();
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"250000"})
+    public int emails;
+
+    @Param({"1", "2", "4", "8"})
+    public int writers;
+
+    private Applicant[] applicants;
+    private ApplicantRepository reference;
+    private ExecutorService pool;
+    private ConcurrentApplicantRepository lastFilled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        applicants = new Applicant[rows];
+        reference = new ApplicantRepository();
+        for (int i = 0; i < rows; i++) {
+            applicants[i] = Applicant.ofCompact(
+                    new ApplicantName("First" + i, null, "Last" + random.nextInt(1000)),
+                    "user" + random.nextInt(emails) + "@example.com",
+                    FIRST_DELIVERY + random.nextInt(3 * 86_400),
+                    random.nextInt(1001));
+            reference.addApplicant(applicants[i]);
+        }
+        pool = Executors.newFixedThreadPool(writers);
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        Collection<Applicant> actual = lastFilled.getApplicants();
+        if (actual.size() != reference.getUniqueApplicantCount() || !actual.containsAll(reference.getApplicants())) {
+            throw new IllegalStateException("Concurrent result differs from the sequential result");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public ConcurrentApplicantRepository addFromWriterThreads() throws InterruptedException, ExecutionException {
+        ConcurrentApplicantRepository repository = new ConcurrentApplicantRepository();
+        List<Callable<Void>> blocks = new ArrayList<>(writers);
+        int blockSize = (rows + writers - 1) / writers;
+        for (int from = 0; from < rows; from += blockSize) {
+            int start = from;
+            int end = Math.min(rows, from + blockSize);
+            blocks.add(() -> {
+                for (int i = start; i < end; i++) {
+                    repository.addApplicant(applicants[i], i);
+                }
+                return null;
+            });
+        }
+        for (Future<Void> block : pool.invokeAll(blocks)) {
+            block.get();
+        }
+        lastFilled = repository;
+        return repository;
+    }
+}
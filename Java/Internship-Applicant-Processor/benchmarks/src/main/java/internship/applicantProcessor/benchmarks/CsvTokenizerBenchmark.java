@@ -0,0 +1,87 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.ingest.ByteScanners;
+import internship.applicantProcessor.ingest.CsvRecord;
+import internship.applicantProcessor.ingest.CsvRecordTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokenizes a CSV of applicant rows with the byte-by-byte scanner and with the Vector API
+ * scanner, from a heap buffer and from a direct buffer as the memory-mapped ingest does.
+ * <p>
+ * The Vector API scanner is only used when the processor jar was installed with
+ * {@code mvn -Pvector install}; otherwise both forks fall back to the scalar scanner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CsvTokenizerBenchmark {
+    private static final long SEED = 20240207L;
+    private static final int ROWS = 100_000;
+
+    /** Average length of the name field, to vary the length of plain runs. */
+    @Param({"16", "64"})
+    public int nameLength;
+
+    @Param({"heap", "direct"})
+    public String buffer;
+
+    private final CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+    private final CsvRecord record = new CsvRecord();
+    private ByteBuffer input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder("name,email,delivery_datetime,score\n");
+        for (int i = 0; i < ROWS; i++) {
+            int first = 1 + random.nextInt(nameLength);
+            csv.append("a".repeat(first)).append(' ').append("b".repeat(nameLength - first + 2))
+                    .append(",applicant").append(i).append("@example.com,2024-01-0")
+                    .append(1 + random.nextInt(9)).append("T12:00:00,")
+                    .append(random.nextInt(10)).append('.').append(random.nextInt(10)).append("0\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.US_ASCII);
+        input = "direct".equals(buffer) ? ByteBuffer.allocateDirect(bytes.length).put(0, bytes) : ByteBuffer.wrap(bytes);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + ByteScanners.VECTOR_PROPERTY + "=false")
+    public long scalar() throws IOException {
+        return tokenize();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public long vector() throws IOException {
+        return tokenize();
+    }
+
+    private long tokenize() throws IOException {
+        tokenizer.reset(input, 0, true);
+        long fields = 0;
+        while (tokenizer.next(record)) {
+            fields += record.fieldCount();
+        }
+        return fields;
+    }
+}
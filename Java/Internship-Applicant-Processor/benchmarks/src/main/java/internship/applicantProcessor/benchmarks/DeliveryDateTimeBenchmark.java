@@ -0,0 +1,97 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.ingest.ByteSpan;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding delivery date-times with the ISO formatter against the fixed-layout
+ * decoder of {@link ApplicantDeliveryDateTime}, on strings and on bytes of a buffer as read by
+ * the memory-mapped ingest. Times are per date-time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(DeliveryDateTimeBenchmark.COUNT)
+public class DeliveryDateTimeBenchmark {
+    static final int COUNT = 4_096;
+    private static final long SEED = 20240204L;
+    private static final long FIRST_DELIVERY =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T00:00:00").epochSecond();
+
+    private final String[] texts = new String[COUNT];
+    private final ByteSpan span = new ByteSpan();
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            texts[i] = LocalDateTime.ofEpochSecond(FIRST_DELIVERY + random.nextInt(365 * 86_400), 0, ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            joined.append(texts[i]);
+        }
+        buffer = ByteBuffer.wrap(joined.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long isoFormatter() {
+        long sum = 0;
+        for (String text : texts) {
+            sum += LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME).toEpochSecond(ZoneOffset.UTC);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parsePreValidated() {
+        long sum = 0;
+        for (String text : texts) {
+            sum += ApplicantDeliveryDateTime.parsePreValidated(text).epochSecond();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeString() {
+        long sum = 0;
+        for (String text : texts) {
+            sum += ApplicantDeliveryDateTime.decodeEpochSecond(text, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeBytes() {
+        long sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            int start = i * ApplicantDeliveryDateTime.TEXT_LENGTH;
+            sum += ApplicantDeliveryDateTime.decodeEpochSecond(
+                    span.set(buffer, start, start + ApplicantDeliveryDateTime.TEXT_LENGTH), 0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,135 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.ApplicantsProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the applicant pipeline on an {@link ApplicantDataset}: decoding rows
+ * with {@link ApplicantsProcessor#createValidApplicant}, adding the valid applicants to a new
+ * {@link ApplicantRepository}, the top applicant and top-half queries of
+ * {@link ApplicantService}, and {@code processApplicants} end to end from a stream and from a
+ * memory-mapped file.
+ * <p>
+ * Datasets vary by row count, share of rows repeating an earlier email and share of invalid rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PipelineBenchmark {
+    private static final long SEED = 20240209L;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"0.0", "0.25"})
+    public double duplicateRate;
+
+    @Param({"0.0", "0.1"})
+    public double invalidRate;
+
+    private List<String[]> parts;
+    private List<Applicant> applicants;
+    private byte[] csv;
+    private Path csvFile;
+    private ApplicantService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ApplicantDataset dataset = new ApplicantDataset(rows, duplicateRate, invalidRate, SEED);
+        parts = dataset.rows();
+        csv = dataset.csv();
+        csvFile = Files.createTempFile("applicants", ".csv");
+        Files.write(csvFile, csv);
+
+        ApplicantsProcessor processor = newProcessor();
+        applicants = new ArrayList<>(rows);
+        for (String[] row : parts) {
+            try {
+                applicants.add(processor.createValidApplicant(row));
+            } catch (IllegalArgumentException e) {
+                // Invalid rows never reach the repository
+            }
+        }
+        ApplicantRepository repository = new ApplicantRepository();
+        applicants.forEach(repository::addApplicant);
+        service = new ApplicantService(repository);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public long createValidApplicant() {
+        ApplicantsProcessor processor = newProcessor();
+        long scoreSum = 0;
+        for (String[] row : parts) {
+            try {
+                scoreSum += processor.createValidApplicant(row).scoreHundredths();
+            } catch (IllegalArgumentException e) {
+                // Invalid rows never reach the repository
+            }
+        }
+        return scoreSum;
+    }
+
+    @Benchmark
+    public ApplicantRepository addApplicant() {
+        ApplicantRepository repository = new ApplicantRepository();
+        for (Applicant applicant : applicants) {
+            repository.addApplicant(applicant);
+        }
+        return repository;
+    }
+
+    @Benchmark
+    public List<String> topApplicantsLastNames() {
+        return service.getTopApplicantsLastNames();
+    }
+
+    @Benchmark
+    public double averageScoreOfTopHalf() {
+        return service.getAverageScoreOfTopHalf();
+    }
+
+    @Benchmark
+    public String processApplicantsStream() {
+        return newProcessor().processApplicants(new ByteArrayInputStream(csv));
+    }
+
+    @Benchmark
+    public String processApplicantsMapped() {
+        return newProcessor().processApplicants(csvFile);
+    }
+
+    private static ApplicantsProcessor newProcessor() {
+        return new ApplicantsProcessor(new ApplicantService(new ApplicantRepository()));
+    }
+}
@@ -0,0 +1,120 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.service.ApplicantRanking;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.TopKSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares selecting the top K applicants with a full sort against the bounded heap of
+ * {@link TopKSelector}, both with the ranking order of {@link ApplicantService}, and the heap
+ * with a comparator against the heap with the packed keys of {@link ApplicantRanking}.
+ * {@code parallelPackedKeyHeap} ranks on a parallel stream with one heap per fork-join task,
+ * merged by {@link TopKSelector#collector}.
+ * <p>
+ * {@code service} measures {@link ApplicantService#getTopApplicantsLastNames(int)} end to end,
+ * including the candidate filter from the repository statistics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TopApplicantsBenchmark {
+    private static final long SEED = 20240203L;
+    private static final long FIRST_DELIVERY =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T00:00:00").epochSecond();
+
+    @Param({"1000000", "10000000"})
+    private int applicants;
+
+    @Param({"3", "50", "500"})
+    private int k;
+
+    private List<Applicant> data;
+    private Comparator<Applicant> ranking;
+    private ApplicantRanking packedRanking;
+    private ApplicantService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        ApplicantName name = new ApplicantName("First", null, "Last");
+        data = new ArrayList<>(applicants);
+        ApplicantRepository repository = new ApplicantRepository();
+        for (int i = 0; i < applicants; i++) {
+            Applicant applicant = Applicant.ofCompact(name, "user" + i + "@example.com",
+                    FIRST_DELIVERY + random.nextInt(3 * 86_400), random.nextInt(1001));
+            data.add(applicant);
+            repository.addApplicant(applicant);
+        }
+        service = new ApplicantService(repository);
+
+        ApplicantDeliveryDateTime earliest = service.findEarliestDeliveryDate();
+        ApplicantDeliveryDateTime latest = service.findLatestDeliveryDate();
+        ranking = Comparator.comparingInt((Applicant a) -> a.calculateAdjustedScoreHundredths(earliest, latest))
+                .reversed()
+                .thenComparing(Comparator.comparingInt(Applicant::scoreHundredths).reversed())
+                .thenComparingLong(Applicant::deliveryEpochSecond)
+                .thenComparing(Applicant::email);
+        packedRanking = new ApplicantRanking(earliest, latest);
+    }
+
+    @Benchmark
+    public List<Applicant> sortAndLimit() {
+        return data.stream()
+                .sorted(ranking)
+                .limit(k)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Applicant> boundedHeap() {
+        TopKSelector<Applicant> selector = new TopKSelector<>(k, ranking);
+        data.forEach(selector::offer);
+        return selector.toSortedList();
+    }
+
+    @Benchmark
+    public List<Applicant> packedKeyHeap() {
+        TopKSelector<Applicant> selector = new TopKSelector<>(k, packedRanking::primaryKey,
+                ApplicantRanking::secondaryKey, ApplicantRanking.BY_EMAIL);
+        data.forEach(selector::offer);
+        return selector.toSortedList();
+    }
+
+    @Benchmark
+    public List<Applicant> parallelPackedKeyHeap() {
+        return data.parallelStream()
+                .collect(TopKSelector.collector(() -> new TopKSelector<>(k, packedRanking::primaryKey,
+                        ApplicantRanking::secondaryKey, ApplicantRanking.BY_EMAIL)))
+                .toSortedList();
+    }
+
+    @Benchmark
+    public List<String> service() {
+        return service.getTopApplicantsLastNames(k);
+    }
+}
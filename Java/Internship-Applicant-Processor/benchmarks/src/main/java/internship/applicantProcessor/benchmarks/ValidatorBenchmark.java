@@ -0,0 +1,92 @@
+package internship.applicantProcessor.benchmarks;
+
+import internship.applicantProcessor.utils.ApplicantEntryValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each field check of {@link ApplicantEntryValidator} on the fields of an
+ * {@link ApplicantDataset}, with a share of invalid rows. Times are per field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ValidatorBenchmark.ROWS)
+public class ValidatorBenchmark {
+    static final int ROWS = 4_096;
+    private static final long SEED = 20240208L;
+
+    @Param({"0.0", "0.2"})
+    public double invalidRate;
+
+    private final String[] names = new String[ROWS];
+    private final String[] emails = new String[ROWS];
+    private final String[] deliveryDateTimes = new String[ROWS];
+    private final String[] scores = new String[ROWS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String[]> rows = new ApplicantDataset(ROWS, 0.0, invalidRate, SEED).rows();
+        for (int i = 0; i < ROWS; i++) {
+            String[] row = rows.get(i);
+            names[i] = row[0];
+            emails[i] = row[1];
+            deliveryDateTimes[i] = row[2];
+            // Rows with a missing field have no score to validate
+            scores[i] = row.length > 3 ? row[3] : "";
+        }
+    }
+
+    @Benchmark
+    public int isValidName() {
+        int valid = 0;
+        for (String name : names) {
+            valid += ApplicantEntryValidator.isValidName(name) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int isValidEmail() {
+        int valid = 0;
+        for (String email : emails) {
+            valid += ApplicantEntryValidator.isValidEmail(email) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int isValidDeliveryDateTime() {
+        int valid = 0;
+        for (String deliveryDateTime : deliveryDateTimes) {
+            valid += ApplicantEntryValidator.isValidDeliveryDateTime(deliveryDateTime) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int isValidScore() {
+        int valid = 0;
+        for (String score : scores) {
+            valid += ApplicantEntryValidator.isValidScore(score) ? 1 : 0;
+        }
+        return valid;
+    }
+}
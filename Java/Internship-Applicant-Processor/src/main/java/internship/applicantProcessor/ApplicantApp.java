@@ -1,42 +1,97 @@
 package internship.applicantProcessor;
 
+import internship.applicantProcessor.metrics.PipelineMetrics;
 import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.repository.ApplicantStore;
+import internship.applicantProcessor.repository.ColumnarApplicantRepository;
+import internship.applicantProcessor.repository.ConcurrentApplicantRepository;
+import internship.applicantProcessor.repository.OffHeapApplicantRepository;
+import internship.applicantProcessor.server.ApplicantQueryServer;
 import internship.applicantProcessor.service.ApplicantService;
 import internship.applicantProcessor.service.ApplicantsProcessor;
+import internship.applicantProcessor.service.OutputOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Main application class for processing internship applicant data.
  * <p>
  * This class serves as the entry point for the application and coordinates:
  * <ul>
- *   <li>Input file handling</li>
+ *   <li>Input file handling: standard input, file system paths, then classpath resources,
+ *       gzip-compressed or not</li>
  *   <li>Dependency initialization</li>
- *   <li>Processing pipeline execution</li>
+ *   <li>Processing pipeline execution, once or behind a query server</li>
  *   <li>Error handling and logging</li>
  * </ul>
  *
- * Expected usage: {@code java ApplicantApp [inputFileName]}
+ * Expected usage: {@code java ApplicantApp [--ingest=stream|mapped|parallel] [--threads=N] [--rejections] [--memory] [--percentiles] [--store=map|columnar|off-heap|concurrent] [--metrics] [--serve=PORT] [--batch [--output-dir=DIR] [--concurrency=N]] [inputFileName|-]}
+ *
+ * @see CommandLineOptions
  */
 public class ApplicantApp {
     private static final Logger logger = LoggerFactory.getLogger(ApplicantApp.class);
     private static final String DEFAULT_FILE_NAME = "input.csv";
 
+    private OutputOptions outputOptions = OutputOptions.DEFAULT;
+    private CommandLineOptions.StoreMode storeMode = CommandLineOptions.StoreMode.MAP;
+    private PipelineMetrics metrics = PipelineMetrics.DISABLED;
+
     /**
      * Main application execution method.
      * <p>
      * Processes command line arguments and initiates the applicant processing pipeline.
      *
-     * @param args Command line arguments (optional input file name)
+     * @param args Command line arguments (optional input file name and options)
      */
     public void run(String[] args) {
         // Determine input source with fallback to default
-        String fileName = determineInputFile(args);
+        CommandLineOptions options;
+        try {
+            options = CommandLineOptions.parse(args, DEFAULT_FILE_NAME);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid arguments: {}", e.getMessage());
+            return;
+        }
+        String fileName = options.inputFile();
+        outputOptions = options.outputOptions();
+        storeMode = options.storeMode();
         // logger.debug("Using input file: {}", fileName);
+        if (options.metrics()) {
+            metrics = new PipelineMetrics();
+            metrics.register();
+        }
 
+        if (options.serve()) {
+            runServer(options);
+        } else if (options.batch()) {
+            runBatch(options);
+        } else if (options.ingestMode() != CommandLineOptions.IngestMode.STREAM && isMappable(fileName)) {
+            runMapped(options);
+        } else {
+            runStream(fileName);
+        }
+
+        if (metrics.isEnabled()) {
+            logger.info("Pipeline metrics: {}", metrics);
+        }
+    }
+
+    /**
+     * Runs the pipeline on an input parsed by OpenCSV.
+     * @param fileName Name of the input, resolved by {@link #loadInputFile}
+     */
+    private void runStream(String fileName) {
         try (InputStream csvStream = loadInputFile(fileName)) {
             if (csvStream == null) {
                 handleFileNotFound(fileName);
@@ -50,21 +105,130 @@ public class ApplicantApp {
     }
 
     /**
-     * Determines the input file name from arguments or uses default.
-     * @param args Command line arguments
-     * @return Valid file name to process
+     * Runs the pipeline on a file system path using a memory-mapped ingest mode.
+     * @param options Parsed options naming the file, the ingest mode and the thread count
+     */
+    private void runMapped(CommandLineOptions options) {
+        String fileName = options.inputFile();
+        try {
+            Path csvFile = Path.of(fileName);
+            if (!Files.isRegularFile(csvFile)) {
+                logger.error("Input file not found: {}", csvFile.toAbsolutePath());
+                return;
+            }
+
+            if (options.ingestMode() == CommandLineOptions.IngestMode.PARALLEL) {
+                processApplicantsInParallel(csvFile, options.threads());
+            } else {
+                processApplicants(csvFile);
+            }
+        } catch (Exception e) {
+            logger.error("Application processing failed for file: {}", fileName, e);
+        }
+    }
+
+    /**
+     * Returns whether the input can be memory-mapped; other inputs are read as a stream.
+     * @param fileName Name of the input
+     */
+    private boolean isMappable(String fileName) {
+        try {
+            return InputSources.isMappable(fileName);
+        } catch (IOException e) {
+            // Left to the stream path to report
+            return false;
+        }
+    }
+
+    /**
+     * Loads the input and starts answering queries over HTTP until the JVM exits.
+     * @param options Parsed options naming the file, the ingest mode and the port
+     */
+    private void runServer(CommandLineOptions options) {
+        try {
+            ApplicantQueryServer server = new ApplicantQueryServer(
+                    new InetSocketAddress(options.serverPort()), () -> loadService(options));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            logger.info("Serving {} on port {}", options.inputFile(), server.port());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Could not serve file: {}", options.inputFile(), e);
+        }
+    }
+
+    /**
+     * Runs one pipeline per file matched by the input directory or glob, writes their results
+     * and a summary to the output directory, and prints the summary.
+     * @param options Parsed options naming the directory or glob, the ingest mode and the limits
      */
-    private String determineInputFile(String[] args) {
-        return args.length > 0 && args[0] != null && !args[0].isBlank() ? args[0] : DEFAULT_FILE_NAME;
+    private void runBatch(CommandLineOptions options) {
+        try {
+            BatchRunner.Inputs inputs = BatchRunner.resolve(options.inputFile());
+            if (inputs.files().isEmpty()) {
+                logger.error("No input files match: {}", options.inputFile());
+                return;
+            }
+            Path outputDirectory = Path.of(options.outputDirectory());
+            BatchRunner.Summary summary = new BatchRunner(this::createService, metrics, options.ingestMode(),
+                    options.threads(), options.concurrency()).run(inputs, outputDirectory);
+            String json = summary.toJson();
+            Files.writeString(outputDirectory.resolve(BatchRunner.SUMMARY_FILE), json, StandardCharsets.UTF_8);
+            System.out.println(json);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Batch processing failed for: {}", options.inputFile(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Batch processing interrupted for: {}", options.inputFile());
+        }
     }
 
     /**
-     * Attempts to load the input file from classpath resources.
+     * Runs the pipeline on the input with the given ingest mode and returns the loaded service.
+     * @param options Parsed options naming the file, the ingest mode and the thread count
+     * @return Service over the loaded applicants
+     * @throws IOException if the input cannot be found, read or parsed, so that a reload never
+     *         replaces the dataset with part of one
+     */
+    private ApplicantService loadService(CommandLineOptions options) throws IOException {
+        String fileName = options.inputFile();
+        ApplicantService service = createService();
+        ApplicantsProcessor processor = new ApplicantsProcessor(service, metrics);
+        if (options.ingestMode() == CommandLineOptions.IngestMode.STREAM || !InputSources.isMappable(fileName)) {
+            try (InputStream csvStream = loadInputFile(fileName)) {
+                if (csvStream == null) {
+                    throw new FileNotFoundException("Input file not found: " + fileName);
+                }
+                processor.ingestApplicants(csvStream);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return service;
+        }
+
+        Path csvFile = Path.of(fileName);
+        if (options.ingestMode() == CommandLineOptions.IngestMode.PARALLEL) {
+            try (ForkJoinPool pool = new ForkJoinPool(options.threads())) {
+                processor.ingestApplicantsInParallel(csvFile, pool);
+            }
+        } else {
+            processor.ingestApplicants(csvFile);
+        }
+        return service;
+    }
+
+    /**
+     * Opens the input file: standard input for {@code -}, else the file system path, else the
+     * classpath resource of that name, decompressing it if it is gzip-compressed.
      * @param fileName Name of the file to load
      * @return Input stream for the file, or null if not found
+     * @throws UncheckedIOException if the file exists but cannot be opened
      */
     public InputStream loadInputFile(String fileName) {
-        return getClass().getClassLoader().getResourceAsStream(fileName);
+        try {
+            return InputSources.open(fileName, getClass().getClassLoader());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open input file: " + fileName, e);
+        }
     }
 
     /**
@@ -72,8 +236,9 @@ public class ApplicantApp {
      * @param fileName Name of the missing file
      */
     private void handleFileNotFound(String fileName) {
-        logger.error("Input file not found in classpath: {}", fileName);
+        logger.error("Input file not found: {}", fileName);
         logger.info("Please ensure the file exists in one of these locations:");
+        logger.info("- {}", Path.of(fileName).toAbsolutePath());
         logger.info("- src/main/resources/{}", fileName);
         logger.info("- The root of your JAR file");
     }
@@ -83,12 +248,43 @@ public class ApplicantApp {
      * @param csvStream Input stream containing CSV data
      */
     public void processApplicants(InputStream csvStream) {
-        ApplicantRepository repository = new ApplicantRepository();
-        ApplicantService service = new ApplicantService(repository);
-        ApplicantsProcessor processor = new ApplicantsProcessor(service);
-
-        String result = processor.processApplicants(csvStream);
+        String result = createProcessor().processApplicants(csvStream);
         // logger.info("Processing completed successfully. Results:\n{}", result);
         System.out.println(result);
     }
+
+    /**
+     * Initializes and executes the applicant processing pipeline on a memory-mapped file.
+     * @param csvFile Path of the CSV file
+     */
+    public void processApplicants(Path csvFile) {
+        String result = createProcessor().processApplicants(csvFile);
+        System.out.println(result);
+    }
+
+    /**
+     * Initializes and executes the applicant processing pipeline, parsing the file in parallel.
+     * @param csvFile Path of the CSV file
+     * @param threads Number of parser threads
+     */
+    public void processApplicantsInParallel(Path csvFile, int threads) {
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            String result = createProcessor().processApplicantsInParallel(csvFile, pool);
+            System.out.println(result);
+        }
+    }
+
+    private ApplicantsProcessor createProcessor() {
+        return new ApplicantsProcessor(createService(), metrics);
+    }
+
+    private ApplicantService createService() {
+        ApplicantStore repository = switch (storeMode) {
+            case MAP -> new ApplicantRepository();
+            case COLUMNAR -> new ColumnarApplicantRepository();
+            case OFF_HEAP -> new OffHeapApplicantRepository();
+            case CONCURRENT -> new ConcurrentApplicantRepository();
+        };
+        return new ApplicantService(repository, outputOptions, metrics);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,295 @@
+package internship.applicantProcessor;
+
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.ApplicantsProcessor;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs one independent pipeline per input file, for processing many files in one JVM.
+ * <p>
+ * Each file gets its own service and processor, on its own virtual thread; a semaphore
+ * bounds how many files are read at once. In parallel ingest mode the files share one
+ * fork-join pool, and gzip-compressed files are streamed and decompressed whatever the
+ * mode. The output of each file is written as JSON under the output directory, at the
+ * file's path relative to the input directory with a {@code .json} extension, and the
+ * run is summarized with the size, time and throughput of every file.
+ */
+final class BatchRunner {
+    private static final Logger logger = LoggerFactory.getLogger(BatchRunner.class);
+    /** Name of the summary written next to the per-file results. */
+    static final String SUMMARY_FILE = "summary.json";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final double BYTES_PER_MEGABYTE = 1 << 20;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Supplier<ApplicantService> services;
+    private final PipelineMetrics metrics;
+    private final CommandLineOptions.IngestMode ingestMode;
+    private final int threads;
+    private final int concurrency;
+
+    /**
+     * Files matched by a directory or glob.
+     * @param base Directory the output paths are relative to
+     * @param files Matched files, sorted
+     */
+    record Inputs(@NotNull Path base, @NotNull List<Path> files) {
+    }
+
+    /**
+     * Outcome of one file.
+     * @param input Input file
+     * @param output Result file, or {@code null} if the file failed
+     * @param bytes Size of the input
+     * @param nanos Time from opening the input to writing the result
+     * @param uniqueApplicants Unique applicants found
+     * @param error Why the file failed, or {@code null}
+     */
+    record FileResult(@NotNull Path input, @Nullable Path output, long bytes, long nanos, int uniqueApplicants,
+                      @Nullable String error) {
+        double megabytesPerSecond() {
+            return throughput(bytes, nanos);
+        }
+    }
+
+    /**
+     * Outcome of a batch.
+     * @param files Outcome per file, in input order
+     * @param nanos Wall time of the whole batch
+     */
+    record Summary(@NotNull List<FileResult> files, long nanos) {
+        long totalBytes() {
+            return files.stream().mapToLong(FileResult::bytes).sum();
+        }
+
+        long failures() {
+            return files.stream().filter(file -> file.error() != null).count();
+        }
+
+        @NotNull String toJson() {
+            JsonArray results = new JsonArray();
+            for (FileResult file : files) {
+                JsonObject result = new JsonObject();
+                result.addProperty("input", file.input().toString());
+                if (file.error() != null) {
+                    result.addProperty("error", file.error());
+                } else {
+                    result.addProperty("output", String.valueOf(file.output()));
+                    result.addProperty("bytes", file.bytes());
+                    result.addProperty("millis", file.nanos() / 1_000_000);
+                    result.addProperty("megabytesPerSecond", round(file.megabytesPerSecond()));
+                    result.addProperty("uniqueApplicants", file.uniqueApplicants());
+                }
+                results.add(result);
+            }
+            JsonObject summary = new JsonObject();
+            summary.add("files", results);
+            summary.addProperty("failures", failures());
+            summary.addProperty("totalBytes", totalBytes());
+            summary.addProperty("elapsedMillis", nanos / 1_000_000);
+            summary.addProperty("megabytesPerSecond", round(throughput(totalBytes(), nanos)));
+            return GSON.toJson(summary);
+        }
+    }
+
+    /**
+     * Creates a runner.
+     * @param services Creates the service of each file
+     * @param metrics Metrics shared by the pipelines
+     * @param ingestMode How each file is read
+     * @param threads Fork-join threads shared by the files in parallel ingest mode
+     * @param concurrency Most files read at once
+     */
+    BatchRunner(@NotNull Supplier<ApplicantService> services, @NotNull PipelineMetrics metrics,
+                @NotNull CommandLineOptions.IngestMode ingestMode, int threads, int concurrency) {
+        this.services = Objects.requireNonNull(services, "Service factory cannot be null");
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+        this.ingestMode = Objects.requireNonNull(ingestMode, "Ingest mode cannot be null");
+        if (threads < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Thread count and concurrency must be positive");
+        }
+        this.threads = threads;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Finds the input files named by a directory, every {@code .csv} or {@code .csv.gz} file
+     * directly in it, or by a glob such as {@code intake/**}{@code /*.csv}, matched against
+     * paths below the part of the glob before its first wildcard.
+     * @param directoryOrGlob Directory or glob
+     * @return The base directory and the matched files, sorted
+     * @throws IOException if the directory cannot be listed
+     */
+    static @NotNull Inputs resolve(@NotNull String directoryOrGlob) throws IOException {
+        Objects.requireNonNull(directoryOrGlob, "Directory or glob cannot be null");
+        int wildcard = firstGlobCharacter(directoryOrGlob);
+        if (wildcard < 0) {
+            Path directory = Path.of(directoryOrGlob);
+            if (!Files.isDirectory(directory)) {
+                throw new NoSuchFileException(directory.toAbsolutePath().toString(), null, "Not a directory");
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                return new Inputs(directory, files
+                        .filter(file -> Files.isRegularFile(file) && isCsvName(file.getFileName().toString()))
+                        .sorted()
+                        .toList());
+            }
+        }
+
+        int separator = Math.max(directoryOrGlob.lastIndexOf('/', wildcard), directoryOrGlob.lastIndexOf('\\', wildcard));
+        // A glob in the root directory keeps the root as its base
+        Path base = Path.of(separator < 0 ? "" : directoryOrGlob.substring(0, Math.max(separator, 1)));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + directoryOrGlob);
+        if (!Files.isDirectory(base.toString().isEmpty() ? Path.of(".") : base)) {
+            return new Inputs(base, List.of());
+        }
+        try (Stream<Path> files = Files.walk(base)) {
+            return new Inputs(base, files.filter(file -> Files.isRegularFile(file) && matcher.matches(file))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    /**
+     * Processes every input and writes its result under the output directory. An input whose
+     * result would overwrite that of an earlier input is reported as failed instead.
+     * @param inputs Files to process and their base directory
+     * @param outputDirectory Directory receiving the results; created if missing
+     * @return Outcome of every file; failed files are reported, not thrown
+     * @throws IOException if the output directory cannot be created
+     * @throws InterruptedException if interrupted while waiting for the files
+     */
+    @NotNull Summary run(@NotNull Inputs inputs, @NotNull Path outputDirectory) throws IOException, InterruptedException {
+        Files.createDirectories(outputDirectory);
+        Semaphore permits = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        List<FileResult> results = new ArrayList<>(inputs.files().size());
+        try (ForkJoinPool pool = ingestMode == CommandLineOptions.IngestMode.PARALLEL ? new ForkJoinPool(threads) : null;
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<FileResult>> futures = new ArrayList<>(inputs.files().size());
+            Map<Path, Path> inputsByOutput = new HashMap<>();
+            for (Path input : inputs.files()) {
+                Path output = outputDirectory.resolve(outputName(inputs.base().relativize(input)));
+                Path earlier = inputsByOutput.putIfAbsent(output, input);
+                if (earlier != null) {
+                    logger.error("Batch output {} of {} was already written for {}", output, input, earlier);
+                    futures.add(CompletableFuture.completedFuture(new FileResult(input, null, 0, 0, 0,
+                            "Output " + output + " collides with the output of " + earlier)));
+                    continue;
+                }
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return process(input, output, pool);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<FileResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            // process reports failures as results, so only errors end up here
+            throw new IllegalStateException("Batch failed", e.getCause());
+        }
+        return new Summary(results, System.nanoTime() - start);
+    }
+
+    private FileResult process(Path input, Path output, @Nullable ForkJoinPool pool) {
+        long start = System.nanoTime();
+        long bytes = 0;
+        try {
+            bytes = Files.size(input);
+            ApplicantService service = services.get();
+            ApplicantsProcessor processor = new ApplicantsProcessor(service, metrics);
+            CommandLineOptions.IngestMode mode = InputSources.isMappable(input.toString())
+                    ? ingestMode : CommandLineOptions.IngestMode.STREAM;
+            String json = switch (mode) {
+                case STREAM -> {
+                    try (InputStream csvStream = InputSources.decompressIfGzip(Files.newInputStream(input))) {
+                        yield processor.processApplicants(csvStream);
+                    }
+                }
+                case MAPPED -> processor.processApplicants(input);
+                case PARALLEL -> processor.processApplicantsInParallel(input, Objects.requireNonNull(pool));
+            };
+            Path parent = output.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(output, json, StandardCharsets.UTF_8);
+            return new FileResult(input, output, bytes, System.nanoTime() - start, service.getUniqueApplicantCount(), null);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Batch processing failed for file: {}", input, e);
+            return new FileResult(input, null, bytes, System.nanoTime() - start, 0, e.toString());
+        }
+    }
+
+    /**
+     * Returns the relative path of the result of an input: its {@code .csv} extension replaced
+     * by {@code .json}, or {@code .json} appended, so that {@code a.csv.gz} and {@code a.csv}
+     * get different results.
+     */
+    static @NotNull Path outputName(@NotNull Path relativeInput) {
+        String name = relativeInput.getFileName().toString();
+        String stem = name.endsWith(CSV_EXTENSION) ? name.substring(0, name.length() - CSV_EXTENSION.length()) : name;
+        return relativeInput.resolveSibling(stem + JSON_EXTENSION);
+    }
+
+    private static boolean isCsvName(String name) {
+        return name.endsWith(CSV_EXTENSION) || name.endsWith(CSV_EXTENSION + GZIP_EXTENSION);
+    }
+
+    private static int firstGlobCharacter(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static double throughput(long bytes, long nanos) {
+        return nanos == 0 ? 0 : bytes / BYTES_PER_MEGABYTE / (nanos / NANOS_PER_SECOND);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,212 @@
+package internship.applicantProcessor;
+
+import internship.applicantProcessor.service.OutputOptions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable record of the command-line options accepted by {@link ApplicantApp}.
+ * <p>
+ * Arguments starting with {@code --} are options; the first other non-blank argument
+ * names the input file: {@code -} for standard input, a file system path, or a classpath
+ * resource, gzip-compressed or not. Further positional arguments are ignored.
+ * <ul>
+ *   <li>{@code --ingest=stream} (default): reads the input through OpenCSV</li>
+ *   <li>{@code --ingest=mapped}: reads the input as a file system path by memory-mapping it, or
+ *       as a stream if it is not an uncompressed file</li>
+ *   <li>{@code --ingest=parallel}: like {@code mapped}, parsing line-aligned ranges in parallel</li>
+ *   <li>{@code --threads=N}: number of worker threads (defaults to the available processors)</li>
+ *   <li>{@code --rejections}: adds the number of rejected rows per reason to the output</li>
+ *   <li>{@code --store=map} (default): keeps applicants in a hash map of objects</li>
+ *   <li>{@code --store=columnar}: keeps applicants in primitive columns with a byte arena</li>
+ *   <li>{@code --store=off-heap}: keeps applicants in direct buffers outside the Java heap</li>
+ *   <li>{@code --store=concurrent}: keeps applicants in a thread-safe map ordered by line sequence</li>
+ *   <li>{@code --memory}: adds the heap and off-heap bytes in use to the output</li>
+ *   <li>{@code --percentiles}: adds score percentiles to the output</li>
+ *   <li>{@code --metrics}: counts rows and times each pipeline stage, published as a platform MBean</li>
+ *   <li>{@code --serve=PORT}: loads the input once and answers queries over HTTP on the port
+ *       (0 picks a free one) instead of printing the output</li>
+ *   <li>{@code --batch}: the input names a directory or glob of CSV files, each processed by its
+ *       own pipeline with its result written under {@code --output-dir=DIR} (default
+ *       {@value #DEFAULT_OUTPUT_DIRECTORY}), at most {@code --concurrency=N} files at once
+ *       (defaults to the available processors)</li>
+ * </ul>
+ */
+record CommandLineOptions(@NotNull String inputFile, @NotNull IngestMode ingestMode, int threads,
+                          @NotNull OutputOptions outputOptions, @NotNull StoreMode storeMode, boolean metrics,
+                          int serverPort, boolean batch, @NotNull String outputDirectory, int concurrency) {
+    /** Server port of options without {@code --serve}. */
+    static final int NO_SERVER = -1;
+    /** Directory receiving batch results when {@code --output-dir} is not given. */
+    static final String DEFAULT_OUTPUT_DIRECTORY = "batch-output";
+
+    private static final String INGEST_OPTION = "--ingest=";
+    private static final String THREADS_OPTION = "--threads=";
+    private static final String REJECTIONS_OPTION = "--rejections";
+    private static final String STORE_OPTION = "--store=";
+    private static final String MEMORY_OPTION = "--memory";
+    private static final String PERCENTILES_OPTION = "--percentiles";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String SERVE_OPTION = "--serve=";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String OUTPUT_DIRECTORY_OPTION = "--output-dir=";
+    private static final String CONCURRENCY_OPTION = "--concurrency=";
+    private static final int MAX_PORT = 0xFFFF;
+
+    /**
+     * Strategy used to read the input file.
+     */
+    enum IngestMode {
+        /** Standard input, file or classpath resource, decoded and parsed by OpenCSV. */
+        STREAM,
+        /** File system path, memory-mapped and tokenized in place. */
+        MAPPED,
+        /** File system path, memory-mapped and tokenized in parallel ranges. */
+        PARALLEL
+    }
+
+    /**
+     * Layout used to hold the applicants in memory.
+     */
+    enum StoreMode {
+        /** One {@code Applicant} object per email in a hash map. */
+        MAP,
+        /** Primitive columns and a shared byte arena for emails and names. */
+        COLUMNAR,
+        /** Fixed-size records and byte arena in direct buffers outside the heap. */
+        OFF_HEAP,
+        /** Thread-safe map in which the applicant with the highest line sequence wins. */
+        CONCURRENT
+    }
+
+    CommandLineOptions {
+        Objects.requireNonNull(inputFile, "Input file cannot be null");
+        Objects.requireNonNull(ingestMode, "Ingest mode cannot be null");
+        Objects.requireNonNull(outputOptions, "Output options cannot be null");
+        Objects.requireNonNull(storeMode, "Store mode cannot be null");
+        Objects.requireNonNull(outputDirectory, "Output directory cannot be null");
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+        }
+        if (batch && serverPort != NO_SERVER) {
+            throw new IllegalArgumentException("Batch and server modes cannot be combined");
+        }
+        if (serverPort != NO_SERVER && inputFile.equals(InputSources.STANDARD_INPUT)) {
+            throw new IllegalArgumentException("Server mode cannot reload standard input");
+        }
+        if (serverPort != NO_SERVER && (serverPort < 0 || serverPort > MAX_PORT)) {
+            throw new IllegalArgumentException("Port must be between 0 and " + MAX_PORT + ": " + serverPort);
+        }
+    }
+
+    /**
+     * Returns whether the input is served over HTTP rather than printed once.
+     */
+    boolean serve() {
+        return serverPort != NO_SERVER;
+    }
+
+    /**
+     * Parses command-line arguments.
+     * @param args Command line arguments
+     * @param defaultFile File name used when no input file is given
+     * @return Parsed options
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    static @NotNull CommandLineOptions parse(@NotNull String[] args, @NotNull String defaultFile) {
+        String inputFile = null;
+        IngestMode ingestMode = IngestMode.STREAM;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean includeRejections = false;
+        boolean includeMemoryUsage = false;
+        boolean includeScorePercentiles = false;
+        StoreMode storeMode = StoreMode.MAP;
+        boolean metrics = false;
+        int serverPort = NO_SERVER;
+        boolean batch = false;
+        String outputDirectory = DEFAULT_OUTPUT_DIRECTORY;
+        int concurrency = Runtime.getRuntime().availableProcessors();
+
+        for (String arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            if (arg.startsWith(INGEST_OPTION)) {
+                ingestMode = parseIngestMode(arg.substring(INGEST_OPTION.length()));
+            } else if (arg.startsWith(THREADS_OPTION)) {
+                threads = parseCount("thread count", arg.substring(THREADS_OPTION.length()));
+            } else if (arg.startsWith(SERVE_OPTION)) {
+                serverPort = parsePort(arg.substring(SERVE_OPTION.length()));
+            } else if (arg.startsWith(OUTPUT_DIRECTORY_OPTION)) {
+                outputDirectory = arg.substring(OUTPUT_DIRECTORY_OPTION.length());
+                if (outputDirectory.isBlank()) {
+                    throw new IllegalArgumentException("Output directory cannot be blank");
+                }
+            } else if (arg.startsWith(CONCURRENCY_OPTION)) {
+                concurrency = parseCount("concurrency", arg.substring(CONCURRENCY_OPTION.length()));
+            } else if (arg.equals(BATCH_OPTION)) {
+                batch = true;
+            } else if (arg.startsWith(STORE_OPTION)) {
+                storeMode = parseStoreMode(arg.substring(STORE_OPTION.length()));
+            } else if (arg.equals(REJECTIONS_OPTION)) {
+                includeRejections = true;
+            } else if (arg.equals(MEMORY_OPTION)) {
+                includeMemoryUsage = true;
+            } else if (arg.equals(PERCENTILES_OPTION)) {
+                includeScorePercentiles = true;
+            } else if (arg.equals(METRICS_OPTION)) {
+                metrics = true;
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            } else if (inputFile == null) {
+                // A blank first argument still selects the default file
+                inputFile = arg.isBlank() ? defaultFile : arg;
+            }
+        }
+
+        return new CommandLineOptions(inputFile != null ? inputFile : defaultFile, ingestMode, threads,
+                new OutputOptions(includeRejections, includeMemoryUsage, includeScorePercentiles), storeMode, metrics,
+                serverPort, batch, outputDirectory, concurrency);
+    }
+
+    private static IngestMode parseIngestMode(String value) {
+        try {
+            return IngestMode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown ingest mode: " + value, e);
+        }
+    }
+
+    private static StoreMode parseStoreMode(String value) {
+        try {
+            return StoreMode.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown store: " + value, e);
+        }
+    }
+
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value);
+            if (port < 0 || port > MAX_PORT) {
+                throw new IllegalArgumentException("Port must be between 0 and " + MAX_PORT + ": " + value);
+            }
+            return port;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid port: " + value, e);
+        }
+    }
+
+    private static int parseCount(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package internship.applicantProcessor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens the input named on the command line.
+ * <p>
+ * A name is resolved, in order, as {@value #STANDARD_INPUT} for standard input, as a file
+ * system path, and finally as a classpath resource. Whatever the source, gzip content is
+ * recognized by its magic bytes rather than its extension and decompressed on the fly.
+ */
+final class InputSources {
+    /** Input name selecting standard input. */
+    static final String STANDARD_INPUT = "-";
+    /** Buffer size of the decompressor and of the stream it reads from. */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    private InputSources() {
+    }
+
+    /**
+     * Opens an input by name.
+     * @param name {@value #STANDARD_INPUT}, a file system path, or a classpath resource name
+     * @param classLoader Loader the resource is looked up in when no file has the name
+     * @return The decompressed input, or {@code null} if nothing has the name; closing a
+     *         standard input stream leaves {@link System#in} open
+     * @throws IOException if the input exists but cannot be opened
+     */
+    static @Nullable InputStream open(@NotNull String name, @NotNull ClassLoader classLoader) throws IOException {
+        Objects.requireNonNull(name, "Input name cannot be null");
+        Objects.requireNonNull(classLoader, "Class loader cannot be null");
+        if (name.equals(STANDARD_INPUT)) {
+            return decompressIfGzip(new UnclosedInputStream(System.in));
+        }
+        Path file = asFile(name);
+        if (file != null) {
+            return decompressIfGzip(Files.newInputStream(file));
+        }
+        InputStream resource = classLoader.getResourceAsStream(name);
+        return resource == null ? null : decompressIfGzip(resource);
+    }
+
+    /**
+     * Returns whether an input can be memory-mapped: a regular file that is not gzip-compressed.
+     * @param name Input name
+     * @throws IOException if the file cannot be read
+     */
+    static boolean isMappable(@NotNull String name) throws IOException {
+        Path file = asFile(name);
+        if (file == null) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return !isGzip(in.readNBytes(2));
+        }
+    }
+
+    /**
+     * Buffers a stream and, if it starts with the gzip magic bytes, decompresses it.
+     * @param in Raw stream, closed with the returned one
+     * @return The buffered, and if needed decompressed, stream
+     * @throws IOException if the stream cannot be read
+     */
+    static @NotNull InputStream decompressIfGzip(@NotNull InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(2);
+        byte[] magic = buffered.readNBytes(2);
+        buffered.reset();
+        return isGzip(magic) ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+    }
+
+    private static boolean isGzip(byte[] magic) {
+        return magic.length == 2 && (magic[0] & 0xff) == GZIP_MAGIC_FIRST && (magic[1] & 0xff) == GZIP_MAGIC_SECOND;
+    }
+
+    private static @Nullable Path asFile(String name) {
+        if (name.equals(STANDARD_INPUT)) {
+            return null;
+        }
+        try {
+            Path file = Path.of(name);
+            return Files.isRegularFile(file) ? file : null;
+        } catch (InvalidPathException e) {
+            // Resource names need not be valid paths on every platform
+            return null;
+        }
+    }
+
+    /**
+     * Stream whose {@code close} leaves the underlying stream open, for standard input.
+     */
+    private static final class UnclosedInputStream extends FilterInputStream {
+        UnclosedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // Standard input belongs to the JVM
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decodes tokenized {@link CsvRecord}s into applicant rows.
+ * <p>
+ * Applies the same rules as {@code ApplicantsProcessor} does for OpenCSV rows, but validates
+ * the fields directly on their bytes with an {@link ApplicantRowDecoder}. Strings are only
+ * decoded for records that pass validation.
+ * <p>
+ * Not thread-safe: the field views are reused across records.
+ */
+public final class ApplicantRecordParser {
+    private static final int FIELD_COUNT = 4;
+
+    private final ByteSpan name = new ByteSpan();
+    private final ByteSpan email = new ByteSpan();
+    private final ByteSpan deliveryDateTime = new ByteSpan();
+    private final ByteSpan score = new ByteSpan();
+    private final ApplicantRowDecoder decoder = new ApplicantRowDecoder();
+
+    /**
+     * Decodes a record.
+     * @param record Tokenized CSV record
+     * @return The decoded row, valid or carrying its rejection reason, until the next call;
+     *         {@code null} if the record is blank or has a blank name and is skipped
+     */
+    public @Nullable DecodedApplicantRow parse(@NotNull CsvRecord record) {
+        // Blank lines and rows without a name are skipped, not rejected
+        if (record.field(0, name).trim().isEmpty()) {
+            return null;
+        }
+        if (record.fieldCount() != FIELD_COUNT) {
+            return decoder.reject(RejectionReason.WRONG_FIELD_COUNT);
+        }
+
+        return decoder.decode(name,
+                record.field(1, email),
+                record.field(2, deliveryDateTime),
+                record.field(3, score));
+    }
+}
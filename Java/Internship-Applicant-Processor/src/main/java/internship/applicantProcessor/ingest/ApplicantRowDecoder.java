@@ -0,0 +1,182 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.utils.ApplicantEntryValidator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Validates and decodes the four fields of an applicant row in a single scan per field.
+ * <p>
+ * Applies the rules of {@link ApplicantEntryValidator} to the trimmed fields while extracting
+ * their values: name part boundaries, email bounds, date-time components and the score in
+ * hundredths. Invalid rows are reported through {@link DecodedApplicantRow#rejectionReason()}
+ * rather than exceptions, so rejecting a row costs no stack trace or message.
+ * <p>
+ * The delivery date-time is decoded by {@link ApplicantDeliveryDateTime#decodeEpochSecond}, which
+ * checks calendar validity (e.g. February 30) by hand, so a row that passes the format rules but
+ * names a non-existent date is simply invalid.
+ * <p>
+ * Not thread-safe: the decoder returns the same {@link DecodedApplicantRow} for every row.
+ */
+public final class ApplicantRowDecoder {
+    private final DecodedApplicantRow row = new DecodedApplicantRow();
+    private final ByteScanner scanner = ByteScanners.create();
+
+    /**
+     * Decodes one row. Characters up to U+0020 around each field are ignored,
+     * as {@link String#trim()} would.
+     * @param name Full name field
+     * @param email Email field
+     * @param deliveryDateTime Delivery date-time field
+     * @param score Score field
+     * @return The decoder's reusable result, valid until the next call
+     */
+    public @NotNull DecodedApplicantRow decode(@NotNull CharSequence name,
+                                               @NotNull CharSequence email,
+                                               @NotNull CharSequence deliveryDateTime,
+                                               @NotNull CharSequence score) {
+        row.reset();
+        if (!decodeName(name)) {
+            return row.reject(RejectionReason.BAD_NAME);
+        }
+        if (!decodeEmail(email)) {
+            return row.reject(RejectionReason.BAD_EMAIL);
+        }
+        if (!decodeDeliveryDateTime(deliveryDateTime)) {
+            return row.reject(RejectionReason.BAD_DATETIME);
+        }
+        if (!decodeScore(score)) {
+            return row.reject(RejectionReason.BAD_SCORE);
+        }
+        return row;
+    }
+
+    /**
+     * Reports a row that is rejected before its fields are decoded, such as a row with
+     * the wrong number of fields.
+     * @param reason Reason of the rejection
+     * @return The decoder's reusable result, valid until the next call
+     */
+    public @NotNull DecodedApplicantRow reject(@NotNull RejectionReason reason) {
+        row.reset();
+        return row.reject(Objects.requireNonNull(reason, "Reason cannot be null"));
+    }
+
+    /**
+     * Splits the trimmed name on whitespace runs; at least a first and a last name are required.
+     */
+    private boolean decodeName(CharSequence name) {
+        int end = trimmedEnd(name);
+        int partStart = -1;
+        for (int i = trimmedStart(name, end); i < end; i++) {
+            if (isWhitespace(name.charAt(i))) {
+                if (partStart >= 0) {
+                    row.addNamePart(partStart, i);
+                    partStart = -1;
+                }
+            } else if (partStart < 0) {
+                partStart = i;
+            }
+        }
+        if (partStart >= 0) {
+            row.addNamePart(partStart, end);
+        }
+
+        row.setName(name);
+        return row.namePartCount() >= 2;
+    }
+
+    private boolean decodeEmail(CharSequence email) {
+        int end = trimmedEnd(email);
+        int start = trimmedStart(email, end);
+        row.setEmail(email, start, end);
+        // Emails are ASCII-only; reject raw bytes with the high bit set a vector at a time
+        if (email instanceof ByteSpan span && !span.isAscii(start, end, scanner)) {
+            return false;
+        }
+        return ApplicantEntryValidator.isValidEmail(email, start, end);
+    }
+
+    /**
+     * Reads {@code yyyy-MM-ddTHH:mm:ss} and checks it against the calendar.
+     */
+    private boolean decodeDeliveryDateTime(CharSequence deliveryDateTime) {
+        int end = trimmedEnd(deliveryDateTime);
+        int start = trimmedStart(deliveryDateTime, end);
+        if (end - start != ApplicantDeliveryDateTime.TEXT_LENGTH) {
+            return false;
+        }
+
+        long epochSecond = ApplicantDeliveryDateTime.decodeEpochSecond(deliveryDateTime, start);
+        if (epochSecond == ApplicantDeliveryDateTime.INVALID_EPOCH_SECOND) {
+            return false;
+        }
+        row.setDeliveryEpochSecond(epochSecond);
+        return true;
+    }
+
+    /**
+     * Reads a score of one digit or {@code 10}, optionally followed by one or two decimals
+     * (zeros only for 10), as an integer number of hundredths.
+     */
+    private boolean decodeScore(CharSequence score) {
+        int end = trimmedEnd(score);
+        int start = trimmedStart(score, end);
+        int length = end - start;
+        if (length == 0 || !isDigit(score.charAt(start))) {
+            return false;
+        }
+
+        boolean isTen = length >= 2 && score.charAt(start) == '1' && score.charAt(start + 1) == '0';
+        int integerDigits = isTen ? 2 : 1;
+        int hundredths = (isTen ? 10 : score.charAt(start) - '0') * 100;
+        if (length > integerDigits) {
+            int decimals = length - integerDigits - 1;
+            if (score.charAt(start + integerDigits) != '.' || decimals < 1 || decimals > 2) {
+                return false;
+            }
+
+            int scale = 10;
+            for (int i = start + integerDigits + 1; i < end; i++) {
+                char c = score.charAt(i);
+                if (isTen ? c != '0' : !isDigit(c)) {
+                    return false;
+                }
+                hundredths += (c - '0') * scale;
+                scale /= 10;
+            }
+        }
+
+        row.setScoreHundredths(hundredths);
+        return true;
+    }
+
+    private static int trimmedStart(CharSequence text, int end) {
+        int start = 0;
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimmedEnd(CharSequence text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Matches the regular expression class {@code \s} used to split names.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,53 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Searches byte ranges of a {@link ByteBuffer} for the bytes that the ingest cares about:
+ * CSV delimiters, line ends and non-ASCII bytes.
+ * <p>
+ * {@link ByteScanners#create()} returns a scanner built on the incubating Vector API when it
+ * is available, which tests a whole vector of bytes per step, and a byte-by-byte scanner
+ * otherwise. Both give the same answers. A scanner may keep scratch space, so use one per
+ * thread.
+ */
+interface ByteScanner {
+
+    /**
+     * Finds the first byte that ends a run of plain field content: a separator {@code ,}, a
+     * quote {@code "}, an escape {@code \}, or a line end {@code \n} or {@code \r}.
+     * @param buffer Bytes to search, by absolute index
+     * @param from Index to start at, inclusive
+     * @param to Index to stop at, exclusive
+     * @return Index of the first such byte, or {@code to} if there is none
+     */
+    int indexOfSpecial(@NotNull ByteBuffer buffer, int from, int to);
+
+    /**
+     * Finds the first occurrence of a byte.
+     * @param buffer Bytes to search, by absolute index
+     * @param from Index to start at, inclusive
+     * @param to Index to stop at, exclusive
+     * @param value Byte to find
+     * @return Index of the first occurrence, or {@code to} if there is none
+     */
+    int indexOf(@NotNull ByteBuffer buffer, int from, int to, byte value);
+
+    /**
+     * Checks that every byte of a range is ASCII, that is below 0x80.
+     * @param buffer Bytes to check, by absolute index
+     * @param from Index to start at, inclusive
+     * @param to Index to stop at, exclusive
+     * @return {@code true} if the range holds no byte with the high bit set
+     */
+    boolean isAscii(@NotNull ByteBuffer buffer, int from, int to);
+
+    /**
+     * Matches the bytes found by {@link #indexOfSpecial}.
+     */
+    static boolean isSpecial(byte b) {
+        return b == ',' || b == '"' || b == '\\' || b == '\n' || b == '\r';
+    }
+}
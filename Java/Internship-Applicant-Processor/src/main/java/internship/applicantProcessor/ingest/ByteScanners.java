@@ -0,0 +1,64 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Creates the fastest {@link ByteScanner} available at runtime.
+ * <p>
+ * The Vector API scanner is only compiled by the {@code vector} Maven profile, from
+ * {@code src/main/vector}, and only runs when the JVM resolves the incubator module, i.e. with
+ * {@code --add-modules jdk.incubator.vector}. It is therefore looked up reflectively: if the
+ * class is missing or cannot be linked, the scalar scanner is used instead. Setting the
+ * system property {@value #VECTOR_PROPERTY} to {@code false} forces the scalar scanner.
+ */
+public final class ByteScanners {
+    /** System property that disables the Vector API scanner when set to {@code false}. */
+    public static final String VECTOR_PROPERTY = "applicantProcessor.vector";
+
+    private static final String VECTOR_SCANNER_CLASS = "internship.applicantProcessor.ingest.VectorByteScanner";
+    private static final Constructor<? extends ByteScanner> VECTOR_SCANNER = findVectorScanner();
+
+    private ByteScanners() {
+    }
+
+    /**
+     * Returns whether scanners are built on the Vector API.
+     */
+    public static boolean isVectorized() {
+        return VECTOR_SCANNER != null;
+    }
+
+    /**
+     * Creates a scanner for use by one thread: the Vector API scanner if available,
+     * otherwise the shared scalar scanner.
+     */
+    static @NotNull ByteScanner create() {
+        if (VECTOR_SCANNER == null) {
+            return ScalarByteScanner.INSTANCE;
+        }
+        try {
+            return VECTOR_SCANNER.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + VECTOR_SCANNER_CLASS, e);
+        }
+    }
+
+    private static Constructor<? extends ByteScanner> findVectorScanner() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return null;
+        }
+        try {
+            Constructor<? extends ByteScanner> constructor = Class.forName(VECTOR_SCANNER_CLASS)
+                    .asSubclass(ByteScanner.class)
+                    .getDeclaredConstructor();
+            // Fails here rather than per tokenizer if the incubator module is not resolved
+            constructor.newInstance();
+            return constructor;
+        } catch (LinkageError | ReflectiveOperationException e) {
+            // Not compiled in, or the incubator module is not resolved
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Mutable, zero-copy view of a byte range inside a {@link ByteBuffer}.
+ * <p>
+ * Bytes are exposed as ISO-8859-1 characters: every ASCII byte maps to the same character,
+ * and every byte of a multi-byte UTF-8 sequence maps to a non-ASCII character. The ASCII-based
+ * validation rules therefore give the same answer on the view as on the decoded text, without
+ * building a {@link String}. Use {@link #decode()} to obtain the real UTF-8 value.
+ * <p>
+ * A span is meant to be reused across records and is not thread-safe.
+ */
+public final class ByteSpan implements CharSequence {
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private ByteBuffer buffer = EMPTY;
+    private int start;
+    private int end;
+
+    /**
+     * Points this span at {@code buffer[start, end)}.
+     * @return this span, for chaining
+     */
+    public @NotNull ByteSpan set(@NotNull ByteBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    /**
+     * Narrows the span in place using the same rule as {@link String#trim()}:
+     * characters up to and including U+0020 are removed from both ends.
+     * @return this span, for chaining
+     */
+    public @NotNull ByteSpan trim() {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the raw byte at the given index of the span.
+     */
+    public byte byteAt(int index) {
+        Objects.checkIndex(index, length());
+        return buffer.get(start + index);
+    }
+
+    /**
+     * Decodes the span as UTF-8, replacing malformed input the same way an
+     * {@link java.io.InputStreamReader} does.
+     * @return the decoded field value
+     */
+    public @NotNull String decode() {
+        return decode(0, length());
+    }
+
+    /**
+     * Decodes part of the span as UTF-8.
+     * @param from Start index in the span, inclusive
+     * @param to End index in the span, exclusive
+     * @return the decoded text
+     */
+    public @NotNull String decode(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        int length = to - from;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start + from, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(start + from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks that part of the span holds only ASCII bytes.
+     * @param from Start index in the span, inclusive
+     * @param to End index in the span, exclusive
+     * @param scanner Scanner to test the bytes with
+     */
+    boolean isAscii(int from, int to, @NotNull ByteScanner scanner) {
+        Objects.checkFromToIndex(from, to, length());
+        return scanner.isAscii(buffer, start + from, start + to);
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length());
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return new ByteSpan().set(buffer, start + from, start + to);
+    }
+
+    /**
+     * Returns the span as ISO-8859-1 text, consistent with {@link #charAt(int)}.
+     * Use {@link #decode()} for the UTF-8 value.
+     */
+    @Override
+    public @NotNull String toString() {
+        byte[] bytes = new byte[length()];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,70 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reusable holder for one tokenized CSV record.
+ * <p>
+ * Fields are stored as byte offsets into their source buffer: either the mapped input itself
+ * or, for fields that contained quotes or escapes, the tokenizer's scratch buffer. Nothing is
+ * decoded until a caller asks for it through {@link #field(int, ByteSpan)}.
+ * <p>
+ * The contents are only valid until the tokenizer produces the next record.
+ */
+public final class CsvRecord {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long offset;
+    private int fieldCount;
+    private ByteBuffer[] sources = new ByteBuffer[INITIAL_CAPACITY];
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+
+    /**
+     * Returns the absolute byte offset in the input at which this record starts.
+     * Offsets grow with the position in the file, so they order records the same way line numbers do.
+     */
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of fields in this record.
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Points {@code target} at the raw bytes of a field.
+     * @param index Zero-based field index
+     * @param target Span to reuse
+     * @return {@code target}, for chaining
+     */
+    public @NotNull ByteSpan field(int index, @NotNull ByteSpan target) {
+        Objects.checkIndex(index, fieldCount);
+        return target.set(sources[index], starts[index], ends[index]);
+    }
+
+    void clear(long offset) {
+        this.offset = offset;
+        this.fieldCount = 0;
+    }
+
+    void addField(ByteBuffer source, int start, int end) {
+        if (fieldCount == sources.length) {
+            int capacity = fieldCount * 2;
+            sources = Arrays.copyOf(sources, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        sources[fieldCount] = source;
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+    }
+}
@@ -0,0 +1,330 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Byte-level CSV tokenizer that splits records exactly like OpenCSV's default
+ * {@code CSVReader} on top of a UTF-8 {@code InputStreamReader}.
+ * <p>
+ * Reproduced behavior:
+ * <ul>
+ *   <li>{@code ,} separator, {@code "} quote and {@code \} escape character</li>
+ *   <li>Physical lines end at {@code \n}, {@code \r} or {@code \r\n}; a quoted field
+ *       spanning lines continues with a single {@code \n}</li>
+ *   <li>Doubled quotes and escaped quote/escape/separator characters collapse to one character,
+ *       other escape characters are dropped</li>
+ *   <li>A quote preceded only by whitespace inside a field discards that whitespace</li>
+ *   <li>An unterminated quote at end of input is an error</li>
+ * </ul>
+ * Fields without quotes or escapes are referenced in place; only fields that need unescaping
+ * are copied, into a scratch buffer that is reused for every record. Runs of plain bytes
+ * between delimiters are found by a {@link ByteScanner}, a vector of bytes at a time when the
+ * Vector API is available, and appended as a whole.
+ * <p>
+ * Not thread-safe: use one tokenizer per thread.
+ */
+public final class CsvRecordTokenizer {
+    private static final byte SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+    private static final int NO_NEXT_CHARACTER = -1;
+    private static final int NEEDS_MORE_INPUT = -2;
+    // OpenCSV only treats a quote as embedded once it is past this column of the physical line
+    private static final int EMBEDDED_QUOTE_MIN_COLUMN = 3;
+
+    private final ByteScanner scanner = ByteScanners.create();
+
+    private ByteBuffer input = ByteBuffer.allocate(0);
+    private long baseOffset;
+    private int limit;
+    private boolean endOfInput;
+    private int position;
+
+    private byte[] scratch = new byte[256];
+    private ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private int scratchLength;
+
+    // Field currently being built: a span of the input, or a tail of the scratch buffer
+    private boolean inScratch;
+    private int spanStart;
+    private int spanEnd;
+    private int scratchStart;
+
+    /**
+     * Starts tokenizing a new window of input.
+     * @param input Bytes to tokenize, from index 0 up to the buffer limit
+     * @param baseOffset Absolute offset of index 0 in the whole input
+     * @param endOfInput Whether the window ends where the input ends; otherwise a record
+     *                   touching the end of the window is left for the next window
+     */
+    public void reset(@NotNull ByteBuffer input, long baseOffset, boolean endOfInput) {
+        this.input = Objects.requireNonNull(input, "Input cannot be null");
+        this.baseOffset = baseOffset;
+        this.limit = input.limit();
+        this.endOfInput = endOfInput;
+        this.position = 0;
+    }
+
+    /**
+     * Returns the index in the current window at which the next record starts.
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Tokenizes the next record.
+     * @param record Record to fill
+     * @return {@code true} if a complete record was produced; {@code false} if the window holds
+     *         no further complete record, in which case {@link #position()} is unchanged
+     * @throws IOException if the input ends inside a quoted field
+     */
+    public boolean next(@NotNull CsvRecord record) throws IOException {
+        int p = position;
+        if (p >= limit) {
+            return false;
+        }
+
+        record.clear(baseOffset + p);
+        scratchLength = 0;
+        resetOutput();
+        int lineStart = p;
+        boolean inQuotes = false;
+        boolean inField = false;
+
+        while (true) {
+            if (p >= limit) {
+                if (!endOfInput) {
+                    return false;
+                }
+                if (inQuotes) {
+                    throw new IOException("Unterminated quoted field in record starting at offset " + record.offset());
+                }
+                emitField(record);
+                position = p;
+                return true;
+            }
+
+            byte c = input.get(p);
+            if (c == '\n' || c == '\r') {
+                int next = p + 1;
+                if (c == '\r') {
+                    if (next >= limit && !endOfInput) {
+                        return false;
+                    }
+                    if (next < limit && input.get(next) == '\n') {
+                        next++;
+                    }
+                }
+                if (inQuotes) {
+                    // The quoted field continues on the next physical line
+                    append((byte) '\n');
+                    p = next;
+                    lineStart = p;
+                    continue;
+                }
+                emitField(record);
+                position = next;
+                return true;
+            }
+
+            if (c == ESCAPE) {
+                inField = true;
+                int following = peekInLine(p);
+                if (following == NEEDS_MORE_INPUT) {
+                    return false;
+                }
+                if (following == QUOTE || following == ESCAPE || following == SEPARATOR) {
+                    p++;
+                    appendAt(p);
+                }
+            } else if (c == QUOTE) {
+                int following = peekInLine(p);
+                if (following == NEEDS_MORE_INPUT) {
+                    return false;
+                }
+                if ((inQuotes || inField) && following == QUOTE) {
+                    p++;
+                    appendAt(p);
+                } else {
+                    inQuotes = !inQuotes;
+                    if (isEmbeddedQuote(lineStart, p, following)) {
+                        if (!isOutputEmpty() && isOutputWhitespace()) {
+                            discardOutput();
+                        } else {
+                            appendAt(p);
+                        }
+                    }
+                }
+                inField = !inField;
+            } else if (c == SEPARATOR && !inQuotes) {
+                emitField(record);
+                inField = false;
+            } else {
+                // Plain bytes up to the next delimiter, quote, escape or line end
+                int runEnd = scanner.indexOfSpecial(input, p + 1, limit);
+                appendRun(p, runEnd);
+                inField = true;
+                p = runEnd - 1;
+            }
+            p++;
+        }
+    }
+
+    /**
+     * Returns the byte after {@code p} if it belongs to the same physical line,
+     * {@link #NO_NEXT_CHARACTER} if the line ends at {@code p}, or
+     * {@link #NEEDS_MORE_INPUT} if that cannot be known within this window.
+     */
+    private int peekInLine(int p) {
+        int next = p + 1;
+        if (next >= limit) {
+            return endOfInput ? NO_NEXT_CHARACTER : NEEDS_MORE_INPUT;
+        }
+        byte b = input.get(next);
+        return b == '\n' || b == '\r' ? NO_NEXT_CHARACTER : b & 0xFF;
+    }
+
+    /**
+     * Mirrors OpenCSV's check for a quote in the middle of a field such as {@code a,bc"d"ef,g}:
+     * past the start of the line, and neither preceded nor followed by a separator.
+     */
+    private boolean isEmbeddedQuote(int lineStart, int quote, int following) {
+        return columnOf(lineStart, quote) >= EMBEDDED_QUOTE_MIN_COLUMN
+                && input.get(quote - 1) != SEPARATOR
+                && following != NO_NEXT_CHARACTER
+                && following != SEPARATOR;
+    }
+
+    /**
+     * Counts UTF-16 code units between the start of the line and {@code index},
+     * stopping once the quote column threshold is reached.
+     */
+    private int columnOf(int lineStart, int index) {
+        int column = 0;
+        for (int i = lineStart; i < index && column < EMBEDDED_QUOTE_MIN_COLUMN; i++) {
+            int b = input.get(i) & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                // Four-byte sequences decode to a surrogate pair
+                column += b >= 0xF0 && b <= 0xF4 ? 2 : 1;
+            }
+        }
+        return column;
+    }
+
+    private void appendAt(int index) {
+        appendRun(index, index + 1);
+    }
+
+    /**
+     * Appends {@code input[from, to)} to the field, extending the span in place when it is
+     * contiguous with it.
+     */
+    private void appendRun(int from, int to) {
+        if (!inScratch) {
+            if (spanStart == spanEnd) {
+                spanStart = from;
+                spanEnd = to;
+                return;
+            }
+            if (spanEnd == from) {
+                spanEnd = to;
+                return;
+            }
+            moveSpanToScratch();
+        }
+        int length = to - from;
+        ensureScratchCapacity(length);
+        input.get(from, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+
+    private void append(byte b) {
+        if (!inScratch) {
+            moveSpanToScratch();
+        }
+        appendToScratch(b);
+    }
+
+    private void moveSpanToScratch() {
+        int length = spanEnd - spanStart;
+        ensureScratchCapacity(length);
+        input.get(spanStart, scratch, scratchLength, length);
+        scratchStart = scratchLength;
+        scratchLength += length;
+        inScratch = true;
+    }
+
+    private void appendToScratch(byte b) {
+        ensureScratchCapacity(1);
+        scratch[scratchLength++] = b;
+    }
+
+    private void ensureScratchCapacity(int extra) {
+        if (scratchLength + extra > scratch.length) {
+            // Fields already emitted keep pointing at the previous array, which stays valid
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + extra));
+            scratchBuffer = ByteBuffer.wrap(scratch);
+        }
+    }
+
+    private boolean isOutputEmpty() {
+        return inScratch ? scratchLength == scratchStart : spanStart == spanEnd;
+    }
+
+    private boolean isOutputWhitespace() {
+        int from = inScratch ? scratchStart : spanStart;
+        int to = inScratch ? scratchLength : spanEnd;
+        ByteBuffer source = inScratch ? scratchBuffer : input;
+        for (int i = from; i < to; i++) {
+            byte b = source.get(i);
+            if (b < 0) {
+                return isDecodedWhitespace(source, from, to);
+            }
+            if (!Character.isWhitespace((char) b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDecodedWhitespace(ByteBuffer source, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        source.get(from, bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void discardOutput() {
+        if (inScratch) {
+            scratchLength = scratchStart;
+        }
+        resetOutput();
+    }
+
+    private void resetOutput() {
+        inScratch = false;
+        spanStart = 0;
+        spanEnd = 0;
+    }
+
+    private void emitField(CsvRecord record) {
+        if (inScratch) {
+            record.addField(scratchBuffer, scratchStart, scratchLength);
+        } else {
+            record.addField(input, spanStart, spanEnd);
+        }
+        resetOutput();
+    }
+}
@@ -0,0 +1,121 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reusable result of decoding one applicant row with {@link ApplicantRowDecoder}.
+ * <p>
+ * Holds the typed field values while they are being decoded. The name and email are kept as
+ * offsets into their fields until {@link #toApplicant()} builds the strings, so a row that
+ * fails a later field never allocates them. Name parts are only counted: the applicant gets
+ * the name as one string, split into parts when first read.
+ * <p>
+ * The contents are only valid until the decoder decodes the next row.
+ */
+public final class DecodedApplicantRow {
+    private RejectionReason rejectionReason;
+
+    private CharSequence name;
+    private int namePartCount;
+    private int nameStart;
+    private int nameEnd;
+
+    private CharSequence email;
+    private int emailStart;
+    private int emailEnd;
+
+    private long deliveryEpochSecond;
+
+    private int scoreHundredths;
+
+    /**
+     * Returns whether every field of the last decoded row passed validation.
+     */
+    public boolean isValid() {
+        return rejectionReason == null;
+    }
+
+    /**
+     * Returns why the last decoded row was rejected.
+     * @return The first failing check, or {@code null} if the row is valid
+     */
+    public @Nullable RejectionReason rejectionReason() {
+        return rejectionReason;
+    }
+
+    /**
+     * Returns the score of the last decoded row, in hundredths of a point.
+     */
+    public int scoreHundredths() {
+        return scoreHundredths;
+    }
+
+    /**
+     * Builds the applicant from the decoded values. The name is kept as one string, from the
+     * first to the last name part, and only split into its parts when read, see
+     * {@link Applicant#ofUnparsedName}.
+     * @return A new applicant
+     * @throws IllegalStateException if the last decoded row was not valid
+     */
+    public @NotNull Applicant toApplicant() {
+        if (rejectionReason != null) {
+            throw new IllegalStateException("Row is not valid: " + rejectionReason);
+        }
+
+        return Applicant.ofUnparsedName(
+                text(name, nameStart, nameEnd),
+                text(email, emailStart, emailEnd),
+                deliveryEpochSecond,
+                scoreHundredths
+        );
+    }
+
+    void reset() {
+        rejectionReason = null;
+        namePartCount = 0;
+    }
+
+    DecodedApplicantRow reject(RejectionReason reason) {
+        rejectionReason = reason;
+        return this;
+    }
+
+    void setName(CharSequence name) {
+        this.name = name;
+    }
+
+    void addNamePart(int start, int end) {
+        if (namePartCount == 0) {
+            nameStart = start;
+        }
+        nameEnd = end;
+        namePartCount++;
+    }
+
+    int namePartCount() {
+        return namePartCount;
+    }
+
+    void setEmail(CharSequence email, int start, int end) {
+        this.email = email;
+        this.emailStart = start;
+        this.emailEnd = end;
+    }
+
+    void setDeliveryEpochSecond(long deliveryEpochSecond) {
+        this.deliveryEpochSecond = deliveryEpochSecond;
+    }
+
+    void setScoreHundredths(int scoreHundredths) {
+        this.scoreHundredths = scoreHundredths;
+    }
+
+    /**
+     * Extracts text from a field, decoding byte views as UTF-8.
+     */
+    private static String text(CharSequence field, int start, int end) {
+        return field instanceof ByteSpan span ? span.decode(start, end) : field.subSequence(start, end).toString();
+    }
+}
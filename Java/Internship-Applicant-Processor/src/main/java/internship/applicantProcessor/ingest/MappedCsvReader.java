@@ -0,0 +1,126 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * Reads CSV records from a file by memory-mapping it in windows and tokenizing the
+ * mapped bytes in place with a {@link CsvRecordTokenizer}.
+ * <p>
+ * A single mapping is limited to 2 GB, so larger files are mapped window by window. A record
+ * that crosses the end of a window is re-read from its first byte in the next window, which
+ * means a single record may not be longer than the window size.
+ */
+public final class MappedCsvReader {
+    static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long windowSize;
+
+    /**
+     * Receives every record read from the file. The record is reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void onRecord(@NotNull CsvRecord record);
+    }
+
+    /**
+     * Creates a reader over an open channel.
+     * @param channel Readable file channel; it is not closed by this reader
+     */
+    public MappedCsvReader(@NotNull FileChannel channel) {
+        this(channel, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedCsvReader(@NotNull FileChannel channel, long windowSize) {
+        Objects.requireNonNull(channel, "File channel cannot be null");
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + Integer.MAX_VALUE);
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads the whole file.
+     * @param handler Callback invoked for each record, in file order
+     * @throws IOException if the file cannot be mapped or ends inside a quoted field
+     */
+    public void readAll(@NotNull RecordHandler handler) throws IOException {
+        read(0, channel.size(), handler);
+    }
+
+    /**
+     * Reads every record that starts at or after {@code from} and before {@code to}.
+     * The last record may extend past {@code to}.
+     * @param from Offset of the first record; must be the start of a record
+     * @param to Offset before which the last record must start
+     * @param handler Callback invoked for each record, in file order
+     * @return Offset of the first record starting at or after {@code to}, or the file size
+     * @throws IOException if the file cannot be mapped, ends inside a quoted field,
+     *                     or holds a record longer than the window size
+     */
+    public long read(long from, long to, @NotNull RecordHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "Record handler cannot be null");
+        long size = channel.size();
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+        CsvRecord record = new CsvRecord();
+        long windowStart = from;
+
+        while (windowStart < to && windowStart < size) {
+            long windowLength = Math.min(windowSize, size - windowStart);
+            boolean endOfInput = windowStart + windowLength == size;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+            tokenizer.reset(window, windowStart, endOfInput);
+
+            while (windowStart + tokenizer.position() < to && tokenizer.next(record)) {
+                handler.onRecord(record);
+            }
+
+            long consumed = tokenizer.position();
+            if (endOfInput || windowStart + consumed >= to) {
+                return windowStart + consumed;
+            }
+            if (consumed == 0) {
+                throw new IOException("Record at offset " + windowStart + " is longer than " + windowSize + " bytes");
+            }
+            windowStart += consumed;
+        }
+        return Math.min(windowStart, size);
+    }
+
+    /**
+     * Finds the first physical line start at or after {@code offset}, that is the offset itself
+     * if it is 0 or follows a {@code \n}, otherwise the offset just past the next {@code \n}.
+     * <p>
+     * A line start is only a candidate record start: it may still fall inside a quoted field.
+     *
+     * @param offset Offset to start searching from
+     * @return Offset of the line start, or the file size if there is none
+     * @throws IOException if the file cannot be mapped
+     */
+    public long nextLineStart(long offset) throws IOException {
+        long size = channel.size();
+        if (offset <= 0) {
+            return 0;
+        }
+
+        ByteScanner scanner = ByteScanners.create();
+        long windowStart = offset - 1;
+        while (windowStart < size) {
+            int windowLength = (int) Math.min(windowSize, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+            int lineEnd = scanner.indexOf(window, 0, windowLength, (byte) '\n');
+            if (lineEnd < windowLength) {
+                return windowStart + lineEnd + 1;
+            }
+            windowStart += windowLength;
+        }
+        return size;
+    }
+}
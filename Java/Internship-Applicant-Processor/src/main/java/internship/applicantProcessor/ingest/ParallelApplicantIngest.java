@@ -0,0 +1,251 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.metrics.PipelineStage;
+import internship.applicantProcessor.metrics.StageClock;
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses and validates a CSV file in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The file is split into byte ranges that start on line boundaries. Each range is read with its
+ * own {@link MappedCsvReader} pass and produces a partial map from email to the last valid
+ * applicant seen in that range.
+ * <p>
+ * A line boundary may fall inside a quoted field. Every range is therefore checked against the
+ * previous one: a range is only trusted if the previous range stopped exactly where it starts.
+ * Since the first range starts at offset 0, this holds for every range by induction. A range
+ * that fails the check is parsed again sequentially from where the previous range stopped.
+ * <p>
+ * The partial maps are merged in file order, so the applicant from the highest line wins, as
+ * in the sequential path. Emails keep the position of their first occurrence, so the merged
+ * result is also inserted into a repository in the same order as the sequential path would.
+ * Rejection counts are only taken from trusted ranges, so rows misread from a wrong start
+ * are never counted.
+ * <p>
+ * With enabled {@link PipelineMetrics}, each task times its rows with its own
+ * {@link StageClock}, split between CSV decoding, validation, model parsing and keeping the
+ * range's last applicant per email, which is charged to the repository insert. Stage times are
+ * therefore summed over the workers and include ranges parsed again. Rows read, including
+ * skipped rows, and accepted rows are counted like the rejections, from trusted ranges only.
+ * Accepted rows whose email was already seen, within a range or in an earlier one, are
+ * counted as replacements, as the sequential path counts them on insert.
+ */
+public final class ParallelApplicantIngest {
+    static final long DEFAULT_MIN_CHUNK_SIZE = 1L << 20;
+    // More chunks than threads keeps the pool busy when chunks take uneven time
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final long minChunkSize;
+    private final PipelineMetrics metrics;
+
+    /**
+     * Creates an ingest running on the given pool.
+     * @param pool Pool running the chunk parsers; it is not shut down by this class
+     */
+    public ParallelApplicantIngest(@NotNull ForkJoinPool pool) {
+        this(pool, PipelineMetrics.DISABLED);
+    }
+
+    /**
+     * Creates an ingest running on the given pool that records its work in pipeline metrics.
+     * @param pool Pool running the chunk parsers; it is not shut down by this class
+     * @param metrics Metrics to count rows and time the stages of each chunk in
+     */
+    public ParallelApplicantIngest(@NotNull ForkJoinPool pool, @NotNull PipelineMetrics metrics) {
+        this(pool, DEFAULT_MIN_CHUNK_SIZE, metrics);
+    }
+
+    ParallelApplicantIngest(@NotNull ForkJoinPool pool, long minChunkSize) {
+        this(pool, minChunkSize, PipelineMetrics.DISABLED);
+    }
+
+    ParallelApplicantIngest(@NotNull ForkJoinPool pool, long minChunkSize, @NotNull PipelineMetrics metrics) {
+        Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        Objects.requireNonNull(metrics, "Metrics cannot be null");
+        if (minChunkSize <= 0) {
+            throw new IllegalArgumentException("Minimum chunk size must be positive");
+        }
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Outcome of a parallel ingest.
+     * @param applicants Unique applicants by email, in order of first occurrence, each being the
+     *                   last valid occurrence of its email in the file
+     * @param acceptedRows Number of valid rows, including those repeating an email
+     * @param rejections Number of rejected rows per reason
+     */
+    public record Result(@NotNull Collection<Applicant> applicants, long acceptedRows,
+                         @NotNull RejectionCounts rejections) {
+    }
+
+    /**
+     * Reads every valid applicant from the file.
+     * @param channel Readable file channel; it is not closed by this method
+     * @return The applicants, accepted rows and rejection counts
+     * @throws IOException if the file cannot be mapped or ends inside a quoted field
+     */
+    public @NotNull Result ingest(@NotNull FileChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "File channel cannot be null");
+        MappedCsvReader reader = new MappedCsvReader(channel);
+        long[] boundaries = computeBoundaries(reader, channel.size());
+
+        ChunkResult[] results = new ChunkResult[boundaries.length - 1];
+        pool.invoke(new ChunkTask(reader, metrics, boundaries, results, 0, results.length));
+
+        Map<String, Applicant> merged = new LinkedHashMap<>();
+        RejectionCounts rejections = new RejectionCounts();
+        long accepted = 0;
+        long expectedStart = 0;
+        for (int i = 0; i < results.length; i++) {
+            long chunkEnd = boundaries[i + 1];
+            if (expectedStart >= chunkEnd) {
+                // A record from an earlier chunk spans this whole chunk
+                continue;
+            }
+
+            ChunkResult result = results[i];
+            if (result.start() != expectedStart) {
+                result = parseChunk(reader, metrics, expectedStart, chunkEnd);
+            }
+            result.rethrowError();
+            merged.putAll(result.applicants());
+            rejections.add(result.rejections());
+            accepted += result.accepted();
+            metrics.recordRowsRead(result.rows());
+            expectedStart = result.end();
+        }
+        // Every accepted row beyond the first of its email replaced an earlier one
+        metrics.recordAccepted(accepted, accepted - merged.size());
+        return new Result(merged.values(), accepted, rejections);
+    }
+
+    /**
+     * Splits the file into at most {@code parallelism * CHUNKS_PER_THREAD} ranges of at least
+     * the minimum chunk size, each starting on a line boundary.
+     */
+    private long[] computeBoundaries(MappedCsvReader reader, long size) throws IOException {
+        long maxChunks = Math.max(1, Math.min(
+                (long) pool.getParallelism() * CHUNKS_PER_THREAD,
+                size / minChunkSize));
+
+        long[] boundaries = new long[(int) maxChunks + 1];
+        int count = 1;
+        for (int i = 1; i < maxChunks; i++) {
+            long boundary = reader.nextLineStart(size / maxChunks * i);
+            if (boundary > boundaries[count - 1] && boundary < size) {
+                boundaries[count++] = boundary;
+            }
+        }
+        boundaries[count++] = size;
+        return count == boundaries.length ? boundaries : Arrays.copyOf(boundaries, count);
+    }
+
+    private static ChunkResult parseChunk(MappedCsvReader reader, PipelineMetrics metrics, long start, long end) {
+        ApplicantRecordParser parser = new ApplicantRecordParser();
+        Map<String, Applicant> applicants = new LinkedHashMap<>();
+        RejectionCounts rejections = new RejectionCounts();
+        long[] rows = new long[1];
+        long[] accepted = new long[1];
+        StageClock clock = metrics.startClock();
+        try {
+            long stoppedAt = reader.read(start, end, record -> {
+                clock.lap(PipelineStage.CSV_DECODE);
+                rows[0]++;
+                DecodedApplicantRow row = parser.parse(record);
+                clock.lap(PipelineStage.VALIDATION);
+                if (row == null) {
+                    return;
+                }
+                if (row.isValid()) {
+                    Applicant applicant = row.toApplicant();
+                    clock.lap(PipelineStage.MODEL_PARSE);
+                    applicants.put(applicant.email(), applicant);
+                    accepted[0]++;
+                    clock.lap(PipelineStage.REPOSITORY_INSERT);
+                } else {
+                    rejections.increment(row.rejectionReason());
+                }
+            });
+            clock.lap(PipelineStage.CSV_DECODE);
+            return new ChunkResult(start, stoppedAt, rows[0], accepted[0], applicants, rejections, null);
+        } catch (IOException | RuntimeException e) {
+            // Only reported if the chunk turns out to start on a real record boundary
+            return new ChunkResult(start, end, rows[0], accepted[0], applicants, rejections, e);
+        }
+    }
+
+    /**
+     * Outcome of parsing one range.
+     * @param start Offset the range was parsed from
+     * @param end Offset of the first record at or after the end of the range
+     * @param rows Number of records read within the range, including skipped rows
+     * @param accepted Number of valid rows within the range, including repeated emails
+     * @param applicants Last valid applicant per email within the range
+     * @param rejections Number of rejected rows per reason within the range
+     * @param error Failure raised while parsing, if any
+     */
+    private record ChunkResult(long start, long end, long rows, long accepted, Map<String, Applicant> applicants,
+                               RejectionCounts rejections, Exception error) {
+        void rethrowError() throws IOException {
+            if (error instanceof IOException e) {
+                throw e;
+            }
+            if (error instanceof RuntimeException e) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Parses a range of chunks, splitting it in half until a single chunk remains.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient MappedCsvReader reader;
+        private final transient PipelineMetrics metrics;
+        private final long[] boundaries;
+        private final transient ChunkResult[] results;
+        private final int from;
+        private final int to;
+
+        ChunkTask(MappedCsvReader reader, PipelineMetrics metrics, long[] boundaries, ChunkResult[] results,
+                  int from, int to) {
+            this.reader = reader;
+            this.metrics = metrics;
+            this.boundaries = boundaries;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results[from] = parseChunk(reader, metrics, boundaries[from], boundaries[from + 1]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(reader, metrics, boundaries, results, from, middle),
+                    new ChunkTask(reader, metrics, boundaries, results, middle, to));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Number of rejected rows per {@link RejectionReason}.
+ * <p>
+ * Plain counters for a single worker; partial counts are combined with {@link #add(RejectionCounts)}.
+ * Not thread-safe.
+ */
+public final class RejectionCounts {
+    private static final RejectionReason[] REASONS = RejectionReason.values();
+
+    private final long[] counts = new long[REASONS.length];
+
+    /**
+     * Counts one rejected row.
+     * @param reason Reason of the rejection
+     */
+    public void increment(@NotNull RejectionReason reason) {
+        counts[reason.ordinal()]++;
+    }
+
+    /**
+     * Adds all counts of another instance to this one.
+     * @param other Counts to add
+     */
+    public void add(@NotNull RejectionCounts other) {
+        Objects.requireNonNull(other, "Counts cannot be null");
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * Returns the number of rows rejected for the given reason.
+     */
+    public long get(@NotNull RejectionReason reason) {
+        return counts[reason.ordinal()];
+    }
+}
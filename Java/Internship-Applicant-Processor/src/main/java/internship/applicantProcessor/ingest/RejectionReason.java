@@ -0,0 +1,43 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reason for which an applicant row is rejected.
+ * <p>
+ * A row is rejected for the first failing check, in declaration order.
+ */
+public enum RejectionReason {
+    /** The row does not have exactly four fields. */
+    WRONG_FIELD_COUNT("wrongFieldCount", "CSV line must have exactly 4 fields"),
+    /** The name does not have at least a first and a last name. */
+    BAD_NAME("badName", "Invalid applicant name"),
+    /** The email does not follow the email rules. */
+    BAD_EMAIL("badEmail", "Invalid applicant email"),
+    /** The delivery date-time is not a valid {@code yyyy-MM-ddTHH:mm:ss} value. */
+    BAD_DATETIME("badDateTime", "Invalid delivery date and time"),
+    /** The score is not a value from 0 to 10 with at most two decimals. */
+    BAD_SCORE("badScore", "Invalid applicant score");
+
+    private final String jsonKey;
+    private final String description;
+
+    RejectionReason(String jsonKey, String description) {
+        this.jsonKey = jsonKey;
+        this.description = description;
+    }
+
+    /**
+     * Returns the property name used for this reason in JSON output.
+     */
+    public @NotNull String jsonKey() {
+        return jsonKey;
+    }
+
+    /**
+     * Returns a human-readable description of this reason.
+     */
+    public @NotNull String description() {
+        return description;
+    }
+}
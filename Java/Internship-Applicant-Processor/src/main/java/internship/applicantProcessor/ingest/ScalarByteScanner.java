@@ -0,0 +1,46 @@
+package internship.applicantProcessor.ingest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteScanner} that tests one byte at a time. It keeps no state, so a single instance
+ * is shared.
+ */
+final class ScalarByteScanner implements ByteScanner {
+    static final ScalarByteScanner INSTANCE = new ScalarByteScanner();
+
+    private ScalarByteScanner() {
+    }
+
+    @Override
+    public int indexOfSpecial(@NotNull ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (ByteScanner.isSpecial(buffer.get(i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int indexOf(@NotNull ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public boolean isAscii(@NotNull ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,253 @@
+package internship.applicantProcessor.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Row counters and per-stage timers of the applicant pipeline, readable live over JMX.
+ * <p>
+ * Counters are {@link LongAdder}s, so several pipelines or ingest threads can share one
+ * instance. Stage times are measured with {@link StageClock}s, one per thread, from
+ * {@link System#nanoTime()} at each stage boundary.
+ * <p>
+ * {@link #DISABLED} records nothing and never reads the clock, so an uninstrumented pipeline
+ * only pays a field check per boundary. {@link #register()} publishes an instance on the
+ * platform MBean server for JConsole or a JMX scraper.
+ */
+public final class PipelineMetrics implements PipelineMetricsMXBean {
+    /** Name under which {@link #register()} publishes the metrics. */
+    public static final String OBJECT_NAME = "internship.applicantProcessor:type=PipelineMetrics";
+    /** Metrics that record nothing. */
+    public static final PipelineMetrics DISABLED = new PipelineMetrics(false);
+
+    private final boolean enabled;
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsAccepted = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private final LongAdder replacements = new LongAdder();
+    private final LongAdder[] stageNanos = new LongAdder[PipelineStage.values().length];
+
+    /**
+     * Creates metrics that record, all starting at zero.
+     */
+    public PipelineMetrics() {
+        this(true);
+    }
+
+    private PipelineMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < stageNanos.length; i++) {
+            stageNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns whether these metrics record anything.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a clock at the current time, for one thread to time consecutive stages.
+     */
+    public @NotNull StageClock startClock() {
+        return new StageClock(this);
+    }
+
+    /**
+     * Returns the current {@link System#nanoTime()}, or 0 if disabled.
+     */
+    long now() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds time spent in a stage.
+     * @param stage Stage the time was spent in
+     * @param nanos Time in nanoseconds
+     */
+    public void addNanos(@NotNull PipelineStage stage, long nanos) {
+        if (enabled) {
+            stageNanos[stage.ordinal()].add(nanos);
+        }
+    }
+
+    /**
+     * Counts rows read from the input.
+     * @param rows Number of rows
+     */
+    public void recordRowsRead(long rows) {
+        if (enabled) {
+            rowsRead.add(rows);
+        }
+    }
+
+    /**
+     * Counts a row added to the repository.
+     * @param replacement Whether it replaced an applicant with the same email
+     */
+    public void recordAccepted(boolean replacement) {
+        if (enabled) {
+            rowsAccepted.increment();
+            if (replacement) {
+                replacements.increment();
+            }
+        }
+    }
+
+    /**
+     * Counts several rows added to the repository at once, e.g. merged by a parallel ingest.
+     * @param rows Number of rows
+     * @param replaced Number of those rows that replaced an applicant with the same email
+     */
+    public void recordAccepted(long rows, long replaced) {
+        if (enabled) {
+            rowsAccepted.add(rows);
+            replacements.add(replaced);
+        }
+    }
+
+    /**
+     * Counts rows that failed validation.
+     * @param rows Number of rows
+     */
+    public void recordRejected(long rows) {
+        if (enabled) {
+            rowsRejected.add(rows);
+        }
+    }
+
+    /**
+     * Returns the time spent in a stage.
+     * @param stage The stage
+     * @return Time in nanoseconds
+     */
+    public long stageNanos(@NotNull PipelineStage stage) {
+        return stageNanos[stage.ordinal()].sum();
+    }
+
+    @Override
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    @Override
+    public long getRowsAccepted() {
+        return rowsAccepted.sum();
+    }
+
+    @Override
+    public long getRowsRejected() {
+        return rowsRejected.sum();
+    }
+
+    @Override
+    public long getReplacements() {
+        return replacements.sum();
+    }
+
+    @Override
+    public long getCsvDecodeNanos() {
+        return stageNanos(PipelineStage.CSV_DECODE);
+    }
+
+    @Override
+    public long getValidationNanos() {
+        return stageNanos(PipelineStage.VALIDATION);
+    }
+
+    @Override
+    public long getModelParseNanos() {
+        return stageNanos(PipelineStage.MODEL_PARSE);
+    }
+
+    @Override
+    public long getRepositoryInsertNanos() {
+        return stageNanos(PipelineStage.REPOSITORY_INSERT);
+    }
+
+    @Override
+    public long getRankingNanos() {
+        return stageNanos(PipelineStage.RANKING);
+    }
+
+    @Override
+    public long getJsonOutputNanos() {
+        return stageNanos(PipelineStage.JSON_OUTPUT);
+    }
+
+    @Override
+    public void reset() {
+        rowsRead.reset();
+        rowsAccepted.reset();
+        rowsRejected.reset();
+        replacements.reset();
+        for (LongAdder nanos : stageNanos) {
+            nanos.reset();
+        }
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server as {@value #OBJECT_NAME}, replacing
+     * metrics published before, e.g. by an earlier run in the same JVM.
+     * @throws IllegalStateException if the server refuses the registration
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = objectName();
+        try {
+            if (server.isRegistered(name)) {
+                unregister();
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Removes the metrics published as {@value #OBJECT_NAME}, if any.
+     */
+    public static void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // Nothing published
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    private static ObjectName objectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the counters and the time per stage in milliseconds, for logging.
+     */
+    @Override
+    public @NotNull String toString() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "rowsRead=%d rowsAccepted=%d rowsRejected=%d replacements=%d",
+                getRowsRead(), getRowsAccepted(), getRowsRejected(), getReplacements()));
+        for (PipelineStage stage : PipelineStage.values()) {
+            text.append(String.format(Locale.ROOT, " %s=%.3fms",
+                    stage.name().toLowerCase(Locale.ROOT), stageNanos(stage) / 1e6));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package internship.applicantProcessor.metrics;
+
+/**
+ * Management interface of {@link PipelineMetrics}, registered with the platform MBean server
+ * as {@value PipelineMetrics#OBJECT_NAME}. Every attribute is a running total since the
+ * metrics were created or last reset; times are in nanoseconds. Times of a parallel ingest are
+ * summed over its worker threads, so they can exceed the elapsed time.
+ */
+public interface PipelineMetricsMXBean {
+
+    /** Returns the number of CSV rows read, including skipped and rejected rows. */
+    long getRowsRead();
+
+    /** Returns the number of valid rows added to the repository. */
+    long getRowsAccepted();
+
+    /** Returns the number of rows that failed validation. */
+    long getRowsRejected();
+
+    /** Returns the number of accepted rows that replaced an applicant with the same email. */
+    long getReplacements();
+
+    /** Returns the time spent reading and tokenizing CSV records. */
+    long getCsvDecodeNanos();
+
+    /** Returns the time spent validating rows. */
+    long getValidationNanos();
+
+    /** Returns the time spent building applicants from valid rows. */
+    long getModelParseNanos();
+
+    /** Returns the time spent adding applicants to the repository. */
+    long getRepositoryInsertNanos();
+
+    /** Returns the time spent computing statistics and top applicants. */
+    long getRankingNanos();
+
+    /** Returns the time spent building and serializing the JSON output. */
+    long getJsonOutputNanos();
+
+    /** Sets every counter and timer back to zero. */
+    void reset();
+}
@@ -0,0 +1,19 @@
+package internship.applicantProcessor.metrics;
+
+/**
+ * Stages of the applicant pipeline whose time is measured by {@link PipelineMetrics}.
+ */
+public enum PipelineStage {
+    /** Reading and tokenizing CSV records, by OpenCSV or the byte tokenizer. */
+    CSV_DECODE,
+    /** Checking the fields of a row against the validation rules while extracting them. */
+    VALIDATION,
+    /** Building an {@code Applicant} from a valid row. */
+    MODEL_PARSE,
+    /** Adding applicants to the repository. */
+    REPOSITORY_INSERT,
+    /** Computing statistics and selecting the top applicants. */
+    RANKING,
+    /** Building and serializing the JSON output. */
+    JSON_OUTPUT
+}
@@ -0,0 +1,31 @@
+package internship.applicantProcessor.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Times consecutive pipeline stages on one thread: each {@link #lap(PipelineStage)} charges
+ * the time since the previous lap, or since the clock started, to a stage.
+ * <p>
+ * Clocks of {@link PipelineMetrics#DISABLED} never read the time. Not thread-safe.
+ */
+public final class StageClock {
+    private final PipelineMetrics metrics;
+    private long last;
+
+    StageClock(@NotNull PipelineMetrics metrics) {
+        this.metrics = metrics;
+        this.last = metrics.now();
+    }
+
+    /**
+     * Ends a stage, charging it the time since the previous lap.
+     * @param stage Stage that just ended
+     */
+    public void lap(@NotNull PipelineStage stage) {
+        if (metrics.isEnabled()) {
+            long now = System.nanoTime();
+            metrics.addNanos(stage, now - last);
+            last = now;
+        }
+    }
+}
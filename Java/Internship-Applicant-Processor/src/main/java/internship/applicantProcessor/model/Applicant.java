@@ -5,14 +5,126 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Objects;
 
 /**
- * Immutable record representing a pre-validated internship applicant.
+ * Immutable value representing a pre-validated internship applicant.
+ * <p>
+ * Scores have at most two decimals and delivery times whole seconds, so both are stored as
+ * primitives: the score in hundredths of a point and the delivery time in epoch seconds.
+ * {@link #score()} and {@link #deliveryDateTime()} convert back on demand.
+ * <p>
+ * An applicant created by {@link #ofUnparsedName} keeps the full name as read and splits it
+ * into an {@link ApplicantName} on the first call to {@link #name()}. Usually only the names of
+ * the top applicants are read, so most applicants never pay for the split. The parsed name is
+ * cached with a benign race, as {@link String#hashCode()} does: concurrent first calls may
+ * each parse it, and all return equal names.
  */
-public record Applicant(
-        @NotNull ApplicantName name,
-        @NotNull String email,
-        @NotNull ApplicantDeliveryDateTime deliveryDateTime,
-        double score
-) {
+public final class Applicant {
+    private static final int SCORE_SCALE = 100;
+    private static final int MIN_SCORE_HUNDREDTHS = 0;
+    private static final int MAX_SCORE_HUNDREDTHS = 10 * SCORE_SCALE;
+    private static final int ADJUSTMENT_HUNDREDTHS = SCORE_SCALE;
+
+    // ApplicantName, or the full name as a String until first parsed
+    private @NotNull Object name;
+    private final @NotNull String email;
+    private final long deliveryEpochSecond;
+    private final int scoreHundredths;
+
+    /**
+     * Creates an applicant.
+     * @param name Applicant name
+     * @param email Applicant email
+     * @param deliveryDateTime Delivery datetime
+     * @param score Score with at most two decimals
+     * @throws IllegalArgumentException if the score is not a whole number of hundredths
+     */
+    public Applicant(
+            @NotNull ApplicantName name,
+            @NotNull String email,
+            @NotNull ApplicantDeliveryDateTime deliveryDateTime,
+            double score
+    ) {
+        this(name, email, deliveryDateTime.epochSecond(), toHundredths(score));
+    }
+
+    private Applicant(@NotNull Object name, @NotNull String email, long deliveryEpochSecond, int scoreHundredths) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.email = Objects.requireNonNull(email, "Email cannot be null");
+        this.deliveryEpochSecond = deliveryEpochSecond;
+        this.scoreHundredths = scoreHundredths;
+    }
+
+    /**
+     * Creates an applicant from the compact representation.
+     * @param name Applicant name
+     * @param email Applicant email
+     * @param deliveryEpochSecond Delivery datetime in seconds since 1970-01-01T00:00:00
+     * @param scoreHundredths Score in hundredths of a point
+     * @return A new applicant
+     */
+    public static @NotNull Applicant ofCompact(
+            @NotNull ApplicantName name,
+            @NotNull String email,
+            long deliveryEpochSecond,
+            int scoreHundredths) {
+        return new Applicant(name, email, ApplicantDeliveryDateTime.checkEpochSecond(deliveryEpochSecond),
+                scoreHundredths);
+    }
+
+    /**
+     * Creates an applicant from the compact representation, with a full name that is only
+     * split into its parts when {@link #name()} is first called.
+     * @param fullName Pre-validated full name, see {@link ApplicantName#parsePreValidated(String)}
+     * @param email Applicant email
+     * @param deliveryEpochSecond Delivery datetime in seconds since 1970-01-01T00:00:00
+     * @param scoreHundredths Score in hundredths of a point
+     * @return A new applicant
+     */
+    public static @NotNull Applicant ofUnparsedName(
+            @NotNull String fullName,
+            @NotNull String email,
+            long deliveryEpochSecond,
+            int scoreHundredths) {
+        return new Applicant(Objects.requireNonNull(fullName, "Name cannot be null"), email,
+                ApplicantDeliveryDateTime.checkEpochSecond(deliveryEpochSecond), scoreHundredths);
+    }
+
+    public @NotNull ApplicantName name() {
+        Object current = name;
+        if (current instanceof ApplicantName parsed) {
+            return parsed;
+        }
+        ApplicantName parsed = ApplicantName.parsePreValidated((String) current);
+        name = parsed;
+        return parsed;
+    }
+
+    public @NotNull String email() {
+        return email;
+    }
+
+    public @NotNull ApplicantDeliveryDateTime deliveryDateTime() {
+        return new ApplicantDeliveryDateTime(deliveryEpochSecond);
+    }
+
+    public double score() {
+        // Exact: the quotient of two exactly representable integers is correctly rounded
+        return scoreHundredths / (double) SCORE_SCALE;
+    }
+
+    /**
+     * Returns the delivery datetime in seconds since 1970-01-01T00:00:00.
+     */
+    public long deliveryEpochSecond() {
+        return deliveryEpochSecond;
+    }
+
+    /**
+     * Returns the score in hundredths of a point.
+     */
+    public int scoreHundredths() {
+        return scoreHundredths;
+    }
+
     /**
      * Calculates adjusted score with bonus/malus rules:
      * - +1.0 if delivered on first day
@@ -23,19 +135,53 @@ public record Applicant(
             @NotNull ApplicantDeliveryDateTime earliestDelivery,
             @NotNull ApplicantDeliveryDateTime latestDelivery) {
 
+        int adjusted = scoreHundredths + adjustmentHundredths(earliestDelivery, latestDelivery);
+        return clampScore(adjusted / (double) SCORE_SCALE);
+    }
+
+    /**
+     * Calculates the adjusted score like {@link #calculateAdjustedScore}, in hundredths of a point.
+     * Integer arithmetic keeps equal adjusted scores exactly equal for ranking.
+     * @return Score clamped between 0 and 1000
+     */
+    public int calculateAdjustedScoreHundredths(
+            @NotNull ApplicantDeliveryDateTime earliestDelivery,
+            @NotNull ApplicantDeliveryDateTime latestDelivery) {
+
+        int adjusted = scoreHundredths + adjustmentHundredths(earliestDelivery, latestDelivery);
+        return Math.max(MIN_SCORE_HUNDREDTHS, Math.min(MAX_SCORE_HUNDREDTHS, adjusted));
+    }
+
+    /**
+     * Calculates the adjusted score like {@link #calculateAdjustedScoreHundredths(ApplicantDeliveryDateTime,
+     * ApplicantDeliveryDateTime)}, from the first and last delivery days as days since 1970-01-01.
+     * @return Score clamped between 0 and 1000
+     */
+    public int calculateAdjustedScoreHundredths(long earliestEpochDay, long latestEpochDay) {
+        int adjusted = scoreHundredths + adjustmentHundredths(earliestEpochDay, latestEpochDay);
+        return Math.max(MIN_SCORE_HUNDREDTHS, Math.min(MAX_SCORE_HUNDREDTHS, adjusted));
+    }
+
+    private int adjustmentHundredths(
+            @NotNull ApplicantDeliveryDateTime earliestDelivery,
+            @NotNull ApplicantDeliveryDateTime latestDelivery) {
+
         Objects.requireNonNull(earliestDelivery, "Earliest delivery cannot be null");
         Objects.requireNonNull(latestDelivery, "Latest delivery cannot be null");
-        double adjusted = score;
+        return adjustmentHundredths(earliestDelivery.epochDay(), latestDelivery.epochDay());
+    }
 
-        if (deliveryDateTime.isOnSameDate(earliestDelivery)) {
-            adjusted += 1.0;
+    private int adjustmentHundredths(long earliestEpochDay, long latestEpochDay) {
+        long deliveryDay = ApplicantDeliveryDateTime.epochDay(deliveryEpochSecond);
+
+        if (deliveryDay == earliestEpochDay) {
+            return ADJUSTMENT_HUNDREDTHS;
         }
-        else if (deliveryDateTime.isOnSameDate(latestDelivery)
-                && deliveryDateTime.isAfterMidday()) {
-            adjusted -= 1.0;
+        else if (deliveryDay == latestEpochDay
+                && ApplicantDeliveryDateTime.isAfterMidday(deliveryEpochSecond)) {
+            return -ADJUSTMENT_HUNDREDTHS;
         }
-
-        return clampScore(adjusted);
+        return 0;
     }
 
     /**
@@ -46,4 +192,38 @@ public record Applicant(
     private double clampScore(double value) {
         return Math.max(0.0, Math.min(10.0, value));
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a score to hundredths, rejecting values that are not exactly representable.
+     */
+    private static int toHundredths(double score) {
+        double scaled = Math.rint(score * SCORE_SCALE);
+        if (Math.abs(scaled) > Integer.MAX_VALUE || scaled / SCORE_SCALE != score) {
+            throw new IllegalArgumentException("Score must have at most two decimals: " + score);
+        }
+        return (int) scaled;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Applicant other
+                && deliveryEpochSecond == other.deliveryEpochSecond
+                && scoreHundredths == other.scoreHundredths
+                && email.equals(other.email)
+                && name().equals(other.name());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = name().hashCode();
+        result = 31 * result + email.hashCode();
+        result = 31 * result + Long.hashCode(deliveryEpochSecond);
+        return 31 * result + scoreHundredths;
+    }
+
+    @Override
+    public String toString() {
+        return "Applicant[name=" + name() + ", email=" + email
+                + ", deliveryDateTime=" + deliveryDateTime() + ", score=" + score() + "]";
+    }
+}
@@ -1,23 +1,66 @@
 package internship.applicantProcessor.model;
 
 import org.jetbrains.annotations.NotNull;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
 /**
- * Immutable record representing a pre-validated delivery datetime in ISO-8601 format.
- * Wraps java.time.LocalDateTime for better date/time operations.
+ * Immutable value representing a pre-validated delivery datetime in ISO-8601 format.
+ * <p>
+ * Delivery times have whole-second precision and no time zone, so the value is stored as
+ * seconds since 1970-01-01T00:00:00 on the local time line (UTC offset zero) in a single
+ * {@code long}. Comparisons and day checks are plain integer arithmetic; {@link #dateTime()}
+ * rebuilds the {@link LocalDateTime} on demand.
+ * <p>
+ * Input always has the fixed layout {@code yyyy-MM-ddTHH:mm:ss}, which
+ * {@link #decodeEpochSecond(CharSequence, int)} reads digit by digit into epoch seconds,
+ * with the calendar checks of {@link LocalDateTime} but without its general-purpose parser.
  */
-public record ApplicantDeliveryDateTime(@NotNull LocalDateTime dateTime)
-        implements Comparable<ApplicantDeliveryDateTime> {
+public final class ApplicantDeliveryDateTime implements Comparable<ApplicantDeliveryDateTime> {
+
+    /** Length of the fixed layout {@code yyyy-MM-ddTHH:mm:ss}. */
+    public static final int TEXT_LENGTH = 19;
+    /**
+     * Result of {@link #decodeEpochSecond(CharSequence, int)} for text that is not a valid
+     * date-time; outside the {@link LocalDateTime} range, so no valid date-time decodes to it.
+     */
+    public static final long INVALID_EPOCH_SECOND = Long.MIN_VALUE;
 
     private static final DateTimeFormatter ISO_FORMATTER =
             DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MIDDAY_SECOND = 12 * 3_600;
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    private final long epochSecond;
+
+    /**
+     * Creates a delivery datetime from a local datetime.
+     * @param dateTime Delivery datetime with whole-second precision
+     * @throws NullPointerException if dateTime is null
+     * @throws IllegalArgumentException if dateTime has a fraction of a second
+     */
+    public ApplicantDeliveryDateTime(@NotNull LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "Delivery date cannot be null");
+        if (dateTime.getNano() != 0) {
+            throw new IllegalArgumentException("Delivery date must have whole seconds: " + dateTime);
+        }
+        this.epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    ApplicantDeliveryDateTime(long epochSecond) {
+        this.epochSecond = epochSecond;
+    }
 
     /**
      * Parses an ISO-8601 datetime string (yyyy-MM-dd'T'HH:mm:ss).
+     * Text in exactly that layout is decoded by {@link #decodeEpochSecond(CharSequence, int)};
+     * other ISO-8601 layouts, and the error for invalid text, come from the ISO formatter.
      * @param deliveryDateTime Pre-validated datetime string
      * @return Parsed datetime object
      * @throws DateTimeParseException if format is invalid
@@ -25,30 +68,198 @@ public record ApplicantDeliveryDateTime(@NotNull LocalDateTime dateTime)
      */
     public static @NotNull ApplicantDeliveryDateTime parsePreValidated(@NotNull String deliveryDateTime) {
         Objects.requireNonNull(deliveryDateTime, "Delivery date cannot be null");
+        if (deliveryDateTime.length() == TEXT_LENGTH) {
+            long epochSecond = decodeEpochSecond(deliveryDateTime, 0);
+            if (epochSecond != INVALID_EPOCH_SECOND) {
+                return new ApplicantDeliveryDateTime(epochSecond);
+            }
+        }
         return new ApplicantDeliveryDateTime(
                 LocalDateTime.parse(deliveryDateTime, ISO_FORMATTER)
         );
     }
 
+    /**
+     * Decodes the {@link #TEXT_LENGTH} characters {@code yyyy-MM-ddTHH:mm:ss} starting at an
+     * index into seconds since the epoch, without creating objects. The date must exist in the
+     * proleptic Gregorian calendar, so e.g. February 30 and February 29 outside leap years are
+     * invalid, as are hours above 23 and minutes or seconds above 59.
+     * @param text Text holding the date-time, e.g. a field of a CSV line
+     * @param start Index of the first year digit
+     * @return Seconds since 1970-01-01T00:00:00, or {@link #INVALID_EPOCH_SECOND} if the
+     *         characters are not a valid date-time in that layout
+     * @throws IndexOutOfBoundsException if the text ends before {@code start + TEXT_LENGTH}
+     */
+    public static long decodeEpochSecond(@NotNull CharSequence text, int start) {
+        if (text.charAt(start + 4) != '-'
+                || text.charAt(start + 7) != '-'
+                || text.charAt(start + 10) != 'T'
+                || text.charAt(start + 13) != ':'
+                || text.charAt(start + 16) != ':') {
+            return INVALID_EPOCH_SECOND;
+        }
+
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        int second = digits(text, start + 17, 2);
+        // Any non-digit makes its component negative
+        if ((year | month | day | hour | minute | second) < 0
+                || month < 1 || month > 12
+                || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return INVALID_EPOCH_SECOND;
+        }
+        return toEpochSecond(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * Creates a delivery datetime from seconds since the epoch.
+     * @param epochSecond Seconds since 1970-01-01T00:00:00
+     * @return Delivery datetime for that second
+     * @throws IllegalArgumentException if the second is outside the {@link LocalDateTime} range
+     */
+    public static @NotNull ApplicantDeliveryDateTime ofEpochSecond(long epochSecond) {
+        return new ApplicantDeliveryDateTime(checkEpochSecond(epochSecond));
+    }
+
+    /**
+     * Converts calendar fields to seconds since the epoch without creating date objects.
+     * The fields must already form a valid date and time.
+     * @return Seconds since 1970-01-01T00:00:00
+     */
+    public static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3_600L + minute * 60L + second;
+    }
+
+    /**
+     * Returns the delivery datetime as a {@link LocalDateTime}.
+     */
+    public @NotNull LocalDateTime dateTime() {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the delivery datetime as seconds since 1970-01-01T00:00:00.
+     */
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    /**
+     * Returns the delivery date as days since 1970-01-01.
+     */
+    public long epochDay() {
+        return epochDay(epochSecond);
+    }
+
     /**
      * Checks if this date is on the same calendar day as another date.
      * @throws NullPointerException if other is null
      */
     public boolean isOnSameDate(@NotNull ApplicantDeliveryDateTime other) {
         Objects.requireNonNull(other, "Other delivery date cannot be null");
-        return this.dateTime.toLocalDate().equals(other.dateTime.toLocalDate());
+        return epochDay() == other.epochDay();
     }
 
     /**
      * Checks if time is at or after midday (12:00:00).
      */
     public boolean isAfterMidday() {
-        return this.dateTime.getHour() >= 12;
+        return isAfterMidday(epochSecond);
     }
 
     @Override
     public int compareTo(@NotNull ApplicantDeliveryDateTime other) {
         Objects.requireNonNull(other, "Other delivery date cannot be null");
-        return this.dateTime.compareTo(other.dateTime);
+        return Long.compare(epochSecond, other.epochSecond);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ApplicantDeliveryDateTime other && epochSecond == other.epochSecond;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochSecond);
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicantDeliveryDateTime[dateTime=" + dateTime() + "]";
+    }
+
+    static long epochDay(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    static boolean isAfterMidday(long epochSecond) {
+        return Math.floorMod(epochSecond, SECONDS_PER_DAY) >= MIDDAY_SECOND;
+    }
+
+    /**
+     * Checks that a second is within the {@link LocalDateTime} range, so that every instance
+     * converts back to a {@link LocalDateTime}.
+     * @throws IllegalArgumentException if the second is outside the range
+     */
+    static long checkEpochSecond(long epochSecond) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            throw new IllegalArgumentException("Delivery date out of range: " + epochSecond);
+        }
+        return epochSecond;
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date, using the same arithmetic as
+     * {@link LocalDate#toEpochDay()}.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        // 719528 days between year 0 and 1970
+        return total - 719_528;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return isLeapYear(year) ? 29 : 28;
+        }
+        // 31 days in odd months up to July and even months from August
+        return 30 + ((month + (month >> 3)) & 1);
+    }
+
+    /**
+     * Reads {@code count} decimal digits, or returns a negative value if any is not a digit.
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
     }
-}
\ No newline at end of file
+}
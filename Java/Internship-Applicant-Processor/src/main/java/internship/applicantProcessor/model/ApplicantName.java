@@ -2,6 +2,7 @@ package internship.applicantProcessor.model;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -16,17 +17,57 @@ public record ApplicantName(
 ) {
     /**
      * Efficiently parses pre-validated full name string.
+     * Splits the trimmed name on runs of whitespace, as {@code split("\\s+")} would, without
+     * a regular expression.
      * @param fullName Guaranteed to be non-null, non-empty, and contain ≥2 names
      * @return Parsed name components
      */
     public static ApplicantName parsePreValidated(@NotNull String fullName) {
         Objects.requireNonNull(fullName, "Full name cannot be null");
-        String[] parts = fullName.trim().split("\\s+");  // Splits by one or more spaces
+        String trimmed = fullName.trim();
+        int firstEnd = partEnd(trimmed, 0);
+        int lastStart = trimmed.length();
+        while (lastStart > firstEnd && !isWhitespace(trimmed.charAt(lastStart - 1))) {
+            lastStart--;
+        }
+        if (lastStart <= firstEnd) {
+            // A single part is both the first and the last name
+            String only = trimmed.substring(0, firstEnd);
+            return new ApplicantName(only, null, only);
+        }
 
-        return new ApplicantName(
-                parts[0],
-                parts.length > 2 ? List.of(parts).subList(1, parts.length - 1) : null,
-                parts[parts.length - 1]
-        );
+        List<String> middleNames = null;
+        int start = partStart(trimmed, firstEnd);
+        if (start < lastStart) {
+            List<String> middles = new ArrayList<>();
+            while (start < lastStart) {
+                int end = partEnd(trimmed, start);
+                middles.add(trimmed.substring(start, end));
+                start = partStart(trimmed, end);
+            }
+            middleNames = List.copyOf(middles);
+        }
+        return new ApplicantName(trimmed.substring(0, firstEnd), middleNames, trimmed.substring(lastStart));
     }
-}
\ No newline at end of file
+
+    private static int partStart(String text, int from) {
+        while (from < text.length() && isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int partEnd(String text, int from) {
+        while (from < text.length() && !isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    /**
+     * Matches the regular expression class {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,169 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.ApplicantName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes applicant emails and names to the byte form used by the byte-backed repositories,
+ * and decodes names back.
+ * <p>
+ * An email is stored as UTF-8. A name is stored as its parts, first, middle and last, each
+ * as a varint length followed by UTF-8; whether the middle names are {@code null} or empty is
+ * kept separately as the middle-name count, see {@link #middleNameCount(ApplicantName)}.
+ * <p>
+ * Encoding writes into reusable scratch arrays that are valid until the next call.
+ * Not thread-safe.
+ */
+final class ApplicantEncoder {
+    /** Middle-name count stored for a name whose middle names are {@code null}. */
+    static final int NO_MIDDLE_NAMES = -1;
+
+    private byte[] emailBytes = new byte[64];
+    private byte[] nameBytes = new byte[64];
+
+    /**
+     * Encodes an email into {@link #emailBytes()}.
+     * @return Number of bytes written
+     */
+    int encodeEmail(String email) {
+        emailBytes = ensureCapacity(emailBytes, email.length() * 3);
+        return encodeUtf8(email, emailBytes, 0);
+    }
+
+    /**
+     * Encodes a name into {@link #nameBytes()}.
+     * @return Number of bytes written
+     */
+    int encodeName(ApplicantName name) {
+        List<String> middleNames = name.middleNames() == null ? List.of() : name.middleNames();
+        int maxLength = (name.firstName().length() + name.lastName().length()) * 3 + 10;
+        for (String middleName : middleNames) {
+            maxLength += middleName.length() * 3 + 5;
+        }
+        nameBytes = ensureCapacity(nameBytes, maxLength);
+
+        int position = encodeNamePart(name.firstName(), 0);
+        for (String middleName : middleNames) {
+            position = encodeNamePart(middleName, position);
+        }
+        return encodeNamePart(name.lastName(), position);
+    }
+
+    byte[] emailBytes() {
+        return emailBytes;
+    }
+
+    byte[] nameBytes() {
+        return nameBytes;
+    }
+
+    /**
+     * Returns a scratch array of at least the given length for reading stored bytes back,
+     * e.g. before {@link #decodeName(byte[], int)}.
+     */
+    byte[] readBuffer(int length) {
+        nameBytes = ensureCapacity(nameBytes, length);
+        return nameBytes;
+    }
+
+    static int middleNameCount(ApplicantName name) {
+        return name.middleNames() == null ? NO_MIDDLE_NAMES : name.middleNames().size();
+    }
+
+    /**
+     * Decodes a name written by {@link #encodeName(ApplicantName)}.
+     * @param bytes Encoded name, starting at index 0
+     * @param middleNameCount Number of middle names, or {@link #NO_MIDDLE_NAMES}
+     */
+    static ApplicantName decodeName(byte[] bytes, int middleNameCount) {
+        int[] position = {0};
+        String firstName = readNamePart(bytes, position);
+        List<String> middleNames = null;
+        if (middleNameCount != NO_MIDDLE_NAMES) {
+            String[] middles = new String[middleNameCount];
+            for (int i = 0; i < middleNameCount; i++) {
+                middles[i] = readNamePart(bytes, position);
+            }
+            middleNames = List.of(middles);
+        }
+        return new ApplicantName(firstName, middleNames, readNamePart(bytes, position));
+    }
+
+    /**
+     * Hashes encoded bytes for the email index.
+     */
+    static int hash(byte[] bytes, int length) {
+        int h = 1;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // Spread the high bits into the low bits used for the bucket
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Reads one length-prefixed name part and advances {@code position[0]} past it.
+     */
+    private static String readNamePart(byte[] bytes, int[] position) {
+        int offset = position[0];
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[offset++];
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        position[0] = offset + length;
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private int encodeNamePart(String part, int position) {
+        // Reserve a one-byte length and move the text only for parts of 128 bytes or more
+        int end = encodeUtf8(part, nameBytes, position + 1);
+        int length = end - position - 1;
+        int lengthBytes = varintSize(length);
+        if (lengthBytes > 1) {
+            System.arraycopy(nameBytes, position + 1, nameBytes, position + lengthBytes, length);
+        }
+        for (int i = 0; i < lengthBytes - 1; i++) {
+            nameBytes[position++] = (byte) (length & 0x7F | 0x80);
+            length >>>= 7;
+        }
+        nameBytes[position] = (byte) length;
+        return end + lengthBytes - 1;
+    }
+
+    /**
+     * Encodes a string as UTF-8 into {@code target} at {@code position}, with a fast path for ASCII.
+     * @return Position after the last written byte
+     */
+    private static int encodeUtf8(String text, byte[] target, int position) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                byte[] bytes = text.substring(i).getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(bytes, 0, target, position, bytes.length);
+                return position + bytes.length;
+            }
+            target[position++] = (byte) c;
+        }
+        return position;
+    }
+
+    private static int varintSize(int value) {
+        int bytes = 1;
+        while ((value >>>= 7) != 0) {
+            bytes++;
+        }
+        return bytes;
+    }
+
+    private static byte[] ensureCapacity(byte[] bytes, int capacity) {
+        return bytes.length >= capacity ? bytes : new byte[Math.max(capacity, bytes.length * 2)];
+    }
+}
@@ -2,10 +2,12 @@ package internship.applicantProcessor.repository;
 
 import internship.applicantProcessor.model.Applicant;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 /**
- * Repository for storing and managing {@link Applicant} records using email as the unique key.
+ * {@link ApplicantStore} for storing and managing {@link Applicant} records in a hash map
+ * using email as the unique key.
  * <p>
  * Key behavior:
  * <ul>
@@ -15,11 +17,14 @@ import java.util.*;
  *   <li><b>Order-sensitive</b>: Duplicate resolution depends on processing order,
  *       not delivery timestamps</li>
  * </ul>
+ * {@link #getStatistics()} aggregates are maintained as applicants are added and replaced.
  *
- * <p><b>Not thread-safe</b>: Concurrent modifications may require external synchronization.
+ * <p><b>Not thread-safe</b>: Concurrent modifications may require external synchronization;
+ * {@link ConcurrentApplicantRepository} accepts writes from several threads.
  */
-public class ApplicantRepository {
+public class ApplicantRepository implements ApplicantStore {
     private final Map<String, Applicant> applicants;
+    private final ApplicantStatistics statistics = new ApplicantStatistics();
 
     /**
      * Constructs an empty repository.
@@ -36,10 +41,15 @@ public class ApplicantRepository {
      * @param applicant the applicant to add (must not be {@code null})
      * @throws NullPointerException if the applicant or their email is {@code null}
      */
+    @Override
     public void addApplicant(@NotNull Applicant applicant) {
         Objects.requireNonNull(applicant, "Applicant cannot be null");
         Objects.requireNonNull(applicant.email(), "Applicant email cannot be null");
-        applicants.put(applicant.email(), applicant);
+        Applicant previous = applicants.put(applicant.email(), applicant);
+        statistics.add(applicant.scoreHundredths(), applicant.deliveryEpochSecond());
+        if (previous != null) {
+            statistics.remove(previous.scoreHundredths(), previous.deliveryEpochSecond());
+        }
     }
 
     /**
@@ -49,10 +59,23 @@ public class ApplicantRepository {
      *
      * @return an unmodifiable view of all applicants
      */
+    @Override
     public @NotNull Collection<Applicant> getApplicants() {
         return Collections.unmodifiableCollection(applicants.values());
     }
 
+    /**
+     * Returns the applicant stored for an email.
+     *
+     * @param email the email to look up (must not be {@code null})
+     * @return the applicant, or {@code null} if none has this email
+     */
+    @Override
+    public @Nullable Applicant findApplicant(@NotNull String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        return applicants.get(email);
+    }
+
     /**
      * Returns the count of unique applicants in the repository.
      * <p>
@@ -60,7 +83,23 @@ public class ApplicantRepository {
      *
      * @return the number of unique applicants
      */
+    @Override
     public int getUniqueApplicantCount() {
         return applicants.size();
     }
+
+    /**
+     * Returns the aggregates over the stored applicants, maintained as they are added.
+     * <p>
+     * The returned object is live: it reflects later additions.
+     *
+     * @return the statistics, never {@code null} for this repository
+     */
+    @Override
+    public @NotNull ApplicantStatistics getStatistics() {
+        if (statistics.isDeliveryRangeStale()) {
+            statistics.recomputeDeliveryRange(applicants.values().stream().mapToLong(Applicant::deliveryEpochSecond));
+        }
+        return statistics;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+
+/**
+ * Aggregates over the applicants of a repository, kept up to date as applicants are added
+ * and replaced, so that statistics can be read without scanning the repository.
+ * <p>
+ * Tracks the number of applicants, the earliest and latest delivery time, and how many
+ * applicants have each score in a {@link ScoreHistogram}. A replaced applicant is retracted
+ * after its replacement is counted.
+ * <p>
+ * The delivery range keeps how many applicants share each extreme. Retracting the last of
+ * them leaves the range stale, since the next extreme is not known; the owning repository
+ * then recomputes it with {@link #recomputeDeliveryRange(LongStream)} before handing the
+ * statistics out. This only happens when a replaced applicant alone held the extreme.
+ * <p>
+ * Statistics of applicants that are not in such a repository are computed in one pass by
+ * {@link #collector()}, which merges partial statistics and so also works on parallel streams.
+ * <p>
+ * Not thread-safe.
+ */
+public final class ApplicantStatistics {
+    private final ScoreHistogram scores = new ScoreHistogram();
+
+    private long earliestDelivery = Long.MAX_VALUE;
+    private long latestDelivery = Long.MIN_VALUE;
+    private int earliestDeliveryCount;
+    private int latestDeliveryCount;
+    private boolean deliveryRangeStale;
+
+    /**
+     * Returns a collector computing the statistics of the applicants in a stream. All
+     * aggregates are exact integers, so a parallel stream gives the same statistics as a
+     * sequential one, whatever the split.
+     * @return A collector of new statistics
+     */
+    public static @NotNull Collector<Applicant, ?, ApplicantStatistics> collector() {
+        return Collector.of(ApplicantStatistics::new,
+                (statistics, applicant) -> statistics.add(applicant.scoreHundredths(), applicant.deliveryEpochSecond()),
+                ApplicantStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Counts an added applicant.
+     */
+    void add(int scoreHundredths, long deliveryEpochSecond) {
+        scores.add(scoreHundredths);
+        if (!deliveryRangeStale) {
+            includeDelivery(deliveryEpochSecond);
+        }
+    }
+
+    /**
+     * Retracts a replaced applicant.
+     */
+    void remove(int scoreHundredths, long deliveryEpochSecond) {
+        scores.remove(scoreHundredths);
+        if (deliveryRangeStale) {
+            return;
+        }
+        if (deliveryEpochSecond == earliestDelivery && --earliestDeliveryCount == 0) {
+            deliveryRangeStale = true;
+        }
+        if (deliveryEpochSecond == latestDelivery && --latestDeliveryCount == 0) {
+            deliveryRangeStale = true;
+        }
+    }
+
+    /**
+     * Adds the applicants counted in other statistics, e.g. of another part of a stream.
+     * @return These statistics
+     */
+    ApplicantStatistics combine(ApplicantStatistics other) {
+        scores.addAll(other.scores);
+        deliveryRangeStale |= other.deliveryRangeStale;
+        if (other.earliestDelivery < earliestDelivery) {
+            earliestDelivery = other.earliestDelivery;
+            earliestDeliveryCount = other.earliestDeliveryCount;
+        } else if (other.earliestDelivery == earliestDelivery) {
+            earliestDeliveryCount += other.earliestDeliveryCount;
+        }
+        if (other.latestDelivery > latestDelivery) {
+            latestDelivery = other.latestDelivery;
+            latestDeliveryCount = other.latestDeliveryCount;
+        } else if (other.latestDelivery == latestDelivery) {
+            latestDeliveryCount += other.latestDeliveryCount;
+        }
+        return this;
+    }
+
+    boolean isDeliveryRangeStale() {
+        return deliveryRangeStale;
+    }
+
+    /**
+     * Rebuilds the delivery range from the delivery times of all current applicants.
+     */
+    void recomputeDeliveryRange(LongStream deliveryEpochSeconds) {
+        earliestDelivery = Long.MAX_VALUE;
+        latestDelivery = Long.MIN_VALUE;
+        earliestDeliveryCount = 0;
+        latestDeliveryCount = 0;
+        deliveryEpochSeconds.forEach(this::includeDelivery);
+        deliveryRangeStale = false;
+    }
+
+    /**
+     * Returns the number of applicants.
+     */
+    public int count() {
+        return scores.count();
+    }
+
+    public boolean isEmpty() {
+        return scores.count() == 0;
+    }
+
+    /**
+     * Returns the live score histogram, for rank, average and percentile queries.
+     */
+    public @NotNull ScoreHistogram scores() {
+        return scores;
+    }
+
+    /**
+     * Returns the earliest delivery time in epoch seconds.
+     * @throws IllegalStateException if there are no applicants
+     */
+    public long earliestDeliveryEpochSecond() {
+        checkNotEmpty();
+        return earliestDelivery;
+    }
+
+    /**
+     * Returns the latest delivery time in epoch seconds.
+     * @throws IllegalStateException if there are no applicants
+     */
+    public long latestDeliveryEpochSecond() {
+        checkNotEmpty();
+        return latestDelivery;
+    }
+
+    /**
+     * Returns the score at a position in descending score order.
+     * @param rank Position, 0 for the highest score
+     * @return Score in hundredths
+     * @throws IndexOutOfBoundsException if {@code rank} is not below {@link #count()}
+     */
+    public int scoreAtRank(int rank) {
+        return scores.scoreAtRank(rank);
+    }
+
+    private void includeDelivery(long deliveryEpochSecond) {
+        if (deliveryEpochSecond < earliestDelivery) {
+            earliestDelivery = deliveryEpochSecond;
+            earliestDeliveryCount = 1;
+        } else if (deliveryEpochSecond == earliestDelivery) {
+            earliestDeliveryCount++;
+        }
+        if (deliveryEpochSecond > latestDelivery) {
+            latestDelivery = deliveryEpochSecond;
+            latestDeliveryCount = 1;
+        } else if (deliveryEpochSecond == latestDelivery) {
+            latestDeliveryCount++;
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No applicants");
+        }
+    }
+}
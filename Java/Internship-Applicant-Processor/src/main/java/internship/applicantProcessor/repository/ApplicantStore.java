@@ -0,0 +1,72 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Storage of {@link Applicant} records using email as the unique key.
+ * <p>
+ * Every implementation keeps the contract of {@link ApplicantRepository}, the map-based store:
+ * <ul>
+ *   <li><b>Last-seen-wins</b>: the last applicant added per email is retained</li>
+ *   <li><b>Read-only views</b>: {@link #getApplicants()} cannot modify the store</li>
+ * </ul>
+ * Implementations differ in memory layout, thread safety and whether they maintain
+ * {@link #getStatistics() statistics}.
+ */
+public interface ApplicantStore {
+
+    /**
+     * Adds or updates an applicant in the store.
+     * <p>
+     * If an applicant with the same email already exists, it will be replaced.
+     *
+     * @param applicant the applicant to add (must not be {@code null})
+     * @throws NullPointerException if the applicant or their email is {@code null}
+     */
+    void addApplicant(@NotNull Applicant applicant);
+
+    /**
+     * Returns all applicants in the store.
+     *
+     * @return an unmodifiable view of all applicants
+     */
+    @NotNull Collection<Applicant> getApplicants();
+
+    /**
+     * Returns the applicant stored for an email.
+     *
+     * @param email the email to look up (must not be {@code null})
+     * @return the applicant, or {@code null} if none has this email
+     */
+    @Nullable Applicant findApplicant(@NotNull String email);
+
+    /**
+     * Returns the count of unique applicants, based on unique email addresses.
+     *
+     * @return the number of unique applicants
+     */
+    int getUniqueApplicantCount();
+
+    /**
+     * Returns the aggregates over the stored applicants, maintained as they are added.
+     * <p>
+     * The returned object is live: it reflects later additions.
+     *
+     * @return the statistics, or {@code null} if this store does not maintain them and
+     *         callers have to compute them from {@link #getApplicants()}
+     */
+    @Nullable ApplicantStatistics getStatistics();
+
+    /**
+     * Returns the number of bytes this store has allocated outside the Java heap.
+     *
+     * @return off-heap bytes, {@code 0} for heap-only stores
+     */
+    default long getOffHeapBytes() {
+        return 0;
+    }
+}
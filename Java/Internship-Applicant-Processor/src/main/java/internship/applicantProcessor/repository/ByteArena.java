@@ -0,0 +1,140 @@
+package internship.applicantProcessor.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only store of byte strings in fixed-size pages, on or off the Java heap.
+ * <p>
+ * An entry is addressed by a {@code long} reference holding its page in the upper and its
+ * offset in the lower 32 bits. Entries never straddle pages, so every entry is one contiguous
+ * slice of a page; an entry larger than a page gets a page of its own. Pages are allocated on
+ * demand, so growth never copies existing data. Direct pages live outside the heap and are
+ * never scanned or moved by the garbage collector.
+ * <p>
+ * Not thread-safe.
+ */
+final class ByteArena {
+    static final int PAGE_SIZE = 1 << 20;
+    private static final int INITIAL_PAGES = 4;
+
+    private final boolean direct;
+    private ByteBuffer[] pages = new ByteBuffer[INITIAL_PAGES];
+    private int pageCount;
+    private int position;
+    private int pageLimit;
+    private long allocatedBytes;
+
+    /**
+     * Creates an empty arena.
+     * @param direct Whether pages are allocated outside the Java heap
+     */
+    ByteArena(boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * Copies bytes into the arena.
+     * @param bytes Source array
+     * @param length Number of bytes to copy from the start of {@code bytes}
+     * @return Reference to the copied entry
+     */
+    long append(byte[] bytes, int length) {
+        if (pageCount == 0 || length > pageLimit - position) {
+            newPage(Math.max(PAGE_SIZE, length));
+        }
+        int page = pageCount - 1;
+        int offset = position;
+        pages[page].put(offset, bytes, 0, length);
+        position += length;
+        return (long) page << 32 | offset;
+    }
+
+    /**
+     * Replaces the start of an existing entry. The new bytes must fit in the old entry.
+     */
+    void overwrite(long ref, byte[] bytes, int length) {
+        pages[page(ref)].put(offset(ref), bytes, 0, length);
+    }
+
+    /**
+     * Compares an entry with the first {@code length} bytes of {@code bytes}.
+     */
+    boolean contentEquals(long ref, byte[] bytes, int length) {
+        ByteBuffer page = pages[page(ref)];
+        int offset = offset(ref);
+        if (page.hasArray()) {
+            int start = page.arrayOffset() + offset;
+            return Arrays.equals(page.array(), start, start + length, bytes, 0, length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (page.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the first {@code length} bytes of an entry into {@code target}.
+     */
+    void copyTo(long ref, byte[] target, int length) {
+        pages[page(ref)].get(offset(ref), target, 0, length);
+    }
+
+    /**
+     * Decodes part of an entry as UTF-8.
+     */
+    String decode(long ref, int from, int length) {
+        ByteBuffer page = pages[page(ref)];
+        if (page.hasArray()) {
+            return new String(page.array(), page.arrayOffset() + offset(ref) + from, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        page.get(offset(ref) + from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of bytes held by allocated pages, used or not.
+     */
+    long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    private void newPage(int size) {
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        pages[pageCount++] = direct ? allocateDirect(size) : ByteBuffer.allocate(size);
+        allocatedBytes += size;
+        position = 0;
+        pageLimit = size;
+    }
+
+    /**
+     * Allocates a direct buffer, naming the JVM flag that limits direct memory if it runs out.
+     * @param size Buffer size in bytes
+     * @throws OutOfMemoryError if the direct memory limit is reached
+     */
+    static ByteBuffer allocateDirect(int size) {
+        try {
+            return ByteBuffer.allocateDirect(size);
+        } catch (OutOfMemoryError e) {
+            OutOfMemoryError error = new OutOfMemoryError("Cannot allocate " + size
+                    + " bytes of direct memory; raise the limit with -XX:MaxDirectMemorySize,"
+                    + " which defaults to the maximum heap size");
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private static int page(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int offset(long ref) {
+        return (int) ref;
+    }
+}
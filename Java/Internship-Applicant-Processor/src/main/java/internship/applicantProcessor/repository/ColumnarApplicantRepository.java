@@ -0,0 +1,262 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link ApplicantStore} that stores applicants column by column in primitive arrays.
+ * <p>
+ * Each applicant occupies one slot across parallel arrays: score in hundredths, delivery in
+ * epoch seconds, and references into a shared {@link ByteArena} holding the UTF-8 email and
+ * name. Emails are found through an open-addressing hash index of slot numbers, so there is
+ * no per-applicant map entry, record or string on the heap. The byte format is described in
+ * {@link ApplicantEncoder}.
+ * <p>
+ * Follows the same contract as {@link ApplicantRepository}: the last added applicant per email
+ * wins. {@link #getApplicants()} is a read-only view that builds {@link Applicant} objects while
+ * iterating, in the order in which each email was first added.
+ *
+ * <p><b>Not thread-safe</b>: Concurrent modifications may require external synchronization.
+ */
+public class ColumnarApplicantRepository implements ApplicantStore {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int EMPTY_INDEX_ENTRY = 0;
+    private static final int MAX_SLOTS = 1 << 30;
+
+    private final ByteArena arena = new ByteArena(false);
+
+    private long[] deliveryEpochSeconds = new long[INITIAL_CAPACITY];
+    private int[] scoreHundredths = new int[INITIAL_CAPACITY];
+    private long[] emailRefs = new long[INITIAL_CAPACITY];
+    private int[] emailLengths = new int[INITIAL_CAPACITY];
+    private int[] emailHashes = new int[INITIAL_CAPACITY];
+    private long[] nameRefs = new long[INITIAL_CAPACITY];
+    private int[] nameLengths = new int[INITIAL_CAPACITY];
+    private int[] middleNameCounts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Slot number + 1 per bucket, 0 when empty; kept at most half full
+    private int[] index = new int[INITIAL_CAPACITY * 2];
+
+    private final ApplicantEncoder encoder = new ApplicantEncoder();
+    private final ApplicantStatistics statistics = new ApplicantStatistics();
+
+    /**
+     * Adds or updates an applicant in the repository.
+     * <p>
+     * If an applicant with the same email already exists, it will be replaced.
+     *
+     * @param applicant the applicant to add (must not be {@code null})
+     * @throws NullPointerException if the applicant or their email is {@code null}
+     */
+    @Override
+    public void addApplicant(@NotNull Applicant applicant) {
+        Objects.requireNonNull(applicant, "Applicant cannot be null");
+        Objects.requireNonNull(applicant.email(), "Applicant email cannot be null");
+
+        int emailLength = encoder.encodeEmail(applicant.email());
+        byte[] emailBytes = encoder.emailBytes();
+        int hash = ApplicantEncoder.hash(emailBytes, emailLength);
+        int mask = index.length - 1;
+        int bucket = hash & mask;
+        int entry;
+        while ((entry = index[bucket]) != EMPTY_INDEX_ENTRY) {
+            int slot = entry - 1;
+            if (emailHashes[slot] == hash && emailLengths[slot] == emailLength
+                    && arena.contentEquals(emailRefs[slot], emailBytes, emailLength)) {
+                int previousScore = scoreHundredths[slot];
+                long previousDelivery = deliveryEpochSeconds[slot];
+                store(slot, applicant);
+                statistics.remove(previousScore, previousDelivery);
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+
+        if (size == MAX_SLOTS) {
+            throw new IllegalStateException("Repository is full: " + size + " applicants");
+        }
+        ensureSlotCapacity();
+        int slot = size++;
+        emailRefs[slot] = arena.append(emailBytes, emailLength);
+        emailLengths[slot] = emailLength;
+        emailHashes[slot] = hash;
+        nameLengths[slot] = -1;
+        store(slot, applicant);
+        index[bucket] = slot + 1;
+        if (size * 2 > index.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Returns all applicants in the repository.
+     * <p>
+     * The returned collection is an unmodifiable view; each iteration builds new
+     * {@link Applicant} objects from the columns.
+     *
+     * @return an unmodifiable view of all applicants
+     */
+    @Override
+    public @NotNull Collection<Applicant> getApplicants() {
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<Applicant> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Applicant next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        return applicantAt(next++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the applicant stored for an email.
+     * <p>
+     * The applicant is built from the stored bytes, so it is a new object on each call.
+     *
+     * @param email the email to look up (must not be {@code null})
+     * @return the applicant, or {@code null} if none has this email
+     */
+    @Override
+    public @Nullable Applicant findApplicant(@NotNull String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        int slot = findSlot(email);
+        return slot < 0 ? null : applicantAt(slot);
+    }
+
+    /**
+     * Returns the count of unique applicants in the repository.
+     * <p>
+     * This count is based on unique email addresses.
+     *
+     * @return the number of unique applicants
+     */
+    @Override
+    public int getUniqueApplicantCount() {
+        return size;
+    }
+
+    /**
+     * Returns the aggregates over the stored applicants, maintained as they are added.
+     *
+     * @return the live statistics
+     */
+    @Override
+    public @NotNull ApplicantStatistics getStatistics() {
+        if (statistics.isDeliveryRangeStale()) {
+            statistics.recomputeDeliveryRange(Arrays.stream(deliveryEpochSeconds, 0, size));
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the number of bytes held by the arena pages, a lower bound for the heap used
+     * by emails and names.
+     */
+    public long getArenaBytes() {
+        return arena.allocatedBytes();
+    }
+
+    /**
+     * Writes the non-key columns of a slot. The name bytes are overwritten in place when
+     * they fit, otherwise appended.
+     */
+    private void store(int slot, Applicant applicant) {
+        int nameLength = encoder.encodeName(applicant.name());
+        if (nameLength <= nameLengths[slot]) {
+            arena.overwrite(nameRefs[slot], encoder.nameBytes(), nameLength);
+        } else {
+            nameRefs[slot] = arena.append(encoder.nameBytes(), nameLength);
+        }
+        nameLengths[slot] = nameLength;
+        middleNameCounts[slot] = ApplicantEncoder.middleNameCount(applicant.name());
+        deliveryEpochSeconds[slot] = applicant.deliveryEpochSecond();
+        scoreHundredths[slot] = applicant.scoreHundredths();
+        statistics.add(applicant.scoreHundredths(), applicant.deliveryEpochSecond());
+    }
+
+    /**
+     * Returns the slot holding an email, or -1 if it is not stored.
+     */
+    private int findSlot(String email) {
+        int emailLength = encoder.encodeEmail(email);
+        byte[] emailBytes = encoder.emailBytes();
+        int hash = ApplicantEncoder.hash(emailBytes, emailLength);
+        int mask = index.length - 1;
+        int entry;
+        for (int bucket = hash & mask; (entry = index[bucket]) != EMPTY_INDEX_ENTRY; bucket = (bucket + 1) & mask) {
+            int slot = entry - 1;
+            if (emailHashes[slot] == hash && emailLengths[slot] == emailLength
+                    && arena.contentEquals(emailRefs[slot], emailBytes, emailLength)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private Applicant applicantAt(int slot) {
+        int nameLength = nameLengths[slot];
+        byte[] nameBytes = encoder.readBuffer(nameLength);
+        arena.copyTo(nameRefs[slot], nameBytes, nameLength);
+        return Applicant.ofCompact(
+                ApplicantEncoder.decodeName(nameBytes, middleNameCounts[slot]),
+                arena.decode(emailRefs[slot], 0, emailLengths[slot]),
+                deliveryEpochSeconds[slot],
+                scoreHundredths[slot]
+        );
+    }
+
+    private void ensureSlotCapacity() {
+        if (size < scoreHundredths.length) {
+            return;
+        }
+        int capacity = (int) Math.min(MAX_SLOTS, scoreHundredths.length * 2L);
+        deliveryEpochSeconds = Arrays.copyOf(deliveryEpochSeconds, capacity);
+        scoreHundredths = Arrays.copyOf(scoreHundredths, capacity);
+        emailRefs = Arrays.copyOf(emailRefs, capacity);
+        emailLengths = Arrays.copyOf(emailLengths, capacity);
+        emailHashes = Arrays.copyOf(emailHashes, capacity);
+        nameRefs = Arrays.copyOf(nameRefs, capacity);
+        nameLengths = Arrays.copyOf(nameLengths, capacity);
+        middleNameCounts = Arrays.copyOf(middleNameCounts, capacity);
+    }
+
+    private void rehash() {
+        int[] newIndex = new int[index.length * 2];
+        int mask = newIndex.length - 1;
+        for (int slot = 0; slot < size; slot++) {
+            int bucket = emailHashes[slot] & mask;
+            while (newIndex[bucket] != EMPTY_INDEX_ENTRY) {
+                bucket = (bucket + 1) & mask;
+            }
+            newIndex[bucket] = slot + 1;
+        }
+        index = newIndex;
+    }
+}
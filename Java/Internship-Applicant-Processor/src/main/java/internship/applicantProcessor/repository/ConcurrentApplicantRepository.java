@@ -0,0 +1,134 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe {@link ApplicantStore} in which the applicant with the highest source
+ * sequence number wins, whatever order the writes arrive in.
+ * <p>
+ * Every write carries the sequence number of its source line (any number that grows along
+ * the input, such as a line number or byte offset). A stored applicant is only replaced by one
+ * with a higher sequence number, and each email also remembers the lowest sequence number
+ * seen for it. Writers on any number of threads, in any interleaving, therefore end in the
+ * same state as a single thread adding the lines in order:
+ * <ul>
+ *   <li><b>Last-seen-wins</b>: the retained applicant per email is the one from the latest line</li>
+ *   <li><b>First-seen order</b>: {@link #getApplicants()} lists emails in order of their first line</li>
+ * </ul>
+ * Writes are atomic per email through {@link ConcurrentHashMap#merge}; writes to different
+ * emails do not block each other. For the same reason no {@link #getStatistics() statistics}
+ * are maintained, since every writer would contend on them.
+ */
+public class ConcurrentApplicantRepository implements ApplicantStore {
+    private static final Comparator<Entry> FIRST_SEEN_ORDER = Comparator.comparingLong(Entry::firstSequence);
+
+    private final ConcurrentHashMap<String, Entry> applicants = new ConcurrentHashMap<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Stored applicant with the sequence numbers that decide replacement and order.
+     * @param firstSequence Lowest sequence number seen for the email
+     * @param sequence Sequence number of {@code applicant}, the highest seen for the email
+     * @param applicant Retained applicant
+     */
+    private record Entry(long firstSequence, long sequence, Applicant applicant) {
+        Entry merge(Entry incoming) {
+            if (incoming.sequence > sequence) {
+                return new Entry(firstSequence, incoming.sequence, incoming.applicant);
+            }
+            return incoming.sequence < firstSequence ? new Entry(incoming.sequence, sequence, applicant) : this;
+        }
+    }
+
+    /**
+     * Adds an applicant with the next sequence number of this repository, so that calls from
+     * a single thread behave like {@link ApplicantRepository#addApplicant}. Do not mix with
+     * {@link #addApplicant(Applicant, long)} on the same repository.
+     *
+     * @param applicant the applicant to add (must not be {@code null})
+     * @throws NullPointerException if the applicant or their email is {@code null}
+     */
+    @Override
+    public void addApplicant(@NotNull Applicant applicant) {
+        addApplicant(applicant, nextSequence.getAndIncrement());
+    }
+
+    /**
+     * Adds an applicant read from the source line with the given sequence number.
+     * <p>
+     * An existing applicant with the same email is replaced only if {@code sequence} is higher
+     * than its own; an equal sequence number keeps the existing applicant.
+     *
+     * @param applicant the applicant to add (must not be {@code null})
+     * @param sequence position of the source line in the input
+     * @throws NullPointerException if the applicant or their email is {@code null}
+     */
+    public void addApplicant(@NotNull Applicant applicant, long sequence) {
+        Objects.requireNonNull(applicant, "Applicant cannot be null");
+        Objects.requireNonNull(applicant.email(), "Applicant email cannot be null");
+        applicants.merge(applicant.email(), new Entry(sequence, sequence, applicant), Entry::merge);
+    }
+
+    /**
+     * Returns all applicants in the repository, in order of the first line seen per email.
+     * <p>
+     * The returned collection is an unmodifiable snapshot; writes that complete during the
+     * call may or may not be included.
+     *
+     * @return an unmodifiable snapshot of all applicants
+     */
+    @Override
+    public @NotNull Collection<Applicant> getApplicants() {
+        List<Entry> entries = new ArrayList<>(applicants.values());
+        entries.sort(FIRST_SEEN_ORDER);
+        List<Applicant> snapshot = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            snapshot.add(entry.applicant());
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * Returns the applicant stored for an email.
+     *
+     * @param email the email to look up (must not be {@code null})
+     * @return the applicant with the highest sequence number seen so far, or {@code null}
+     */
+    @Override
+    public @Nullable Applicant findApplicant(@NotNull String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        Entry entry = applicants.get(email);
+        return entry == null ? null : entry.applicant();
+    }
+
+    /**
+     * Returns the count of unique applicants in the repository.
+     * <p>
+     * This count is based on unique email addresses.
+     *
+     * @return the number of unique applicants
+     */
+    @Override
+    public int getUniqueApplicantCount() {
+        return applicants.size();
+    }
+
+    /**
+     * Returns {@code null}: statistics are computed from {@link #getApplicants()} instead.
+     */
+    @Override
+    public @Nullable ApplicantStatistics getStatistics() {
+        return null;
+    }
+}
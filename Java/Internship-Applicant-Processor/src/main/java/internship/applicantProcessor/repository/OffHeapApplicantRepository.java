@@ -0,0 +1,307 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ApplicantStore} that keeps every applicant outside the Java heap.
+ * <p>
+ * Applicants are fixed-size records in direct {@link ByteBuffer} slabs; emails and names are
+ * stored in a direct {@link ByteArena} in the format described in {@link ApplicantEncoder}.
+ * The email index is an open-addressing table of slot numbers, also in a direct buffer. The
+ * heap only holds the slab and page tables, so the garbage collector has almost nothing to
+ * scan however many applicants are stored.
+ * <p>
+ * Record layout, 48 bytes per slot:
+ * <pre>
+ *  0 long delivery epoch second    24 int score in hundredths
+ *  8 long email reference          28 int email hash
+ * 16 long name reference           32 int email length
+ *                                  36 int name length
+ *                                  40 int middle name count
+ * </pre>
+ * Off-heap memory is released when the repository becomes unreachable and is collected.
+ * <p>
+ * Direct buffers are limited by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum
+ * heap size, so large inputs need the flag raised, e.g. {@code -XX:MaxDirectMemorySize=8g}.
+ * Reaching the limit raises an {@link OutOfMemoryError} that names the flag.
+ * <p>
+ * Follows the same contract as {@link ApplicantRepository}: the last added applicant per email
+ * wins. {@link #getApplicants()} is a read-only view that builds {@link Applicant} objects while
+ * iterating, in the order in which each email was first added.
+ *
+ * <p><b>Not thread-safe</b>: Concurrent modifications may require external synchronization.
+ */
+public class OffHeapApplicantRepository implements ApplicantStore {
+    private static final int RECORD_SIZE = 48;
+    private static final int DELIVERY = 0;
+    private static final int EMAIL_REF = 8;
+    private static final int NAME_REF = 16;
+    private static final int SCORE = 24;
+    private static final int EMAIL_HASH = 28;
+    private static final int EMAIL_LENGTH = 32;
+    private static final int NAME_LENGTH = 36;
+    private static final int MIDDLE_NAME_COUNT = 40;
+
+    private static final int SLAB_SHIFT = 14;
+    private static final int SLAB_RECORDS = 1 << SLAB_SHIFT;
+    private static final int SLAB_MASK = SLAB_RECORDS - 1;
+    private static final int INITIAL_BUCKETS = 1 << 11;
+    private static final int EMPTY_INDEX_ENTRY = 0;
+    // Keeps the index below the 2 GiB limit of a single buffer at half load
+    private static final int MAX_SLOTS = 1 << 27;
+
+    private final ByteArena arena = new ByteArena(true);
+    private final ApplicantEncoder encoder = new ApplicantEncoder();
+    private final ApplicantStatistics statistics = new ApplicantStatistics();
+
+    private ByteBuffer[] slabs = new ByteBuffer[4];
+    private int size;
+
+    // Slot number + 1 per 4-byte bucket, 0 when empty; kept at most half full
+    private ByteBuffer index = ByteArena.allocateDirect(INITIAL_BUCKETS * Integer.BYTES);
+    private int bucketCount = INITIAL_BUCKETS;
+
+    /**
+     * Adds or updates an applicant in the repository.
+     * <p>
+     * If an applicant with the same email already exists, it will be replaced.
+     *
+     * @param applicant the applicant to add (must not be {@code null})
+     * @throws NullPointerException if the applicant or their email is {@code null}
+     * @throws IllegalStateException if the repository already holds the maximum number of applicants
+     */
+    @Override
+    public void addApplicant(@NotNull Applicant applicant) {
+        Objects.requireNonNull(applicant, "Applicant cannot be null");
+        Objects.requireNonNull(applicant.email(), "Applicant email cannot be null");
+
+        int emailLength = encoder.encodeEmail(applicant.email());
+        byte[] emailBytes = encoder.emailBytes();
+        int hash = ApplicantEncoder.hash(emailBytes, emailLength);
+        int mask = bucketCount - 1;
+        int bucket = hash & mask;
+        int entry;
+        while ((entry = index.getInt(bucket * Integer.BYTES)) != EMPTY_INDEX_ENTRY) {
+            int slot = entry - 1;
+            ByteBuffer slab = slab(slot);
+            int base = base(slot);
+            if (slab.getInt(base + EMAIL_HASH) == hash && slab.getInt(base + EMAIL_LENGTH) == emailLength
+                    && arena.contentEquals(slab.getLong(base + EMAIL_REF), emailBytes, emailLength)) {
+                int previousScore = slab.getInt(base + SCORE);
+                long previousDelivery = slab.getLong(base + DELIVERY);
+                store(slab, base, applicant, true);
+                statistics.remove(previousScore, previousDelivery);
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+
+        if (size == MAX_SLOTS) {
+            throw new IllegalStateException("Repository is full: " + size + " applicants");
+        }
+        int slot = size;
+        ByteBuffer slab = ensureSlab(slot);
+        int base = base(slot);
+        slab.putLong(base + EMAIL_REF, arena.append(emailBytes, emailLength));
+        slab.putInt(base + EMAIL_HASH, hash);
+        slab.putInt(base + EMAIL_LENGTH, emailLength);
+        store(slab, base, applicant, false);
+        size++;
+        index.putInt(bucket * Integer.BYTES, slot + 1);
+        if (size * 2 > bucketCount) {
+            rehash();
+        }
+    }
+
+    /**
+     * Returns all applicants in the repository.
+     * <p>
+     * The returned collection is an unmodifiable view; each iteration builds new
+     * {@link Applicant} objects from the off-heap records.
+     *
+     * @return an unmodifiable view of all applicants
+     */
+    @Override
+    public @NotNull Collection<Applicant> getApplicants() {
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<Applicant> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Applicant next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        return applicantAt(next++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the applicant stored for an email.
+     * <p>
+     * The applicant is built from the stored bytes, so it is a new object on each call.
+     *
+     * @param email the email to look up (must not be {@code null})
+     * @return the applicant, or {@code null} if none has this email
+     */
+    @Override
+    public @Nullable Applicant findApplicant(@NotNull String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        int slot = findSlot(email);
+        return slot < 0 ? null : applicantAt(slot);
+    }
+
+    /**
+     * Returns the count of unique applicants in the repository.
+     * <p>
+     * This count is based on unique email addresses.
+     *
+     * @return the number of unique applicants
+     */
+    @Override
+    public int getUniqueApplicantCount() {
+        return size;
+    }
+
+    /**
+     * Returns the aggregates over the stored applicants, maintained as they are added.
+     *
+     * @return the live statistics
+     */
+    @Override
+    public @NotNull ApplicantStatistics getStatistics() {
+        if (statistics.isDeliveryRangeStale()) {
+            statistics.recomputeDeliveryRange(
+                    IntStream.range(0, size).mapToLong(slot -> slab(slot).getLong(base(slot) + DELIVERY)));
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the number of bytes allocated outside the heap for records, index and arena.
+     */
+    @Override
+    public long getOffHeapBytes() {
+        long slabBytes = 0;
+        for (ByteBuffer slab : slabs) {
+            if (slab != null) {
+                slabBytes += slab.capacity();
+            }
+        }
+        return slabBytes + index.capacity() + arena.allocatedBytes();
+    }
+
+    /**
+     * Writes the non-key fields of a record. The name bytes are overwritten in place when
+     * they fit in the previous name, otherwise appended.
+     */
+    private void store(ByteBuffer slab, int base, Applicant applicant, boolean replace) {
+        int nameLength = encoder.encodeName(applicant.name());
+        if (replace && nameLength <= slab.getInt(base + NAME_LENGTH)) {
+            arena.overwrite(slab.getLong(base + NAME_REF), encoder.nameBytes(), nameLength);
+        } else {
+            slab.putLong(base + NAME_REF, arena.append(encoder.nameBytes(), nameLength));
+        }
+        slab.putInt(base + NAME_LENGTH, nameLength);
+        slab.putInt(base + MIDDLE_NAME_COUNT, ApplicantEncoder.middleNameCount(applicant.name()));
+        slab.putLong(base + DELIVERY, applicant.deliveryEpochSecond());
+        slab.putInt(base + SCORE, applicant.scoreHundredths());
+        statistics.add(applicant.scoreHundredths(), applicant.deliveryEpochSecond());
+    }
+
+    /**
+     * Returns the slot holding an email, or -1 if it is not stored.
+     */
+    private int findSlot(String email) {
+        int emailLength = encoder.encodeEmail(email);
+        byte[] emailBytes = encoder.emailBytes();
+        int hash = ApplicantEncoder.hash(emailBytes, emailLength);
+        int mask = bucketCount - 1;
+        int entry;
+        for (int bucket = hash & mask; (entry = index.getInt(bucket * Integer.BYTES)) != EMPTY_INDEX_ENTRY;
+             bucket = (bucket + 1) & mask) {
+            int slot = entry - 1;
+            ByteBuffer slab = slab(slot);
+            int base = base(slot);
+            if (slab.getInt(base + EMAIL_HASH) == hash && slab.getInt(base + EMAIL_LENGTH) == emailLength
+                    && arena.contentEquals(slab.getLong(base + EMAIL_REF), emailBytes, emailLength)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private Applicant applicantAt(int slot) {
+        ByteBuffer slab = slab(slot);
+        int base = base(slot);
+        int nameLength = slab.getInt(base + NAME_LENGTH);
+        byte[] nameBytes = encoder.readBuffer(nameLength);
+        arena.copyTo(slab.getLong(base + NAME_REF), nameBytes, nameLength);
+        return Applicant.ofCompact(
+                ApplicantEncoder.decodeName(nameBytes, slab.getInt(base + MIDDLE_NAME_COUNT)),
+                arena.decode(slab.getLong(base + EMAIL_REF), 0, slab.getInt(base + EMAIL_LENGTH)),
+                slab.getLong(base + DELIVERY),
+                slab.getInt(base + SCORE)
+        );
+    }
+
+    private ByteBuffer slab(int slot) {
+        return slabs[slot >>> SLAB_SHIFT];
+    }
+
+    private static int base(int slot) {
+        return (slot & SLAB_MASK) * RECORD_SIZE;
+    }
+
+    private ByteBuffer ensureSlab(int slot) {
+        int slabIndex = slot >>> SLAB_SHIFT;
+        if (slabIndex == slabs.length) {
+            slabs = Arrays.copyOf(slabs, slabs.length * 2);
+        }
+        if (slabs[slabIndex] == null) {
+            slabs[slabIndex] = ByteArena.allocateDirect(SLAB_RECORDS * RECORD_SIZE);
+        }
+        return slabs[slabIndex];
+    }
+
+    private void rehash() {
+        int newBucketCount = bucketCount * 2;
+        ByteBuffer newIndex = ByteArena.allocateDirect(newBucketCount * Integer.BYTES);
+        int mask = newBucketCount - 1;
+        for (int slot = 0; slot < size; slot++) {
+            int bucket = slab(slot).getInt(base(slot) + EMAIL_HASH) & mask;
+            while (newIndex.getInt(bucket * Integer.BYTES) != EMPTY_INDEX_ENTRY) {
+                bucket = (bucket + 1) & mask;
+            }
+            newIndex.putInt(bucket * Integer.BYTES, slot + 1);
+        }
+        index = newIndex;
+        bucketCount = newBucketCount;
+    }
+}
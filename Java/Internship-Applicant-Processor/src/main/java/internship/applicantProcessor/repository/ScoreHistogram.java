@@ -0,0 +1,204 @@
+package internship.applicantProcessor.repository;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Number of applicants per score, answering rank, average and percentile queries exactly.
+ * <p>
+ * Valid scores take one of the 1001 values from 0.00 to 10.00, so they are counted in a
+ * dense array of that size: adding or removing a score is O(1), and rank and percentile
+ * queries walk the array once, O(1001) whatever the number of applicants. Top averages also
+ * walk it once, but add each averaged score on its own to round like an average over sorted
+ * applicants, so they are O(n) in the number of scores averaged. Scores outside that range
+ * cannot come from validated input but are accepted by {@code Applicant}; they are counted
+ * in a sorted map, which stays empty in practice.
+ * <p>
+ * Scores are in hundredths of a point. Not thread-safe.
+ */
+public final class ScoreHistogram {
+    /** Lowest score counted in the dense array, in hundredths. */
+    public static final int MIN_SCORE = 0;
+    /** Highest score counted in the dense array, in hundredths. */
+    public static final int MAX_SCORE = 1000;
+    private static final double SCORE_SCALE = 100.0;
+
+    private final int[] counts = new int[MAX_SCORE - MIN_SCORE + 1];
+    private final NavigableMap<Integer, Integer> outliers = new TreeMap<>();
+    private int count;
+
+    /**
+     * Builds a histogram of the given scores.
+     * @param scoresHundredths Scores in hundredths
+     * @return A new histogram
+     */
+    public static @NotNull ScoreHistogram of(@NotNull IntStream scoresHundredths) {
+        ScoreHistogram histogram = new ScoreHistogram();
+        scoresHundredths.forEach(histogram::add);
+        return histogram;
+    }
+
+    void add(int score) {
+        count++;
+        if (score >= MIN_SCORE && score <= MAX_SCORE) {
+            counts[score - MIN_SCORE]++;
+        } else {
+            outliers.merge(score, 1, Integer::sum);
+        }
+    }
+
+    void remove(int score) {
+        count--;
+        if (score >= MIN_SCORE && score <= MAX_SCORE) {
+            counts[score - MIN_SCORE]--;
+        } else {
+            outliers.computeIfPresent(score, (s, scoreCount) -> scoreCount == 1 ? null : scoreCount - 1);
+        }
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     */
+    void addAll(ScoreHistogram other) {
+        count += other.count;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        other.outliers.forEach((score, scoreCount) -> outliers.merge(score, scoreCount, Integer::sum));
+    }
+
+    /**
+     * Returns the number of scores counted.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the score at a position in descending order.
+     * @param rank Position, 0 for the highest score
+     * @return Score in hundredths
+     * @throws IndexOutOfBoundsException if {@code rank} is not below {@link #count()}
+     */
+    public int scoreAtRank(int rank) {
+        if (rank < 0 || rank >= count) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for " + count + " applicants");
+        }
+        int remaining = rank;
+        for (Map.Entry<Integer, Integer> entry : outliers.tailMap(MAX_SCORE, false).descendingMap().entrySet()) {
+            if (remaining < entry.getValue()) {
+                return entry.getKey();
+            }
+            remaining -= entry.getValue();
+        }
+        for (int score = MAX_SCORE; score >= MIN_SCORE; score--) {
+            int scoreCount = counts[score - MIN_SCORE];
+            if (remaining < scoreCount) {
+                return score;
+            }
+            remaining -= scoreCount;
+        }
+        for (Map.Entry<Integer, Integer> entry : outliers.headMap(MIN_SCORE, false).descendingMap().entrySet()) {
+            if (remaining < entry.getValue()) {
+                return entry.getKey();
+            }
+            remaining -= entry.getValue();
+        }
+        throw new IllegalStateException("Score counts do not add up to " + count);
+    }
+
+    /**
+     * Returns the number of highest scores that make up a fraction of all scores, rounded up,
+     * so that the top half of 5 scores is 3. The fraction is taken as the decimal it prints
+     * as, so that e.g. 0.1 of 30 is exactly 3.
+     * @param fraction Fraction in (0, 1]
+     * @throws IllegalArgumentException if the fraction is outside (0, 1]
+     */
+    public int topCount(double fraction) {
+        if (!(fraction > 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Fraction must be in (0, 1]: " + fraction);
+        }
+        return BigDecimal.valueOf(fraction).multiply(BigDecimal.valueOf(count))
+                .setScale(0, RoundingMode.CEILING)
+                .intValueExact();
+    }
+
+    /**
+     * Returns the average of the highest scores making up a fraction of all scores, see
+     * {@link #topCount(double)}. The scores are added as doubles in descending order with the
+     * compensated summation of {@link DoubleStream#average()}, so the result is bit-for-bit
+     * that of sorting the applicants by score and averaging the first ones with a stream.
+     * @param fraction Fraction in (0, 1]
+     * @return Average in points, or {@code 0.0} if there are no scores
+     * @throws IllegalArgumentException if the fraction is outside (0, 1]
+     */
+    public double topAverage(double fraction) {
+        int n = topCount(fraction);
+        if (n == 0) {
+            return 0.0;
+        }
+        // Running sum and its compensation, as in DoubleStream.average()
+        double[] sum = new double[2];
+        int remaining = n;
+        for (Map.Entry<Integer, Integer> entry : outliers.tailMap(MAX_SCORE, false).descendingMap().entrySet()) {
+            remaining -= addScores(sum, entry.getKey(), Math.min(remaining, entry.getValue()));
+        }
+        for (int score = MAX_SCORE; score >= MIN_SCORE && remaining > 0; score--) {
+            remaining -= addScores(sum, score, Math.min(remaining, counts[score - MIN_SCORE]));
+        }
+        for (Map.Entry<Integer, Integer> entry : outliers.headMap(MIN_SCORE, false).descendingMap().entrySet()) {
+            remaining -= addScores(sum, entry.getKey(), Math.min(remaining, entry.getValue()));
+        }
+        return (sum[0] - sum[1]) / n;
+    }
+
+    /**
+     * Adds a score in points to a compensated sum a number of times.
+     * @return The number of times added
+     */
+    private static int addScores(double[] sum, int score, int times) {
+        double value = score / SCORE_SCALE;
+        for (int i = 0; i < times; i++) {
+            double corrected = value - sum[1];
+            double next = sum[0] + corrected;
+            sum[1] = (next - sum[0]) - corrected;
+            sum[0] = next;
+        }
+        return times;
+    }
+
+    /**
+     * Returns a percentile of the scores, interpolating linearly between the two nearest
+     * ranks: percentile {@code p} of {@code n} ascending scores lies at position
+     * {@code (n - 1) * p / 100}. The 50th percentile is the median, the average of the two
+     * middle scores for an even count.
+     * @param percentile Percentile in [0, 100]
+     * @return Score in points, or {@code 0.0} if there are no scores
+     * @throws IllegalArgumentException if the percentile is outside [0, 100]
+     */
+    public double percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]: " + percentile);
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        double position = (count - 1) * percentile / 100;
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        // Ascending position i is descending rank count - 1 - i
+        int lowerScore = scoreAtRank(count - 1 - lower);
+        if (upper == lower) {
+            return lowerScore / SCORE_SCALE;
+        }
+        int upperScore = scoreAtRank(count - 1 - upper);
+        return (lowerScore + (position - lower) * (upperScore - lowerScore)) / SCORE_SCALE;
+    }
+}
@@ -0,0 +1,302 @@
+package internship.applicantProcessor.server;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.service.ApplicantService;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * HTTP server answering applicant queries from a dataset that is loaded once and kept in memory.
+ * <p>
+ * Built on the JDK's {@link HttpServer}, with one virtual thread per exchange. Every response
+ * is JSON:
+ * <ul>
+ *   <li>{@code GET /applicants/top?k=N}: last names of the top {@code N} applicants (default 3)</li>
+ *   <li>{@code GET /applicants/count}: number of unique applicants</li>
+ *   <li>{@code GET /applicants/average}: average score of the top half</li>
+ *   <li>{@code GET /applicants?email=E}: the applicant with that email, or 404</li>
+ *   <li>{@code GET /stats}: the output of a batch run on the dataset</li>
+ *   <li>{@code POST /reload}: loads the dataset again</li>
+ * </ul>
+ * Aggregate responses are computed on first request and cached until the next reload, which
+ * swaps in a new dataset with an empty cache; queries are answered from the previous dataset
+ * while it loads. Email lookups are not cached, so arbitrary emails cannot grow the cache.
+ * <p>
+ * Repositories are not safe for concurrent reads, since the byte-backed ones decode through
+ * shared scratch buffers, so cache misses and lookups on one dataset take turns. Cached
+ * responses are served without locking.
+ */
+public final class ApplicantQueryServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantQueryServer.class);
+    /** Number of top applicants returned when {@code k} is not given. */
+    static final int DEFAULT_TOP_COUNT = 3;
+    /** Largest {@code k} accepted, which also bounds the number of cached top applicant responses. */
+    static final int MAX_TOP_COUNT = 1000;
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final DateTimeFormatter DELIVERY_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Loads the dataset served, e.g. with {@code ApplicantsProcessor.ingestApplicants} on the
+     * input. A loader must fail rather than return a partly loaded service.
+     */
+    @FunctionalInterface
+    public interface DatasetLoader {
+        /**
+         * Reads the input into a new service.
+         * @return Service over the loaded applicants
+         * @throws IOException if the input cannot be read or parsed
+         */
+        @NotNull ApplicantService load() throws IOException;
+    }
+
+    private record Response(int status, byte[] body) {
+        static Response ok(byte[] body) {
+            return new Response(200, body);
+        }
+
+        static Response error(int status, String message) {
+            JsonObject error = new JsonObject();
+            error.addProperty("error", message);
+            return new Response(status, GSON.toJson(error).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private final DatasetLoader loader;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Dataset dataset;
+
+    /**
+     * Loads the dataset and binds the server, without starting it.
+     * @param address Address to listen on; port 0 picks a free port
+     * @param loader Loads the dataset now and on each reload
+     * @throws IOException if the dataset cannot be loaded or the address cannot be bound
+     */
+    public ApplicantQueryServer(@NotNull InetSocketAddress address, @NotNull DatasetLoader loader) throws IOException {
+        Objects.requireNonNull(address, "Address cannot be null");
+        this.loader = Objects.requireNonNull(loader, "Dataset loader cannot be null");
+        this.dataset = new Dataset(loader.load());
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts answering requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Loads the dataset again and drops every cached response. Concurrent reloads run one
+     * after the other.
+     * @throws IOException if the dataset cannot be loaded; the previous one is kept
+     */
+    public void reload() throws IOException {
+        reloadLock.lock();
+        try {
+            dataset = new Dataset(loader.load());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the server, closing open exchanges.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Response response;
+            try {
+                response = route(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                        exchange.getRequestURI().getRawQuery());
+            } catch (IllegalArgumentException e) {
+                response = Response.error(400, e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                logger.error("Request failed: {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                response = Response.error(500, "Internal error");
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status(), response.body().length);
+            exchange.getResponseBody().write(response.body());
+        }
+    }
+
+    private Response route(String method, String path, @Nullable String query) throws IOException {
+        if (path.equals("/reload")) {
+            if (!method.equals("POST")) {
+                return Response.error(405, "Use POST for " + path);
+            }
+            reload();
+            return Response.ok(dataset.cached("count", ApplicantQueryServer::countJson));
+        }
+        if (!method.equals("GET")) {
+            return Response.error(405, "Use GET for " + path);
+        }
+
+        Dataset current = dataset;
+        return switch (path) {
+            case "/applicants/top" -> {
+                int count = topCount(queryParameter(query, "k"));
+                yield Response.ok(current.cached("top:" + count, service -> topJson(service, count)));
+            }
+            case "/applicants/count" -> Response.ok(current.cached("count", ApplicantQueryServer::countJson));
+            case "/applicants/average" -> Response.ok(current.cached("average", ApplicantQueryServer::averageJson));
+            case "/stats" -> Response.ok(current.cached("stats", ApplicantService::getJsonFormatOutput));
+            case "/applicants" -> {
+                String email = queryParameter(query, "email");
+                if (email == null || email.isBlank()) {
+                    throw new IllegalArgumentException("Missing email parameter");
+                }
+                Applicant applicant = current.find(email);
+                yield applicant == null ? Response.error(404, "No applicant with email " + email)
+                        : Response.ok(applicantJson(applicant).getBytes(StandardCharsets.UTF_8));
+            }
+            default -> Response.error(404, "Unknown path: " + path);
+        };
+    }
+
+    private static int topCount(@Nullable String value) {
+        if (value == null) {
+            return DEFAULT_TOP_COUNT;
+        }
+        int count;
+        try {
+            count = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid k: " + value, e);
+        }
+        if (count < 0 || count > MAX_TOP_COUNT) {
+            throw new IllegalArgumentException("k must be between 0 and " + MAX_TOP_COUNT + ": " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the decoded value of the first query parameter with the given name, or null.
+     */
+    static @Nullable String queryParameter(@Nullable String rawQuery, @NotNull String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            if (key.equals(name)) {
+                return equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static String topJson(ApplicantService service, int count) {
+        JsonArray lastNames = new JsonArray();
+        service.getTopApplicantsLastNames(count).forEach(lastNames::add);
+        JsonObject json = new JsonObject();
+        json.add("topApplicants", lastNames);
+        return GSON.toJson(json);
+    }
+
+    private static String countJson(ApplicantService service) {
+        JsonObject json = new JsonObject();
+        json.addProperty("uniqueApplicants", service.getUniqueApplicantCount());
+        return GSON.toJson(json);
+    }
+
+    private static String averageJson(ApplicantService service) {
+        JsonObject json = new JsonObject();
+        json.addProperty("averageScore", service.getAverageScoreOfTopHalf());
+        return GSON.toJson(json);
+    }
+
+    private static String applicantJson(Applicant applicant) {
+        JsonObject json = new JsonObject();
+        json.addProperty("firstName", applicant.name().firstName());
+        if (applicant.name().middleNames() != null) {
+            JsonArray middleNames = new JsonArray();
+            applicant.name().middleNames().forEach(middleNames::add);
+            json.add("middleNames", middleNames);
+        }
+        json.addProperty("lastName", applicant.name().lastName());
+        json.addProperty("email", applicant.email());
+        json.addProperty("deliveryDateTime", applicant.deliveryDateTime().dateTime().format(DELIVERY_FORMAT));
+        json.addProperty("score", applicant.score());
+        return GSON.toJson(json);
+    }
+
+    /**
+     * One loaded dataset with the responses computed from it so far.
+     */
+    private static final class Dataset {
+        private final ApplicantService service;
+        private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+        // Not a monitor, so that virtual threads waiting for a turn do not pin their carrier
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Dataset(ApplicantService service) {
+            this.service = service;
+        }
+
+        /**
+         * Returns the cached response under the key, computing it on a miss.
+         */
+        byte[] cached(String key, Function<ApplicantService, String> query) {
+            byte[] response = responses.get(key);
+            if (response != null) {
+                return response;
+            }
+            lock.lock();
+            try {
+                return responses.computeIfAbsent(key, k -> query.apply(service).getBytes(StandardCharsets.UTF_8));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Nullable Applicant find(String email) {
+            lock.lock();
+            try {
+                return service.findApplicant(email);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package internship.applicantProcessor.service;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Ranking order of applicants as primitive keys, computed once per applicant.
+ * <p>
+ * Applicants rank by:
+ * <ol>
+ *   <li>Adjusted score, descending</li>
+ *   <li>Original score, descending</li>
+ *   <li>Delivery time, ascending</li>
+ *   <li>Email, ascending</li>
+ * </ol>
+ * The two scores are packed into one {@code long}, the {@link #primaryKey(Applicant) primary key},
+ * and the delivery time in epoch seconds is the {@link #secondaryKey(Applicant) secondary key}.
+ * Both sort ascending, so comparing applicants is two {@code long} comparisons, with the email
+ * only compared when both keys are equal.
+ */
+public final class ApplicantRanking {
+    /** Final tiebreaker for applicants with equal keys. */
+    public static final Comparator<Applicant> BY_EMAIL = Comparator.comparing(Applicant::email);
+
+    private final long earliestEpochDay;
+    private final long latestEpochDay;
+
+    /**
+     * Creates the ranking for a dataset delivered between the given times.
+     * @param earliest Earliest delivery time in the dataset
+     * @param latest Latest delivery time in the dataset
+     */
+    public ApplicantRanking(@NotNull ApplicantDeliveryDateTime earliest, @NotNull ApplicantDeliveryDateTime latest) {
+        Objects.requireNonNull(earliest, "Earliest delivery cannot be null");
+        Objects.requireNonNull(latest, "Latest delivery cannot be null");
+        this.earliestEpochDay = earliest.epochDay();
+        this.latestEpochDay = latest.epochDay();
+    }
+
+    /**
+     * Returns the adjusted and original score packed so that higher scores give lower keys.
+     */
+    public long primaryKey(@NotNull Applicant applicant) {
+        return pack(applicant.calculateAdjustedScoreHundredths(earliestEpochDay, latestEpochDay),
+                applicant.scoreHundredths());
+    }
+
+    /**
+     * Returns the delivery time, so that earlier deliveries give lower keys.
+     */
+    public static long secondaryKey(@NotNull Applicant applicant) {
+        return applicant.deliveryEpochSecond();
+    }
+
+    /**
+     * Returns a key ordering by original score alone, higher scores first, for datasets where
+     * no adjustments apply.
+     */
+    public static long scoreKey(@NotNull Applicant applicant) {
+        return -(long) applicant.scoreHundredths();
+    }
+
+    /**
+     * Returns the full ranking order as a comparator, best first.
+     */
+    public @NotNull Comparator<Applicant> comparator() {
+        return Comparator.comparingLong(this::primaryKey)
+                .thenComparingLong(ApplicantRanking::secondaryKey)
+                .thenComparing(BY_EMAIL);
+    }
+
+    /**
+     * Packs two descending ints into one ascending long. Each is bit-inverted, which reverses
+     * the order; the lower one also has its sign bit flipped, so that its signed order becomes
+     * the unsigned order of the low 32 bits.
+     */
+    static long pack(int high, int low) {
+        return (long) ~high << 32 | (~low ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+}
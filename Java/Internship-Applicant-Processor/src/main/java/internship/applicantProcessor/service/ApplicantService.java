@@ -1,35 +1,103 @@
 package internship.applicantProcessor.service;
 
+import internship.applicantProcessor.ingest.RejectionReason;
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.metrics.PipelineStage;
+import internship.applicantProcessor.metrics.StageClock;
 import internship.applicantProcessor.model.Applicant;
 import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
-import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.repository.ApplicantStore;
+import internship.applicantProcessor.repository.ApplicantStatistics;
+import internship.applicantProcessor.repository.ScoreHistogram;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import java.util.Comparator;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Service layer for processing applicant data and generating statistics.
  * Handles business logic including score adjustments and ranking calculations.
+ * Also counts rejected rows per {@link RejectionReason}; the counters are
+ * {@link LongAdder}s, so concurrent ingest threads can record rejections cheaply.
+ * <p>
+ * Statistics are read from the repository's incrementally maintained
+ * {@link ApplicantStatistics} when it has them, and computed from its applicants otherwise,
+ * in a single pass. The JSON output reads the applicants once and traverses them at most
+ * twice: once for the statistics, if the repository does not maintain them, and once to
+ * select the top applicants. For large repositories both passes run on parallel streams,
+ * with the same results as sequential passes.
+ * <p>
+ * With enabled {@link PipelineMetrics}, the service counts accepted rows, replacements and
+ * rejections, and times the ranking and the JSON output.
+ * <p>
+ * The service also emits Flight Recorder events for each ranking, each JSON output and each
+ * doubling of the repository, see {@link RankingComputedEvent}, {@link JsonEmittedEvent} and
+ * {@link RepositoryGrowthEvent}. They are disabled by default; while disabled, inserts only
+ * check the event type's enabled flag.
  */
 public class ApplicantService {
     private static final int TOP_APPLICANT_COUNT = 3;
+    // Largest bonus or malus, so adjusted scores lie within this distance of the original
+    private static final int MAX_ADJUSTMENT_HUNDREDTHS = 100;
+    private static final double TOP_HALF = 0.5;
+    private static final int[] REPORTED_PERCENTILES = {10, 25, 50, 75, 90, 99};
+    // Smallest number of applicants for which statistics and top applicants are computed on parallel streams
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    // Repository size reported by the first growth event; later events follow at each doubling
+    private static final long FIRST_GROWTH_EVENT_SIZE = 1 << 10;
 
-    private final ApplicantRepository applicantRepository;
+    private final ApplicantStore applicantRepository;
+    private final OutputOptions outputOptions;
+    private final PipelineMetrics metrics;
+    private final LongAdder[] rejectionCounters = new LongAdder[RejectionReason.values().length];
+    // Replaced under the lock of recordGrowth; a stale read is only used for its type-wide enabled flag
+    private RepositoryGrowthEvent growth = startGrowthEvent();
+    private long nextGrowthSize = FIRST_GROWTH_EVENT_SIZE;
 
     /**
-     * Creates a new ApplicantService with the specified repository.
+     * Creates a new ApplicantService with the specified repository and default output.
      * @param applicantRepository The repository for applicant data access
      */
-    public ApplicantService(@NotNull ApplicantRepository applicantRepository) {
+    public ApplicantService(@NotNull ApplicantStore applicantRepository) {
+        this(applicantRepository, OutputOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a new ApplicantService with the specified repository and output options.
+     * @param applicantRepository The repository for applicant data access
+     * @param outputOptions Optional blocks to include in the JSON output
+     */
+    public ApplicantService(@NotNull ApplicantStore applicantRepository, @NotNull OutputOptions outputOptions) {
+        this(applicantRepository, outputOptions, PipelineMetrics.DISABLED);
+    }
+
+    /**
+     * Creates a new ApplicantService that records its work in pipeline metrics.
+     * @param applicantRepository The repository for applicant data access
+     * @param outputOptions Optional blocks to include in the JSON output
+     * @param metrics Metrics to count rows and time the ranking and output in
+     */
+    public ApplicantService(@NotNull ApplicantStore applicantRepository, @NotNull OutputOptions outputOptions,
+                            @NotNull PipelineMetrics metrics) {
         Objects.requireNonNull(applicantRepository, "applicantRepository must not be null");
+        Objects.requireNonNull(outputOptions, "outputOptions must not be null");
+        Objects.requireNonNull(metrics, "metrics must not be null");
         this.applicantRepository = applicantRepository;
+        this.outputOptions = outputOptions;
+        this.metrics = metrics;
+        for (int i = 0; i < rejectionCounters.length; i++) {
+            rejectionCounters[i] = new LongAdder();
+        }
     }
 
     /**
@@ -38,7 +106,105 @@ public class ApplicantService {
      */
     public void addApplicantToRepository(@NotNull Applicant applicant) {
         Objects.requireNonNull(applicant, "Applicant cannot be null");
-        this.applicantRepository.addApplicant(applicant);
+        if (metrics.isEnabled()) {
+            int before = applicantRepository.getUniqueApplicantCount();
+            applicantRepository.addApplicant(applicant);
+            metrics.recordAccepted(applicantRepository.getUniqueApplicantCount() == before);
+        } else {
+            applicantRepository.addApplicant(applicant);
+        }
+        if (growth.isEnabled()) {
+            recordGrowth();
+        }
+    }
+
+    /**
+     * Adds applicants already merged to one per email, e.g. by a parallel ingest, to the
+     * repository. Their accepted rows are counted by whoever merged them, so only applicants
+     * replacing one added before this call are counted here, as replacements.
+     * @param applicants The applicants to add, with unique emails (must not be null)
+     */
+    public void addMergedApplicantsToRepository(@NotNull Collection<Applicant> applicants) {
+        Objects.requireNonNull(applicants, "Applicants cannot be null");
+        int before = applicantRepository.getUniqueApplicantCount();
+        for (Applicant applicant : applicants) {
+            applicantRepository.addApplicant(Objects.requireNonNull(applicant, "Applicant cannot be null"));
+            if (growth.isEnabled()) {
+                recordGrowth();
+            }
+        }
+        metrics.recordAccepted(0, applicants.size() - (applicantRepository.getUniqueApplicantCount() - before));
+    }
+
+    /**
+     * Counts an insert in the pending growth event, and commits it once the repository has
+     * reached the next power of two of unique applicants.
+     */
+    private synchronized void recordGrowth() {
+        growth.inserts++;
+        int applicants = applicantRepository.getUniqueApplicantCount();
+        if (applicants < nextGrowthSize) {
+            return;
+        }
+        growth.applicants = applicants;
+        growth.commit();
+        growth = startGrowthEvent();
+        while (nextGrowthSize <= applicants) {
+            nextGrowthSize <<= 1;
+        }
+    }
+
+    private static @NotNull RepositoryGrowthEvent startGrowthEvent() {
+        RepositoryGrowthEvent event = new RepositoryGrowthEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Counts one rejected row.
+     * @param reason The reason the row was rejected (must not be null)
+     */
+    public void recordRejection(@NotNull RejectionReason reason) {
+        Objects.requireNonNull(reason, "Reason cannot be null");
+        rejectionCounters[reason.ordinal()].increment();
+        metrics.recordRejected(1);
+    }
+
+    /**
+     * Counts several rejected rows at once, e.g. partial counts from a parallel ingest.
+     * @param reason The reason the rows were rejected (must not be null)
+     * @param count Number of rejected rows
+     */
+    public void recordRejections(@NotNull RejectionReason reason, long count) {
+        Objects.requireNonNull(reason, "Reason cannot be null");
+        rejectionCounters[reason.ordinal()].add(count);
+        metrics.recordRejected(count);
+    }
+
+    /**
+     * Returns the number of rows rejected for a reason so far.
+     * @param reason The rejection reason
+     * @return Number of rejected rows
+     */
+    public long getRejectionCount(@NotNull RejectionReason reason) {
+        Objects.requireNonNull(reason, "Reason cannot be null");
+        return rejectionCounters[reason.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of unique applicants in the repository.
+     */
+    public int getUniqueApplicantCount() {
+        return applicantRepository.getUniqueApplicantCount();
+    }
+
+    /**
+     * Looks up an applicant by email.
+     * @param email The email to look up (must not be null)
+     * @return The applicant, or null if none has this email
+     */
+    public @Nullable Applicant findApplicant(@NotNull String email) {
+        return applicantRepository.findApplicant(email);
     }
 
     /**
@@ -46,10 +212,7 @@ public class ApplicantService {
      * @return The earliest delivery date, or null if no applicants exist
      */
     public @Nullable ApplicantDeliveryDateTime findEarliestDeliveryDate() {
-        return applicantRepository.getApplicants().stream()
-                .map(Applicant::deliveryDateTime)
-                .min(ApplicantDeliveryDateTime::compareTo)
-                .orElse(null);
+        return earliestDeliveryDate(new Snapshot().statistics());
     }
 
     /**
@@ -57,10 +220,17 @@ public class ApplicantService {
      * @return The latest delivery date, or null if no applicants exist
      */
     public @Nullable ApplicantDeliveryDateTime findLatestDeliveryDate() {
-        return applicantRepository.getApplicants().stream()
-                .map(Applicant::deliveryDateTime)
-                .max(ApplicantDeliveryDateTime::compareTo)
-                .orElse(null);
+        return latestDeliveryDate(new Snapshot().statistics());
+    }
+
+    private static @Nullable ApplicantDeliveryDateTime earliestDeliveryDate(@NotNull ApplicantStatistics statistics) {
+        return statistics.isEmpty() ? null
+                : ApplicantDeliveryDateTime.ofEpochSecond(statistics.earliestDeliveryEpochSecond());
+    }
+
+    private static @Nullable ApplicantDeliveryDateTime latestDeliveryDate(@NotNull ApplicantStatistics statistics) {
+        return statistics.isEmpty() ? null
+                : ApplicantDeliveryDateTime.ofEpochSecond(statistics.latestDeliveryEpochSecond());
     }
 
     /**
@@ -72,41 +242,66 @@ public class ApplicantService {
      * Score adjustments:
      * - +1.0 bonus if delivered on first day (earliest date in dataset)
      * - -1.0 penalty if delivered in second half (≥12:00:00) of last day (latest date)
-     * - No adjustments if all applicants delivered on same day
+     * - No adjustments if all applicants delivered on same day, where the original score,
+     *   delivery time and email still decide, so the order never depends on the repository
+     * The ranking keys of each candidate are computed once, see {@link ApplicantRanking}, and
+     * the best {@code count} are selected with a bounded heap in O(n log count). For large
+     * repositories each fork-join task fills its own heap and the heaps are merged, see
+     * {@link TopKSelector#collector}; ties on all four keys cannot occur, since emails are
+     * unique, so the result depends neither on the split nor on the store.
+     * @param snapshot Applicants to rank and their statistics
+     * @param count Number of applicants to return at most
      */
-    private @NotNull List<Applicant> getTopApplicants() {
-        ApplicantDeliveryDateTime earliest = findEarliestDeliveryDate();
-        ApplicantDeliveryDateTime latest = findLatestDeliveryDate();
+    private @NotNull List<Applicant> getTopApplicants(@NotNull Snapshot snapshot, int count) {
+        RankingComputedEvent event = new RankingComputedEvent();
+        event.begin();
+        ApplicantDeliveryDateTime earliest = earliestDeliveryDate(snapshot.statistics());
+        ApplicantDeliveryDateTime latest = latestDeliveryDate(snapshot.statistics());
 
+        Supplier<TopKSelector<Applicant>> selectors;
+        int scoreWindow;
         if (earliest == null || latest == null || earliest.isOnSameDate(latest)) {
             // No adjustments if all delivered same day or no applicants
-            return applicantRepository.getApplicants().stream()
-                    .sorted(Comparator.comparingDouble(Applicant::score).reversed())
-                    .limit(TOP_APPLICANT_COUNT)
-                    .toList();
+            selectors = () -> new TopKSelector<>(count, ApplicantRanking::scoreKey, ApplicantRanking::secondaryKey,
+                    ApplicantRanking.BY_EMAIL);
+            scoreWindow = 0;
+        } else {
+            ApplicantRanking ranking = new ApplicantRanking(earliest, latest);
+            selectors = () -> new TopKSelector<>(count, ranking::primaryKey, ApplicantRanking::secondaryKey,
+                    ApplicantRanking.BY_EMAIL);
+            scoreWindow = 2 * MAX_ADJUSTMENT_HUNDREDTHS;
         }
+        List<Applicant> topApplicants = topApplicantCandidates(snapshot, count, scoreWindow)
+                .collect(TopKSelector.collector(selectors))
+                .toSortedList();
 
-        return applicantRepository.getApplicants().stream()
-                .sorted(createApplicantComparator(earliest, latest))
-                .limit(TOP_APPLICANT_COUNT)
-                .toList();
+        event.end();
+        if (event.shouldCommit()) {
+            event.n = snapshot.statistics().count();
+            event.k = count;
+            event.commit();
+        }
+        return topApplicants;
     }
 
     /**
-     * Creates comparator for sorting applicants by:
-     * 1. Adjusted score (descending)
-     * 2. Original score (descending)
-     * 3. Delivery time (ascending)
-     * 4. Email (ascending)
+     * Returns the applicants that can still rank among the top {@code count}, in repository order.
+     * <p>
+     * An applicant whose score is more than {@code scoreWindow} below the score ranked
+     * {@code count} is left out: after adjustments it stays below, or ties on adjusted score
+     * and loses on original score to, each of the applicants with the highest scores.
+     * @param snapshot Applicants to rank and their statistics
+     * @param count Number of top applicants requested
+     * @param scoreWindow Largest difference in hundredths that adjustments can make up
      */
-    private @NotNull Comparator<Applicant> createApplicantComparator(
-            @NotNull ApplicantDeliveryDateTime earliest,
-            @NotNull ApplicantDeliveryDateTime latest) {
-        return Comparator.comparingDouble((Applicant a) ->
-                        a.calculateAdjustedScore(earliest, latest)).reversed()
-                .thenComparing(Comparator.comparingDouble(Applicant::score).reversed())
-                .thenComparing(Applicant::deliveryDateTime)
-                .thenComparing(Applicant::email);
+    private @NotNull Stream<Applicant> topApplicantCandidates(@NotNull Snapshot snapshot, int count, int scoreWindow) {
+        Stream<Applicant> applicants = stream(snapshot.applicants());
+        ApplicantStatistics statistics = snapshot.statistics();
+        if (count > 0 && statistics.count() > count) {
+            int minimumScore = statistics.scoreAtRank(count - 1) - scoreWindow;
+            applicants = applicants.filter(applicant -> applicant.scoreHundredths() >= minimumScore);
+        }
+        return applicants;
     }
 
     /**
@@ -114,7 +309,21 @@ public class ApplicantService {
      * @return List of last names ordered by ranking
      */
     public @NotNull List<String> getTopApplicantsLastNames() {
-        return getTopApplicants().stream()
+        return getTopApplicantsLastNames(TOP_APPLICANT_COUNT);
+    }
+
+    /**
+     * Gets last names of the given number of top applicants, e.g. for a shortlist round.
+     * @param count Number of applicants to return at most
+     * @return List of last names ordered by ranking
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public @NotNull List<String> getTopApplicantsLastNames(int count) {
+        return lastNames(getTopApplicants(new Snapshot(), count));
+    }
+
+    private static @NotNull List<String> lastNames(@NotNull List<Applicant> applicants) {
+        return applicants.stream()
                 .map(applicant -> applicant.name().lastName())
                 .toList();
     }
@@ -128,21 +337,57 @@ public class ApplicantService {
      * - 6 applicants → top 3 scores averaged
      */
     public double getAverageScoreOfTopHalf() {
-        List<Applicant> sortedApplicants = applicantRepository.getApplicants().stream()
-                .sorted(Comparator.comparingDouble(Applicant::score).reversed())
-                .toList();
+        // For odd counts, rounding the half up gives the larger half (e.g., 5 → 3)
+        return getAverageScoreOfTop(TOP_HALF);
+    }
 
-        if (sortedApplicants.isEmpty()) {
-            return 0.0;
-        }
+    /**
+     * Calculates the average score of the highest-scoring fraction of applicants (before
+     * score adjustments), e.g. 0.1 for the top decile. The number of applicants averaged is
+     * rounded up.
+     * @param fraction Fraction of applicants in (0, 1]
+     * @return The average, or 0.0 if there are no applicants
+     * @throws IllegalArgumentException if the fraction is outside (0, 1]
+     */
+    public double getAverageScoreOfTop(double fraction) {
+        return new Snapshot().statistics().scores().topAverage(fraction);
+    }
 
-        // For odd counts, (n + 1)/2 gives the larger half (e.g., 5 → 3)
-        int topHalfSize = (sortedApplicants.size() + 1) / 2;
-        return sortedApplicants.stream()
-                .limit(topHalfSize)
-                .mapToDouble(Applicant::score)
-                .average()
-                .orElse(0.0);
+    /**
+     * Calculates the median score (before score adjustments), the average of the two middle
+     * scores for an even number of applicants.
+     * @return The median, or 0.0 if there are no applicants
+     */
+    public double getMedianScore() {
+        return getScorePercentile(50);
+    }
+
+    /**
+     * Calculates a percentile of the scores (before score adjustments), interpolating linearly
+     * between the two nearest ranks.
+     * @param percentile Percentile in [0, 100]
+     * @return The score at the percentile, or 0.0 if there are no applicants
+     * @throws IllegalArgumentException if the percentile is outside [0, 100]
+     */
+    public double getScorePercentile(double percentile) {
+        return new Snapshot().statistics().scores().percentile(percentile);
+    }
+
+    /**
+     * Computes the statistics of the given applicants in a single pass, on a parallel stream
+     * for large collections. The result does not depend on how the pass is split.
+     * @param applicants Applicants to aggregate
+     * @return New statistics of the applicants
+     */
+    static @NotNull ApplicantStatistics computeStatistics(@NotNull Collection<Applicant> applicants) {
+        return stream(applicants).collect(ApplicantStatistics.collector());
+    }
+
+    /**
+     * Returns a stream of the applicants, parallel for large collections.
+     */
+    private static @NotNull Stream<Applicant> stream(@NotNull Collection<Applicant> applicants) {
+        return applicants.size() >= PARALLEL_THRESHOLD ? applicants.parallelStream() : applicants.stream();
     }
 
     /**
@@ -151,18 +396,94 @@ public class ApplicantService {
      *         - uniqueApplicants: count
      *         - topApplicants: array of last names
      *         - averageScore: rounded to 2 decimals
+     *         - rejections: rejected rows per reason, if enabled in the output options
+     *         - memory: heap and off-heap bytes in use, if enabled in the output options
+     *         - scorePercentiles: score at selected percentiles, if enabled in the output options
      */
     public @NotNull String getJsonFormatOutput() {
+        StageClock clock = metrics.startClock();
+        Snapshot snapshot = new Snapshot();
+        ScoreHistogram scores = snapshot.statistics().scores();
+        List<String> topApplicants = lastNames(getTopApplicants(snapshot, TOP_APPLICANT_COUNT));
+        double averageScore = scores.topAverage(TOP_HALF);
+        clock.lap(PipelineStage.RANKING);
+
+        JsonEmittedEvent event = new JsonEmittedEvent();
+        event.begin();
         JsonObject jsonObject = new JsonObject();
         jsonObject.addProperty("uniqueApplicants", applicantRepository.getUniqueApplicantCount());
-        jsonObject.add("topApplicants", createTopApplicantsArray());
-        jsonObject.addProperty("averageScore", getAverageScoreOfTopHalf());
-        return GSON.toJson(jsonObject);
+        JsonArray topApplicantsArray = new JsonArray();
+        topApplicants.forEach(topApplicantsArray::add);
+        jsonObject.add("topApplicants", topApplicantsArray);
+        jsonObject.addProperty("averageScore", averageScore);
+        if (outputOptions.includeRejections()) {
+            jsonObject.add("rejections", createRejectionsObject());
+        }
+        if (outputOptions.includeMemoryUsage()) {
+            jsonObject.add("memory", createMemoryObject());
+        }
+        if (outputOptions.includeScorePercentiles()) {
+            jsonObject.add("scorePercentiles", createScorePercentilesObject(scores));
+        }
+        String json = GSON.toJson(jsonObject);
+        clock.lap(PipelineStage.JSON_OUTPUT);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.length = json.length();
+            event.uniqueApplicants = applicantRepository.getUniqueApplicantCount();
+            event.commit();
+        }
+        return json;
+    }
+
+    private @NotNull JsonObject createRejectionsObject() {
+        JsonObject rejections = new JsonObject();
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejections.addProperty(reason.jsonKey(), getRejectionCount(reason));
+        }
+        return rejections;
     }
 
-    private @NotNull JsonArray createTopApplicantsArray() {
-        JsonArray array = new JsonArray();
-        getTopApplicantsLastNames().forEach(array::add);
-        return array;
+    private @NotNull JsonObject createMemoryObject() {
+        JsonObject memory = new JsonObject();
+        memory.addProperty("heapUsedBytes", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        memory.addProperty("offHeapBytes", applicantRepository.getOffHeapBytes());
+        return memory;
+    }
+
+    private @NotNull JsonObject createScorePercentilesObject(@NotNull ScoreHistogram histogram) {
+        JsonObject percentiles = new JsonObject();
+        for (int percentile : REPORTED_PERCENTILES) {
+            percentiles.addProperty("p" + percentile, histogram.percentile(percentile));
+        }
+        return percentiles;
+    }
+
+    /**
+     * The repository's applicants, read at most once, with their statistics: the repository's
+     * own if it maintains them, otherwise computed from the applicants in a single pass.
+     * The applicants are only read when needed, so statistics-only queries on a repository
+     * with statistics do not touch them.
+     */
+    private final class Snapshot {
+        private final ApplicantStatistics statistics;
+        private Collection<Applicant> applicants;
+
+        Snapshot() {
+            ApplicantStatistics maintained = applicantRepository.getStatistics();
+            statistics = maintained != null ? maintained : computeStatistics(applicants());
+        }
+
+        @NotNull Collection<Applicant> applicants() {
+            if (applicants == null) {
+                applicants = applicantRepository.getApplicants();
+            }
+            return applicants;
+        }
+
+        @NotNull ApplicantStatistics statistics() {
+            return statistics;
+        }
     }
-}
\ No newline at end of file
+}
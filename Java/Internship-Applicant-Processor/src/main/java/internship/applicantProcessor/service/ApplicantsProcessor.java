@@ -1,54 +1,179 @@
 package internship.applicantProcessor.service;
 
+import internship.applicantProcessor.ingest.ApplicantRecordParser;
+import internship.applicantProcessor.ingest.ApplicantRowDecoder;
+import internship.applicantProcessor.ingest.DecodedApplicantRow;
+import internship.applicantProcessor.ingest.MappedCsvReader;
+import internship.applicantProcessor.ingest.ParallelApplicantIngest;
+import internship.applicantProcessor.ingest.RejectionReason;
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.metrics.PipelineStage;
+import internship.applicantProcessor.metrics.StageClock;
 import internship.applicantProcessor.model.Applicant;
-import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
-import internship.applicantProcessor.model.ApplicantName;
-import internship.applicantProcessor.utils.ApplicantEntryValidator;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Processes CSV input containing applicant data and delegates to ApplicantService.
  * Handles CSV parsing, validation, and conversion to domain objects.
+ * Invalid rows are counted per {@link RejectionReason} through the service, without exceptions.
+ * <p>
+ * With enabled {@link PipelineMetrics}, rows read are counted and each row's time is split
+ * between CSV decoding, validation, model parsing and the repository insert. The parallel
+ * ingest splits each row the same way on its workers, so its stage times are summed over the
+ * workers rather than wall time.
+ * <p>
+ * Each input parsed is also reported as a {@link BatchParsedEvent} to Flight Recorder. The
+ * event is disabled by default; its counters are then still kept, at the cost of an increment
+ * per row, but the input bytes are only counted on a stream while the event is enabled.
  */
 public class ApplicantsProcessor {
     private static final Logger logger = LoggerFactory.getLogger(ApplicantsProcessor.class);
+    private static final int FIELD_COUNT = 4;
     private final ApplicantService applicantService;
+    private final PipelineMetrics metrics;
 
     /**
      * Creates a new ApplicantsProcessor with the specified service.
      * @param applicantService The service to handle processed applicants
      */
     public ApplicantsProcessor(@NotNull ApplicantService applicantService) {
+        this(applicantService, PipelineMetrics.DISABLED);
+    }
+
+    /**
+     * Creates a new ApplicantsProcessor that records its work in pipeline metrics.
+     * @param applicantService The service to handle processed applicants
+     * @param metrics Metrics to count rows and time the ingest stages in
+     */
+    public ApplicantsProcessor(@NotNull ApplicantService applicantService, @NotNull PipelineMetrics metrics) {
         Objects.requireNonNull(applicantService, "ApplicantService cannot be null");
+        Objects.requireNonNull(metrics, "Metrics cannot be null");
         this.applicantService = applicantService;
+        this.metrics = metrics;
     }
 
     /**
      * Processes CSV input stream containing applicant data.
      * @param csvStream The input stream containing CSV data
-     * @return JSON formatted output of processed applicants
+     * @return JSON formatted output of processed applicants, or {@code "{}"} if the input
+     *         cannot be read or parsed
      */
     public String processApplicants(InputStream csvStream) {
+        try {
+            ingestApplicants(csvStream);
+        } catch (IOException e) {
+            logger.error("Error processing CSV: {}", e.getMessage(), e);
+            return "{}"; // Return an empty JSON-formatted string
+        }
+
+        return applicantService.getJsonFormatOutput();
+    }
+
+    /**
+     * Adds the applicants of a CSV input stream to the service, like
+     * {@link #processApplicants(InputStream)} but without the output, failing instead of
+     * returning an empty result. The service holds part of the input after a failure.
+     * @param csvStream The input stream containing CSV data
+     * @throws IOException if the input cannot be read or parsed
+     */
+    public void ingestApplicants(InputStream csvStream) throws IOException {
         Objects.requireNonNull(csvStream, "CSV stream cannot be null");
-        try (CSVReader csvReader = new CSVReader(new InputStreamReader(csvStream))) {
+        ApplicantRowDecoder decoder = new ApplicantRowDecoder();
+        BatchParsedEvent batch = startBatch("stream");
+        CountingInputStream countingStream = batch.isEnabled() ? new CountingInputStream(csvStream) : null;
+        InputStream input = countingStream != null ? countingStream : csvStream;
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(input))) {
+            StageClock clock = metrics.startClock();
             String[] nextLine;
             while ((nextLine = csvReader.readNext()) != null) {
-                try {
-                    processApplicantLine(nextLine);
-                } catch (IllegalArgumentException e) {
-                     // logger.warn("Skipping invalid line: {}", e.getMessage());
-                }
+                clock.lap(PipelineStage.CSV_DECODE);
+                metrics.recordRowsRead(1);
+                processApplicantLine(nextLine, decoder, clock, batch);
             }
-        } catch (CsvException | IOException e) {
+            clock.lap(PipelineStage.CSV_DECODE);
+            commitBatch(batch, countingStream != null ? countingStream.count() : 0);
+        } catch (CsvException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Processes a CSV file by memory-mapping it and tokenizing the records in place.
+     * <p>
+     * Produces the same output as {@link #processApplicants(InputStream)} on the same content,
+     * but fields are validated on their bytes and strings are only built for valid rows.
+     *
+     * @param csvFile Path of the UTF-8 CSV file
+     * @return JSON formatted output of processed applicants, or {@code "{}"} if the file
+     *         cannot be read or parsed
+     */
+    public String processApplicants(@NotNull Path csvFile) {
+        try {
+            ingestApplicants(csvFile);
+        } catch (IOException e) {
+            logger.error("Error processing CSV: {}", e.getMessage(), e);
+            return "{}"; // Return an empty JSON-formatted string
+        }
+
+        return applicantService.getJsonFormatOutput();
+    }
+
+    /**
+     * Adds the applicants of a memory-mapped CSV file to the service, like
+     * {@link #processApplicants(Path)} but without the output, failing instead of returning
+     * an empty result. The service holds part of the file after a failure.
+     * @param csvFile Path of the UTF-8 CSV file
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public void ingestApplicants(@NotNull Path csvFile) throws IOException {
+        Objects.requireNonNull(csvFile, "CSV file cannot be null");
+        ApplicantRecordParser recordParser = new ApplicantRecordParser();
+        BatchParsedEvent batch = startBatch("mapped");
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            StageClock clock = metrics.startClock();
+            new MappedCsvReader(channel).readAll(record -> {
+                clock.lap(PipelineStage.CSV_DECODE);
+                metrics.recordRowsRead(1);
+                DecodedApplicantRow row = recordParser.parse(record);
+                clock.lap(PipelineStage.VALIDATION);
+                if (row != null) {
+                    acceptRow(row, clock, batch);
+                }
+            });
+            clock.lap(PipelineStage.CSV_DECODE);
+            commitBatch(batch, channel.size());
+        }
+    }
+
+    /**
+     * Processes a CSV file by parsing line-aligned byte ranges in parallel on a fork-join pool.
+     * <p>
+     * Produces the same output as {@link #processApplicants(Path)}: partial results are merged
+     * in file order, so the last valid entry for each email still wins.
+     *
+     * @param csvFile Path of the UTF-8 CSV file
+     * @param pool Pool running the range parsers
+     * @return JSON formatted output of processed applicants, or {@code "{}"} if the file
+     *         cannot be read or parsed
+     */
+    public String processApplicantsInParallel(@NotNull Path csvFile, @NotNull ForkJoinPool pool) {
+        try {
+            ingestApplicantsInParallel(csvFile, pool);
+        } catch (IOException e) {
             logger.error("Error processing CSV: {}", e.getMessage(), e);
             return "{}"; // Return an empty JSON-formatted string
         }
@@ -56,25 +181,100 @@ public class ApplicantsProcessor {
         return applicantService.getJsonFormatOutput();
     }
 
+    /**
+     * Adds the applicants of a CSV file parsed in parallel to the service, like
+     * {@link #processApplicantsInParallel} but without the output, failing instead of
+     * returning an empty result. The service is left unchanged after a failure.
+     * @param csvFile Path of the UTF-8 CSV file
+     * @param pool Pool running the range parsers
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public void ingestApplicantsInParallel(@NotNull Path csvFile, @NotNull ForkJoinPool pool) throws IOException {
+        Objects.requireNonNull(csvFile, "CSV file cannot be null");
+        Objects.requireNonNull(pool, "Fork-join pool cannot be null");
+        BatchParsedEvent batch = startBatch("parallel");
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            ParallelApplicantIngest.Result result = new ParallelApplicantIngest(pool, metrics).ingest(channel);
+            StageClock clock = metrics.startClock();
+            applicantService.addMergedApplicantsToRepository(result.applicants());
+            clock.lap(PipelineStage.REPOSITORY_INSERT);
+            long rejected = 0;
+            for (RejectionReason reason : RejectionReason.values()) {
+                applicantService.recordRejections(reason, result.rejections().get(reason));
+                rejected += result.rejections().get(reason);
+            }
+            batch.accepted = result.acceptedRows();
+            batch.rejected = rejected;
+            commitBatch(batch, channel.size());
+        }
+    }
+
     /**
      * Processes a single line of CSV data representing an applicant.
-     * Validates the line and, if valid, converts it into an Applicant object
-     * and adds it to the repository via the ApplicantService.
+     * Validates and decodes the line in one pass and, if valid, converts it into an
+     * Applicant object and adds it to the repository via the ApplicantService.
+     * Invalid lines are counted as rejections.
      *
      * @param parts The parts of the CSV line, expected to contain:
      *              - parts[0]: Applicant's full name
      *              - parts[1]: Applicant's email
      *              - parts[2]: Delivery date and time in ISO-8601 format
      *              - parts[3]: Applicant's score
-     * @throws IllegalArgumentException if the line contains invalid data
+     * @param decoder Decoder reused across the lines of one input
+     * @param clock Clock timing the stages of the line
+     * @param batch Event counting the rows of the input
      */
-    private void processApplicantLine(String[] parts) {
+    private void processApplicantLine(String[] parts, ApplicantRowDecoder decoder, StageClock clock,
+                                      BatchParsedEvent batch) {
         if (shouldSkipLine(parts)) {
             return;
         }
 
-        Applicant applicant = createValidApplicant(parts);
-        applicantService.addApplicantToRepository(applicant);
+        DecodedApplicantRow row = decodeLine(parts, decoder);
+        clock.lap(PipelineStage.VALIDATION);
+        acceptRow(row, clock, batch);
+    }
+
+    /**
+     * Adds a valid row to the repository, or counts the reason it was rejected.
+     * @param row Decoded row
+     * @param clock Clock timing the model parsing and the insert
+     * @param batch Event counting the rows of the input
+     */
+    private void acceptRow(DecodedApplicantRow row, StageClock clock, BatchParsedEvent batch) {
+        if (row.isValid()) {
+            Applicant applicant = row.toApplicant();
+            clock.lap(PipelineStage.MODEL_PARSE);
+            applicantService.addApplicantToRepository(applicant);
+            clock.lap(PipelineStage.REPOSITORY_INSERT);
+            batch.accepted++;
+        } else {
+            applicantService.recordRejection(row.rejectionReason());
+            batch.rejected++;
+        }
+    }
+
+    private static BatchParsedEvent startBatch(String mode) {
+        BatchParsedEvent batch = new BatchParsedEvent();
+        batch.mode = mode;
+        batch.begin();
+        return batch;
+    }
+
+    private static void commitBatch(BatchParsedEvent batch, long bytes) {
+        batch.end();
+        if (batch.shouldCommit()) {
+            batch.rows = batch.accepted + batch.rejected;
+            batch.bytes = bytes;
+            batch.commit();
+        }
+    }
+
+    private static DecodedApplicantRow decodeLine(String[] parts, ApplicantRowDecoder decoder) {
+        if (parts.length != FIELD_COUNT) {
+            return decoder.reject(RejectionReason.WRONG_FIELD_COUNT);
+        }
+        return decoder.decode(parts[0], parts[1], parts[2], parts[3]);
     }
 
     /**
@@ -91,37 +291,55 @@ public class ApplicantsProcessor {
     /**
      * Creates an Applicant from CSV parts if valid.
      * @param parts CSV line parts (name, email, datetime, score)
-     * @return Valid Applicant or null if invalid
-     * @throws IllegalArgumentException if data is malformed
+     * @return Valid Applicant
+     * @throws IllegalArgumentException if data is malformed, with the rejection reason as message
      */
     public Applicant createValidApplicant(@NotNull String[] parts) {
-        if (parts.length != 4) {
-            throw new IllegalArgumentException("CSV line must have exactly 4 fields");
+        Objects.requireNonNull(parts, "CSV line parts cannot be null");
+        DecodedApplicantRow row = decodeLine(parts, new ApplicantRowDecoder());
+        if (!row.isValid()) {
+            throw new IllegalArgumentException(row.rejectionReason().description());
         }
+        return row.toApplicant();
+    }
 
-        String name = parts[0].trim();
-        String email = parts[1].trim();
-        String deliveryDatetime = parts[2].trim();
-        String score = parts[3].trim();
+    /**
+     * Counts the bytes read through it, for the batch event of a stream.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
 
-        if (!ApplicantEntryValidator.isValidName(name)) {
-            throw new IllegalArgumentException("Invalid applicant name: " + name);
+        CountingInputStream(InputStream in) {
+            super(in);
         }
-        if (!ApplicantEntryValidator.isValidEmail(email)) {
-            throw new IllegalArgumentException("Invalid applicant email: " + email);
+
+        long count() {
+            return count;
         }
-        if (!ApplicantEntryValidator.isValidDeliveryDateTime(deliveryDatetime)) {
-            throw new IllegalArgumentException("Invalid delivery date and time: " + deliveryDatetime);
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
         }
-        if (!ApplicantEntryValidator.isValidScore(score)) {
-            throw new IllegalArgumentException("Invalid applicant score: " + score);
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
         }
 
-        return new Applicant(
-                ApplicantName.parsePreValidated(name),
-                email,
-                ApplicantDeliveryDateTime.parsePreValidated(deliveryDatetime),
-                Double.parseDouble(score)
-        );
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package internship.applicantProcessor.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one CSV input parsed by {@link ApplicantsProcessor}, spanning from
+ * opening the input to the last row added or rejected.
+ * <p>
+ * Disabled by default, like the other events of the pipeline; enable it in a recording with
+ * {@code +internship.applicantProcessor.BatchParsed#enabled=true}.
+ */
+@Name("internship.applicantProcessor.BatchParsed")
+@Label("Applicant Batch Parsed")
+@Category({"Internship Applicant Processor", "Ingest"})
+@Description("A CSV input parsed, validated and added to the repository")
+@Enabled(false)
+@StackTrace(false)
+final class BatchParsedEvent extends Event {
+    @Label("Ingest Mode")
+    @Description("How the input was read: stream, mapped or parallel")
+    String mode;
+
+    @Label("Rows")
+    @Description("Rows validated, accepted or rejected; rows without a name are skipped")
+    long rows;
+
+    @Label("Accepted Rows")
+    long accepted;
+
+    @Label("Rejected Rows")
+    long rejected;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    long bytes;
+}
@@ -0,0 +1,28 @@
+package internship.applicantProcessor.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one JSON output of {@link ApplicantService}, spanning the building
+ * and serialization of the JSON object after the ranking.
+ */
+@Name("internship.applicantProcessor.JsonEmitted")
+@Label("Applicant JSON Emitted")
+@Category({"Internship Applicant Processor", "Output"})
+@Description("Statistics serialized as JSON")
+@Enabled(false)
+@StackTrace(false)
+final class JsonEmittedEvent extends Event {
+    @Label("Length")
+    @Description("Characters in the JSON text")
+    int length;
+
+    @Label("Unique Applicants")
+    int uniqueApplicants;
+}
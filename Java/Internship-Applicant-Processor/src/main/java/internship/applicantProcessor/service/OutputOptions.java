@@ -0,0 +1,26 @@
+package internship.applicantProcessor.service;
+
+/**
+ * Immutable record of the optional parts of the JSON output produced by {@link ApplicantService}.
+ * <p>
+ * The three statistics {@code uniqueApplicants}, {@code topApplicants} and {@code averageScore}
+ * are always present; the options only add blocks.
+ *
+ * @param includeRejections Whether to add a {@code rejections} block with the number of
+ *                          rejected rows per reason
+ * @param includeMemoryUsage Whether to add a {@code memory} block with the heap in use and
+ *                           the bytes the repository holds off-heap
+ * @param includeScorePercentiles Whether to add a {@code scorePercentiles} block with the
+ *                                score at the 10th to 99th percentile
+ */
+public record OutputOptions(boolean includeRejections, boolean includeMemoryUsage, boolean includeScorePercentiles) {
+    /** Output with only the three statistics. */
+    public static final OutputOptions DEFAULT = new OutputOptions(false, false, false);
+
+    /**
+     * Creates output options without score percentiles.
+     */
+    public OutputOptions(boolean includeRejections, boolean includeMemoryUsage) {
+        this(includeRejections, includeMemoryUsage, false);
+    }
+}
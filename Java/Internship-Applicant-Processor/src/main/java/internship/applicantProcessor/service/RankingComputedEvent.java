@@ -0,0 +1,29 @@
+package internship.applicantProcessor.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one top applicant selection of {@link ApplicantService}, from
+ * reading the delivery date range to the sorted result.
+ */
+@Name("internship.applicantProcessor.RankingComputed")
+@Label("Applicant Ranking Computed")
+@Category({"Internship Applicant Processor", "Ranking"})
+@Description("Top applicants selected from the repository")
+@Enabled(false)
+@StackTrace(false)
+final class RankingComputedEvent extends Event {
+    @Label("Applicants")
+    @Description("Number of applicants ranked")
+    int n;
+
+    @Label("Requested")
+    @Description("Number of top applicants requested")
+    int k;
+}
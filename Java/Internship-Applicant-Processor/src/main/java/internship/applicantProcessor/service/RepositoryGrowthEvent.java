@@ -0,0 +1,29 @@
+package internship.applicantProcessor.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the repository of an {@link ApplicantService} doubling in unique
+ * applicants, spanning the inserts since the previous doubling. The spacing of these events
+ * on a timeline shows the insert rate as the repository grows.
+ */
+@Name("internship.applicantProcessor.RepositoryGrowth")
+@Label("Applicant Repository Growth")
+@Category({"Internship Applicant Processor", "Repository"})
+@Description("The repository reached the next power of two of unique applicants")
+@Enabled(false)
+@StackTrace(false)
+final class RepositoryGrowthEvent extends Event {
+    @Label("Unique Applicants")
+    int applicants;
+
+    @Label("Inserts")
+    @Description("Applicants added since the previous event, replacements included")
+    long inserts;
+}
@@ -0,0 +1,228 @@
+package internship.applicantProcessor.service;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the {@code k} best elements offered to it, in O(n log k) time and O(k) space.
+ * <p>
+ * The kept elements form a binary heap with the worst of them at the root, so an offered
+ * element only has to beat the root to get in. Elements that compare equal are ranked by the
+ * order in which they were offered, earlier first, so the result is exactly the first
+ * {@code k} elements of a stable sort of everything offered.
+ * <p>
+ * The order can be given as up to two primitive keys, compared ascending, followed by a
+ * comparator for ties. Keys are computed once per offered element and kept next to it, so
+ * most comparisons are between two {@code long}s and the comparator only runs on equal keys.
+ * <p>
+ * Selectors that were offered consecutive parts of the input can be {@link #merge merged}, so
+ * the parts can be ranked on different threads, see {@link #collector(Supplier)}. Each
+ * selector is still only used by one thread at a time; it is not thread-safe.
+ * @param <T> Element type
+ */
+public final class TopKSelector<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private final ToLongFunction<? super T> primaryKey;
+    private final ToLongFunction<? super T> secondaryKey;
+    private final Comparator<? super T> tieBreak;
+    private Object[] elements;
+    private long[] primaryKeys;
+    private long[] secondaryKeys;
+    private long[] sequences;
+    private int size;
+    private long offered;
+
+    /**
+     * Creates an empty selector ranking by a comparator.
+     * @param k Number of elements to keep
+     * @param order Ranking order, best first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public TopKSelector(int k, @NotNull Comparator<? super T> order) {
+        this(k, element -> 0L, element -> 0L, order);
+    }
+
+    /**
+     * Creates an empty selector ranking by primitive keys.
+     * @param k Number of elements to keep
+     * @param primaryKey First key, lower ranks first
+     * @param secondaryKey Second key for equal first keys, lower ranks first
+     * @param tieBreak Order of elements with equal keys, best first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public TopKSelector(int k, @NotNull ToLongFunction<? super T> primaryKey,
+                        @NotNull ToLongFunction<? super T> secondaryKey, @NotNull Comparator<? super T> tieBreak) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.primaryKey = Objects.requireNonNull(primaryKey, "Primary key cannot be null");
+        this.secondaryKey = Objects.requireNonNull(secondaryKey, "Secondary key cannot be null");
+        this.tieBreak = Objects.requireNonNull(tieBreak, "Order cannot be null");
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        this.elements = new Object[capacity];
+        this.primaryKeys = new long[capacity];
+        this.secondaryKeys = new long[capacity];
+        this.sequences = new long[capacity];
+    }
+
+    /**
+     * Returns a collector that offers the elements of a stream to a selector and returns it.
+     * <p>
+     * On a parallel stream, each part of the stream is offered to its own selector from
+     * {@code selectors}, so the workers share nothing while ranking, and the selectors of
+     * adjacent parts are then {@link #merge merged}. For an ordered stream the result is the
+     * same as offering every element in order to a single selector, ties included.
+     * @param selectors Supplier of empty selectors, all with the same {@code k} and order
+     * @param <T> Element type
+     * @return A collector of the selector holding the best elements
+     */
+    public static <T> @NotNull Collector<T, ?, TopKSelector<T>> collector(
+            @NotNull Supplier<TopKSelector<T>> selectors) {
+        return Collector.of(selectors, TopKSelector::offer, TopKSelector::merge, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Offers an element, keeping it if it ranks among the best {@code k} so far.
+     * @param element Element to offer
+     */
+    public void offer(T element) {
+        long sequence = offered++;
+        if (k == 0) {
+            return;
+        }
+        offer(element, primaryKey.applyAsLong(element), secondaryKey.applyAsLong(element), sequence);
+    }
+
+    /**
+     * Adds the elements kept by another selector, with the same {@code k} and order, that was
+     * offered the elements following those offered to this one. Its elements count as offered
+     * after all of this selector's, so ties rank as if everything had been offered here in order.
+     * Keys are not recomputed.
+     * @param later Selector offered the following elements; not to be used afterwards
+     * @return This selector
+     */
+    public @NotNull TopKSelector<T> merge(@NotNull TopKSelector<T> later) {
+        long offset = offered;
+        for (int i = 0; i < later.size; i++) {
+            offer(later.elementAt(i), later.primaryKeys[i], later.secondaryKeys[i], offset + later.sequences[i]);
+        }
+        offered += later.offered;
+        return this;
+    }
+
+    private void offer(T element, long primary, long secondary, long sequence) {
+        if (size < k) {
+            if (size == elements.length) {
+                int capacity = (int) Math.min(k, size * 2L);
+                elements = Arrays.copyOf(elements, capacity);
+                primaryKeys = Arrays.copyOf(primaryKeys, capacity);
+                secondaryKeys = Arrays.copyOf(secondaryKeys, capacity);
+                sequences = Arrays.copyOf(sequences, capacity);
+            }
+            siftUp(size++, element, primary, secondary, sequence);
+        } else if (compare(0, element, primary, secondary, sequence) > 0) {
+            siftDown(0, element, primary, secondary, sequence);
+        }
+    }
+
+    /**
+     * Returns the number of elements kept so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kept elements, best first.
+     * @return A new modifiable list of at most {@code k} elements
+     */
+    public @NotNull List<T> toSortedList() {
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> compare(a, elementAt(b), primaryKeys[b], secondaryKeys[b], sequences[b]));
+        List<T> sorted = new ArrayList<>(size);
+        for (Integer position : positions) {
+            sorted.add(elementAt(position));
+        }
+        return sorted;
+    }
+
+    /**
+     * Compares the kept element at a position with another element, negative if the kept one
+     * ranks first. Sequences are unique, so only an element with itself compares equal.
+     */
+    private int compare(int position, T element, long primary, long secondary, long sequence) {
+        int comparison = Long.compare(primaryKeys[position], primary);
+        if (comparison == 0) {
+            comparison = Long.compare(secondaryKeys[position], secondary);
+        }
+        if (comparison == 0) {
+            comparison = tieBreak.compare(elementAt(position), element);
+        }
+        return comparison != 0 ? comparison : Long.compare(sequences[position], sequence);
+    }
+
+    private void siftUp(int position, T element, long primary, long secondary, long sequence) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            // Move the parent down while the new element ranks below it
+            if (compare(parent, element, primary, secondary, sequence) > 0) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        set(position, element, primary, secondary, sequence);
+    }
+
+    private void siftDown(int position, T element, long primary, long secondary, long sequence) {
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && compare(right, elementAt(child), primaryKeys[child], secondaryKeys[child],
+                    sequences[child]) > 0) {
+                child = right;
+            }
+            // Stop once the new element ranks below the worse child
+            if (compare(child, element, primary, secondary, sequence) < 0) {
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        set(position, element, primary, secondary, sequence);
+    }
+
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        primaryKeys[to] = primaryKeys[from];
+        secondaryKeys[to] = secondaryKeys[from];
+        sequences[to] = sequences[from];
+    }
+
+    private void set(int position, T element, long primary, long secondary, long sequence) {
+        elements[position] = element;
+        primaryKeys[position] = primary;
+        secondaryKeys[position] = secondary;
+        sequences[position] = sequence;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int position) {
+        return (T) elements[position];
+    }
+}
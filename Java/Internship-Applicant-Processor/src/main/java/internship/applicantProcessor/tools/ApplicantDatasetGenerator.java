@@ -0,0 +1,224 @@
+package internship.applicantProcessor.tools;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Writes synthetic applicant CSV files of any size, for load and scale testing.
+ * <p>
+ * Rows are generated one at a time and written through a buffer, so memory use does not grow
+ * with the row count. The output only depends on the {@link DatasetOptions}: the same options,
+ * seed included, give the same bytes.
+ * <p>
+ * Each row reuses the email of a uniformly chosen earlier row with the duplicate rate, and
+ * breaks at most one validation rule, chosen with the per-rule rates, so that the processor
+ * rejects it for exactly that reason. Emails are derived from a counter, which is all the state
+ * needed to draw duplicates.
+ * <p>
+ * Run with {@code mvn compile exec:java -Pdataset-generator "-Dexec.args=--rows=1000000 --output=big.csv"}.
+ */
+public final class ApplicantDatasetGenerator {
+    /** Header line written before the rows. */
+    public static final String HEADER = "name,email,delivery_datetime,score";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_SCORE_HUNDREDTHS = 1000;
+    private static final String ASCII_LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final String UNICODE_LETTERS = "ăâîșțéèêëöüßñçłżőű";
+    private static final String[] DOMAINS = {"example.com", "mail.example.org", "university.example.edu"};
+
+    /**
+     * Kind of defect of a generated row.
+     */
+    private enum Defect { NONE, NAME, EMAIL, DATE_TIME, SCORE, FIELD_COUNT }
+
+    private static final Defect[] DEFECTS = Defect.values();
+
+    private final DatasetOptions options;
+    private final SplittableRandom random;
+    private final long firstDeliveryEpochSecond;
+    private final double[] defectThresholds;
+    private final StringBuilder line = new StringBuilder(128);
+    private long emails;
+
+    /**
+     * Creates a generator positioned before the first row.
+     * @param options What to generate
+     */
+    public ApplicantDatasetGenerator(@NotNull DatasetOptions options) {
+        this.options = Objects.requireNonNull(options, "Options cannot be null");
+        this.random = new SplittableRandom(options.seed());
+        this.firstDeliveryEpochSecond = options.firstDay().toEpochSecond(LocalTime.MIDNIGHT, ZoneOffset.UTC);
+        // Cumulative rates of the defects after NONE, in enum order
+        double[] rates = {options.badNameRate(), options.badEmailRate(), options.badDateTimeRate(),
+                options.badScoreRate(), options.wrongFieldCountRate()};
+        this.defectThresholds = new double[rates.length];
+        double cumulative = 0;
+        for (int i = 0; i < rates.length; i++) {
+            cumulative += rates[i];
+            defectThresholds[i] = cumulative;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        DatasetOptions options;
+        try {
+            options = DatasetOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        ApplicantDatasetGenerator generator = new ApplicantDatasetGenerator(options);
+        if (options.output() == null) {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            generator.write(out);
+            out.flush();
+        } else {
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    Files.newOutputStream(options.output()), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                generator.write(out);
+            }
+        }
+    }
+
+    /**
+     * Writes the header and all rows. Does not flush or close the writer.
+     * @param out Destination of the UTF-8 CSV text
+     * @throws IOException if writing fails
+     */
+    public void write(@NotNull Writer out) throws IOException {
+        Objects.requireNonNull(out, "Writer cannot be null");
+        out.write(HEADER);
+        out.write('\n');
+        for (long row = 0; row < options.rows(); row++) {
+            line.setLength(0);
+            appendRow(line);
+            out.append(line);
+        }
+    }
+
+    /**
+     * Appends the next row, with its line end.
+     */
+    private void appendRow(StringBuilder out) {
+        Defect defect = nextDefect();
+        boolean unicode = random.nextDouble() < options.unicodeRate();
+
+        appendNamePart(out, unicode);
+        if (defect != Defect.NAME) {
+            if (random.nextDouble() < options.middleNameRate()) {
+                out.append(' ');
+                appendNamePart(out, unicode);
+            }
+            out.append(' ');
+            appendNamePart(out, unicode);
+        }
+
+        out.append(',');
+        appendEmail(out, defect == Defect.EMAIL);
+        out.append(',');
+        appendDeliveryDateTime(out, defect == Defect.DATE_TIME);
+        if (defect != Defect.FIELD_COUNT) {
+            out.append(',');
+            appendScore(out, defect == Defect.SCORE);
+        }
+        out.append('\n');
+    }
+
+    private Defect nextDefect() {
+        double roll = random.nextDouble();
+        for (int i = 0; i < defectThresholds.length; i++) {
+            if (roll < defectThresholds[i]) {
+                return DEFECTS[i + 1];
+            }
+        }
+        return Defect.NONE;
+    }
+
+    /**
+     * Appends a capitalized name part; with Unicode, one letter after the first is non-ASCII.
+     */
+    private void appendNamePart(StringBuilder out, boolean unicode) {
+        int length = random.nextInt(options.minNameLength(), options.maxNameLength() + 1);
+        int unicodeIndex = unicode && length > 1 ? random.nextInt(1, length) : -1;
+        for (int i = 0; i < length; i++) {
+            if (i == unicodeIndex) {
+                out.append(UNICODE_LETTERS.charAt(random.nextInt(UNICODE_LETTERS.length())));
+            } else {
+                char letter = ASCII_LETTERS.charAt(random.nextInt(ASCII_LETTERS.length()));
+                out.append(i == 0 ? Character.toUpperCase(letter) : letter);
+            }
+        }
+    }
+
+    /**
+     * Appends the email of a new applicant or, with the duplicate rate, of an earlier one.
+     * A bad email has no {@code @}.
+     */
+    private void appendEmail(StringBuilder out, boolean bad) {
+        long id = emails > 0 && random.nextDouble() < options.duplicateRate() ? random.nextLong(emails) : emails++;
+        out.append("applicant").append(id).append(bad ? '.' : '@').append(DOMAINS[(int) (id % DOMAINS.length)]);
+    }
+
+    /**
+     * Appends {@code yyyy-MM-ddTHH:mm:ss}. A bad date-time either has a space instead of the
+     * {@code T} or names the 32nd day of the month.
+     */
+    private void appendDeliveryDateTime(StringBuilder out, boolean bad) {
+        long epochSecond = firstDeliveryEpochSecond + random.nextLong((long) options.days() * SECONDS_PER_DAY);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        boolean badDay = bad && random.nextBoolean();
+        appendDigits(out, dateTime.getYear(), 4).append('-');
+        appendDigits(out, dateTime.getMonthValue(), 2).append('-');
+        appendDigits(out, badDay ? 32 : dateTime.getDayOfMonth(), 2).append(bad && !badDay ? ' ' : 'T');
+        appendDigits(out, dateTime.getHour(), 2).append(':');
+        appendDigits(out, dateTime.getMinute(), 2).append(':');
+        appendDigits(out, dateTime.getSecond(), 2);
+    }
+
+    /**
+     * Appends a score from 0 to 10 with two decimals, or 10 without. A bad score is either
+     * above 10 or negative.
+     */
+    private void appendScore(StringBuilder out, boolean bad) {
+        if (bad) {
+            if (random.nextBoolean()) {
+                int excess = random.nextInt(1, 100);
+                out.append("10.");
+                appendDigits(out, excess, 2);
+            } else {
+                out.append('-').append(random.nextInt(1, 10));
+            }
+            return;
+        }
+        int hundredths = random.nextInt(MAX_SCORE_HUNDREDTHS + 1);
+        if (hundredths == MAX_SCORE_HUNDREDTHS) {
+            out.append("10");
+            return;
+        }
+        out.append(hundredths / 100).append('.');
+        appendDigits(out, hundredths % 100, 2);
+    }
+
+    private static StringBuilder appendDigits(StringBuilder out, int value, int width) {
+        String digits = Integer.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            out.append('0');
+        }
+        return out.append(digits);
+    }
+}
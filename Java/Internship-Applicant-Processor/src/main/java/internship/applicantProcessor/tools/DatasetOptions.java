@@ -0,0 +1,189 @@
+package internship.applicantProcessor.tools;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Immutable record of the options accepted by {@link ApplicantDatasetGenerator}.
+ * <p>
+ * Every argument is an option of the form {@code --name=value}:
+ * <ul>
+ *   <li>{@code --rows=N}: number of data rows after the header (default 1000)</li>
+ *   <li>{@code --seed=N}: seed of the random choices; the same options give the same file</li>
+ *   <li>{@code --output=PATH}: file to write, standard output if absent</li>
+ *   <li>{@code --duplicates=R}: share of rows reusing the email of an earlier row</li>
+ *   <li>{@code --bad-name=R}, {@code --bad-email=R}, {@code --bad-datetime=R}, {@code --bad-score=R},
+ *       {@code --wrong-field-count=R}: share of rows breaking that one rule</li>
+ *   <li>{@code --start=yyyy-MM-dd} and {@code --days=N}: delivery times are spread uniformly over
+ *       {@code N} days from the start date (default 2024-01-01 and 7)</li>
+ *   <li>{@code --name-length=MIN-MAX}: letters per name part, uniformly (default 3-10)</li>
+ *   <li>{@code --middle-names=R}: share of names with a middle name</li>
+ *   <li>{@code --unicode=R}: share of names with non-ASCII letters</li>
+ * </ul>
+ * Shares are in [0, 1]; the invalid shares must not add up to more than 1.
+ *
+ * @param rows Number of data rows
+ * @param seed Seed of the random choices
+ * @param output File to write, or {@code null} for standard output
+ * @param duplicateRate Share of rows reusing an earlier email
+ * @param badNameRate Share of rows with a single-word name
+ * @param badEmailRate Share of rows with a malformed email
+ * @param badDateTimeRate Share of rows with a malformed or non-existent delivery date-time
+ * @param badScoreRate Share of rows with a score that is out of range or malformed
+ * @param wrongFieldCountRate Share of rows missing their score field
+ * @param firstDay First delivery day
+ * @param days Number of delivery days
+ * @param minNameLength Fewest letters per name part
+ * @param maxNameLength Most letters per name part
+ * @param middleNameRate Share of names with a middle name
+ * @param unicodeRate Share of names with non-ASCII letters
+ */
+public record DatasetOptions(long rows, long seed, @Nullable Path output, double duplicateRate,
+                             double badNameRate, double badEmailRate, double badDateTimeRate,
+                             double badScoreRate, double wrongFieldCountRate,
+                             @NotNull LocalDate firstDay, int days, int minNameLength, int maxNameLength,
+                             double middleNameRate, double unicodeRate) {
+    /** Options of {@link #parse(String[])} without arguments. */
+    public static final DatasetOptions DEFAULT = new DatasetOptions(1_000, 20240210L, null, 0.0,
+            0.0, 0.0, 0.0, 0.0, 0.0, LocalDate.of(2024, 1, 1), 7, 3, 10, 0.2, 0.1);
+
+    public DatasetOptions {
+        Objects.requireNonNull(firstDay, "First day cannot be null");
+        if (rows < 0) {
+            throw new IllegalArgumentException("Row count cannot be negative: " + rows);
+        }
+        if (days < 1) {
+            throw new IllegalArgumentException("Day count must be positive: " + days);
+        }
+        if (minNameLength < 1 || maxNameLength < minNameLength) {
+            throw new IllegalArgumentException("Invalid name length range: " + minNameLength + "-" + maxNameLength);
+        }
+        checkRate("Duplicate rate", duplicateRate);
+        checkRate("Bad name rate", badNameRate);
+        checkRate("Bad email rate", badEmailRate);
+        checkRate("Bad date-time rate", badDateTimeRate);
+        checkRate("Bad score rate", badScoreRate);
+        checkRate("Wrong field count rate", wrongFieldCountRate);
+        checkRate("Middle name rate", middleNameRate);
+        checkRate("Unicode rate", unicodeRate);
+        checkRate("Total invalid rate", invalidRate(badNameRate, badEmailRate, badDateTimeRate,
+                badScoreRate, wrongFieldCountRate));
+    }
+
+    /**
+     * Returns the share of rows that break a rule.
+     */
+    public double invalidRate() {
+        return invalidRate(badNameRate, badEmailRate, badDateTimeRate, badScoreRate, wrongFieldCountRate);
+    }
+
+    /**
+     * Parses command-line arguments, starting from {@link #DEFAULT}.
+     * @param args Command line arguments
+     * @return Parsed options
+     * @throws IllegalArgumentException if an argument is unknown or has an invalid value
+     */
+    public static @NotNull DatasetOptions parse(@NotNull String[] args) {
+        DatasetOptions defaults = DEFAULT;
+        long rows = defaults.rows;
+        long seed = defaults.seed;
+        Path output = defaults.output;
+        double duplicateRate = defaults.duplicateRate;
+        double badNameRate = defaults.badNameRate;
+        double badEmailRate = defaults.badEmailRate;
+        double badDateTimeRate = defaults.badDateTimeRate;
+        double badScoreRate = defaults.badScoreRate;
+        double wrongFieldCountRate = defaults.wrongFieldCountRate;
+        LocalDate firstDay = defaults.firstDay;
+        int days = defaults.days;
+        int minNameLength = defaults.minNameLength;
+        int maxNameLength = defaults.maxNameLength;
+        double middleNameRate = defaults.middleNameRate;
+        double unicodeRate = defaults.unicodeRate;
+
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --option=value: " + arg);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(2, equals)) {
+                case "rows" -> rows = parseLong("row count", value);
+                case "seed" -> seed = parseLong("seed", value);
+                case "output" -> output = Path.of(value);
+                case "duplicates" -> duplicateRate = parseRate("duplicate rate", value);
+                case "bad-name" -> badNameRate = parseRate("bad name rate", value);
+                case "bad-email" -> badEmailRate = parseRate("bad email rate", value);
+                case "bad-datetime" -> badDateTimeRate = parseRate("bad date-time rate", value);
+                case "bad-score" -> badScoreRate = parseRate("bad score rate", value);
+                case "wrong-field-count" -> wrongFieldCountRate = parseRate("wrong field count rate", value);
+                case "start" -> firstDay = parseDate(value);
+                case "days" -> days = parseInt("day count", value);
+                case "name-length" -> {
+                    int dash = value.indexOf('-');
+                    minNameLength = parseInt("name length", dash < 0 ? value : value.substring(0, dash));
+                    maxNameLength = dash < 0 ? minNameLength : parseInt("name length", value.substring(dash + 1));
+                }
+                case "middle-names" -> middleNameRate = parseRate("middle name rate", value);
+                case "unicode" -> unicodeRate = parseRate("unicode rate", value);
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        return new DatasetOptions(rows, seed, output, duplicateRate, badNameRate, badEmailRate, badDateTimeRate,
+                badScoreRate, wrongFieldCountRate, firstDay, days, minNameLength, maxNameLength,
+                middleNameRate, unicodeRate);
+    }
+
+    private static double invalidRate(double... rates) {
+        double sum = 0;
+        for (double rate : rates) {
+            sum += rate;
+        }
+        return sum;
+    }
+
+    private static void checkRate(String name, double rate) {
+        // Allows for rounding when adding up rates such as 0.1 and 0.2
+        if (!(rate >= 0 && rate <= 1 + 1e-9)) {
+            throw new IllegalArgumentException(name + " must be in [0, 1]: " + rate);
+        }
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private static double parseRate(String name, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid start date: " + value, e);
+        }
+    }
+}
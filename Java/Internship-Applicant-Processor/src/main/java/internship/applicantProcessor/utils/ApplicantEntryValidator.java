@@ -1,43 +1,18 @@
 package internship.applicantProcessor.utils;
 
+import org.jetbrains.annotations.NotNull;
+
 /**
  * Provides strict validation methods for applicant data fields according to task specifications.
  * All validation rules follow exact business requirements for the internship application process.
+ * <p>
+ * Fields are accepted as {@link CharSequence} so that byte-backed views produced by the
+ * ingest layer can be validated without first being decoded into {@link String}s.
+ * Each rule is a single hand-written scan that allocates nothing; the equivalent regular
+ * expressions are kept in {@link RegexApplicantEntryValidator}.
  */
 public class ApplicantEntryValidator {
-    // Regex for ASCII-only emails with exact specification requirements
-    private static final String EMAIL_REGEX =
-            "^[a-zA-Z]" +                   // Must start with letter
-                    "[a-zA-Z0-9._-]*" +             // May contain letters, digits, ._-
-                    "@" +                           // Exactly one @
-                    "[a-zA-Z0-9_-]+" +              // Domain part after @ (no . immediately after)
-                    "\\." +                         // Must contain . after @
-                    "[a-zA-Z0-9._-]*" +             // Optional subdomains
-                    "[a-zA-Z]$";                    // Must end with letter
-
-    // Strict ISO-8601 local datetime format
-    private static final String DATETIME_REGEX =
-            "^\\d{4}" +                     // Year: exactly 4 digits
-                    "-" +                           // Separator: dash (-)
-                    "\\d{2}" +                      // Month: exactly 2 digits
-                    "-" +                           // Separator: dash (-)
-                    "\\d{2}" +                      // Day: exactly 2 digits
-                    "T" +                           // Separator: capital T
-                    "\\d{2}" +                      // Hour: exactly 2 digits (24-hour format)
-                    ":" +                           // Separator: colon (:)
-                    "\\d{2}" +                      // Minutes: exactly 2 digits
-                    ":" +                           // Separator: colon (:)
-                    "\\d{2}$";                      // Seconds: exactly 2 digits
-
-    // Score validation (0-10 with max 2 decimals)
-    private static final String SCORE_REGEX =
-            "^(" +                          // Start of the regex
-                    "10" +                          // Integer 10
-                    "(\\.0{1,2})?" +                // Optional decimals for 10 (e.g., 10.0 or 10.00)
-                    "|" +                           // OR
-                    "[0-9]" +                       // Single digit (0-9)
-                    "(\\.[0-9]{1,2})?" +            // Optional decimals for 0-9 (e.g., 0.1, 0.12)
-                    ")$";
+    private static final int DATETIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
 
     /**
      * Validates a full applicant name according to specification:
@@ -50,14 +25,29 @@ public class ApplicantEntryValidator {
      * @param fullName The name to validate
      * @return true if valid according to specification
      */
-    public static boolean isValidName(String fullName) {
-        if (fullName == null || fullName.trim().isEmpty()) {
+    public static boolean isValidName(CharSequence fullName) {
+        if (fullName == null) {
             return false;
         }
 
-        String[] parts = fullName.trim().split("\\s+");
+        // Same bounds as String.trim(): strip characters <= U+0020 from both ends
+        int start = 0;
+        int end = fullName.length();
+        while (start < end && fullName.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && fullName.charAt(end - 1) <= ' ') {
+            end--;
+        }
 
-        return parts.length >= 2; // Need at least first and last name
+        // The trimmed name starts and ends with a non-whitespace character, so any
+        // whitespace inside it separates at least a first and a last name
+        for (int i = start + 1; i < end - 1; i++) {
+            if (isWhitespace(fullName.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -72,17 +62,45 @@ public class ApplicantEntryValidator {
      * @param email The email to validate
      * @return true if meets all email requirements
      */
-    public static boolean isValidEmail(String email) {
-        if (email == null || email.isEmpty()) {
+    public static boolean isValidEmail(CharSequence email) {
+        return email != null && isValidEmail(email, 0, email.length());
+    }
+
+    /**
+     * Validates the email held in {@code email[start, end)}, with the same rules as
+     * {@link #isValidEmail(CharSequence)}.
+     *
+     * @param email Text containing the email
+     * @param start Start index of the email, inclusive
+     * @param end End index of the email, exclusive
+     * @return true if meets all email requirements
+     */
+    public static boolean isValidEmail(@NotNull CharSequence email, int start, int end) {
+        if (start >= end || !isLetter(email.charAt(start))) {
             return false;
         }
 
-        // Check ASCII-only
-        if (!email.matches("^\\p{ASCII}+$")) {
-            return false;
+        int at = start + 1;
+        while (at < end && email.charAt(at) != '@') {
+            if (!isEmailCharacter(email.charAt(at))) {
+                return false;
+            }
+            at++;
         }
 
-        return email.matches(EMAIL_REGEX);
+        // The domain needs a non-empty label before its first dot and must end with a letter
+        int firstDot = -1;
+        for (int i = at + 1; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                }
+            } else if (!isEmailCharacter(c)) {
+                return false;
+            }
+        }
+        return firstDot > at + 1 && isLetter(email.charAt(end - 1));
     }
 
     /**
@@ -95,9 +113,24 @@ public class ApplicantEntryValidator {
      * @param deliveryDateTime The datetime string to validate
      * @return true if format matches exactly
      */
-    public static boolean isValidDeliveryDateTime(String deliveryDateTime) {
-        return deliveryDateTime != null &&
-                deliveryDateTime.matches(DATETIME_REGEX);
+    public static boolean isValidDeliveryDateTime(CharSequence deliveryDateTime) {
+        if (deliveryDateTime == null || deliveryDateTime.length() != DATETIME_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < DATETIME_LENGTH; i++) {
+            char c = deliveryDateTime.charAt(i);
+            boolean matches = switch (i) {
+                case 4, 7 -> c == '-';
+                case 10 -> c == 'T';
+                case 13, 16 -> c == ':';
+                default -> isDigit(c);
+            };
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -111,15 +144,51 @@ public class ApplicantEntryValidator {
      * @param score The score string to validate
      * @return true if meets all score requirements
      */
-    public static boolean isValidScore(String score) {
-        if (score == null || score.isEmpty()) {
+    public static boolean isValidScore(CharSequence score) {
+        if (score == null || score.isEmpty() || !isDigit(score.charAt(0))) {
             return false;
         }
 
-        return score.matches(SCORE_REGEX);
+        int length = score.length();
+        boolean isTen = length >= 2 && score.charAt(0) == '1' && score.charAt(1) == '0';
+        int integerDigits = isTen ? 2 : 1;
+        if (length == integerDigits) {
+            return true;
+        }
+
+        // One or two decimals, which must be zeros for 10
+        int decimals = length - integerDigits - 1;
+        if (score.charAt(integerDigits) != '.' || decimals < 1 || decimals > 2) {
+            return false;
+        }
+        for (int i = integerDigits + 1; i < length; i++) {
+            char c = score.charAt(i);
+            if (isTen ? c != '0' : !isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Matches the regular expression class {@code \s}: {@code [ \t\n\x0B\f\r]}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 
-        // No additional checks needed since regex
-        // takes care of strings or other non-number
-        // values.
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Matches the email character class {@code [a-zA-Z0-9._-]}.
+     */
+    private static boolean isEmailCharacter(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '-';
     }
-}
\ No newline at end of file
+}
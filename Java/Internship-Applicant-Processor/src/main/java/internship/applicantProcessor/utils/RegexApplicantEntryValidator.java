@@ -0,0 +1,110 @@
+package internship.applicantProcessor.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reference implementation of the applicant field rules, expressed as regular expressions.
+ * <p>
+ * {@link ApplicantEntryValidator} implements the same rules with hand-written scanners;
+ * this class is kept as the readable specification they are tested against.
+ */
+public final class RegexApplicantEntryValidator {
+    // Regex for ASCII-only emails with exact specification requirements
+    private static final String EMAIL_REGEX =
+            "^[a-zA-Z]" +                   // Must start with letter
+                    "[a-zA-Z0-9._-]*" +             // May contain letters, digits, ._-
+                    "@" +                           // Exactly one @
+                    "[a-zA-Z0-9_-]+" +              // Domain part after @ (no . immediately after)
+                    "\\." +                         // Must contain . after @
+                    "[a-zA-Z0-9._-]*" +             // Optional subdomains
+                    "[a-zA-Z]$";                    // Must end with letter
+
+    // Strict ISO-8601 local datetime format
+    private static final String DATETIME_REGEX =
+            "^\\d{4}" +                     // Year: exactly 4 digits
+                    "-" +                           // Separator: dash (-)
+                    "\\d{2}" +                      // Month: exactly 2 digits
+                    "-" +                           // Separator: dash (-)
+                    "\\d{2}" +                      // Day: exactly 2 digits
+                    "T" +                           // Separator: capital T
+                    "\\d{2}" +                      // Hour: exactly 2 digits (24-hour format)
+                    ":" +                           // Separator: colon (:)
+                    "\\d{2}" +                      // Minutes: exactly 2 digits
+                    ":" +                           // Separator: colon (:)
+                    "\\d{2}$";                      // Seconds: exactly 2 digits
+
+    // Score validation (0-10 with max 2 decimals)
+    private static final String SCORE_REGEX =
+            "^(" +                          // Start of the regex
+                    "10" +                          // Integer 10
+                    "(\\.0{1,2})?" +                // Optional decimals for 10 (e.g., 10.0 or 10.00)
+                    "|" +                           // OR
+                    "[0-9]" +                       // Single digit (0-9)
+                    "(\\.[0-9]{1,2})?" +            // Optional decimals for 0-9 (e.g., 0.1, 0.12)
+                    ")$";
+
+    private static final Pattern ASCII_PATTERN = Pattern.compile("^\\p{ASCII}+$");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern DATETIME_PATTERN = Pattern.compile(DATETIME_REGEX);
+    private static final Pattern SCORE_PATTERN = Pattern.compile(SCORE_REGEX);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private RegexApplicantEntryValidator() {
+    }
+
+    /**
+     * Validates a full applicant name: at least two whitespace-separated parts once trimmed.
+     * @param fullName The name to validate
+     * @return true if valid according to specification
+     */
+    public static boolean isValidName(CharSequence fullName) {
+        if (fullName == null || fullName.toString().trim().isEmpty()) {
+            return false;
+        }
+
+        String[] parts = WHITESPACE_PATTERN.split(fullName.toString().trim());
+
+        return parts.length >= 2; // Need at least first and last name
+    }
+
+    /**
+     * Validates an ASCII email address against {@link #EMAIL_REGEX}.
+     * @param email The email to validate
+     * @return true if meets all email requirements
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null || email.isEmpty()) {
+            return false;
+        }
+
+        // Check ASCII-only
+        if (!ASCII_PATTERN.matcher(email).matches()) {
+            return false;
+        }
+
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    /**
+     * Validates delivery datetime against {@link #DATETIME_REGEX}.
+     * @param deliveryDateTime The datetime string to validate
+     * @return true if format matches exactly
+     */
+    public static boolean isValidDeliveryDateTime(CharSequence deliveryDateTime) {
+        return deliveryDateTime != null &&
+                DATETIME_PATTERN.matcher(deliveryDateTime).matches();
+    }
+
+    /**
+     * Validates score against {@link #SCORE_REGEX}.
+     * @param score The score string to validate
+     * @return true if meets all score requirements
+     */
+    public static boolean isValidScore(CharSequence score) {
+        if (score == null || score.isEmpty()) {
+            return false;
+        }
+
+        return SCORE_PATTERN.matcher(score).matches();
+    }
+}
@@ -0,0 +1,101 @@
+package internship.applicantProcessor.ingest;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ByteScanner} that tests {@link ByteVector#SPECIES_PREFERRED} bytes per step, 32 with
+ * AVX2 and 64 with AVX-512, and finishes ranges shorter than a vector byte by byte.
+ * <p>
+ * Vectors load from arrays: in this JDK they only load from buffers through the preview
+ * foreign memory API. Heap buffers are read through their backing array; direct and mapped
+ * buffers are copied one vector at a time into a scratch array, so an instance must not be
+ * shared between threads.
+ * <p>
+ * Compiled by the {@code vector} Maven profile and created reflectively by
+ * {@link ByteScanners}, so the rest of the code base builds and runs without the incubator module.
+ */
+final class VectorByteScanner implements ByteScanner {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private final byte[] scratch = new byte[LANES];
+
+    VectorByteScanner() {
+    }
+
+    @Override
+    public int indexOfSpecial(@NotNull ByteBuffer buffer, int from, int to) {
+        boolean hasArray = buffer.hasArray();
+        int i = from;
+        for (; i <= to - LANES; i += LANES) {
+            ByteVector bytes = load(buffer, hasArray, i);
+            VectorMask<Byte> special = bytes.eq((byte) ',')
+                    .or(bytes.eq((byte) '"'))
+                    .or(bytes.eq((byte) '\\'))
+                    .or(bytes.eq((byte) '\n'))
+                    .or(bytes.eq((byte) '\r'));
+            if (special.anyTrue()) {
+                return i + special.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (ByteScanner.isSpecial(buffer.get(i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int indexOf(@NotNull ByteBuffer buffer, int from, int to, byte value) {
+        boolean hasArray = buffer.hasArray();
+        int i = from;
+        for (; i <= to - LANES; i += LANES) {
+            VectorMask<Byte> found = load(buffer, hasArray, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public boolean isAscii(@NotNull ByteBuffer buffer, int from, int to) {
+        boolean hasArray = buffer.hasArray();
+        int i = from;
+        for (; i <= to - LANES; i += LANES) {
+            // Non-ASCII bytes have the high bit set, so they are negative
+            if (load(buffer, hasArray, i).compare(VectorOperators.LT, (byte) 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads the vector of bytes starting at an index of the buffer.
+     */
+    private ByteVector load(ByteBuffer buffer, boolean hasArray, int index) {
+        if (hasArray) {
+            return ByteVector.fromArray(SPECIES, buffer.array(), buffer.arrayOffset() + index);
+        }
+        buffer.get(index, scratch, 0, LANES);
+        return ByteVector.fromArray(SPECIES, scratch, 0);
+    }
+}
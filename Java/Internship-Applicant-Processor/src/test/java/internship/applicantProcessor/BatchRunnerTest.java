@@ -0,0 +1,245 @@
+package internship.applicantProcessor;
+
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.ApplicantsProcessor;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link BatchRunner}.
+ * Verifies input resolution by directory and glob, per-file results equal to single-file runs,
+ * and the summary.
+ */
+class BatchRunnerTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String HEADER = "name,email,delivery_datetime,score\n";
+    private static final String FIRST_CSV = HEADER
+            + "Ana Pop,ana@example.com,2024-01-01T09:00:00,9.5\n"
+            + "Ion Ionescu,ion@example.com,2024-01-02T13:00:00,8\n";
+    private static final String SECOND_CSV = HEADER
+            + "Radu Dima,radu@example.com,2024-01-01T11:00:00,7\n";
+
+    @TempDir
+    Path tempDir;
+
+    // =================================================
+    // TEST CASES: INPUT RESOLUTION
+    // =================================================
+
+    /**
+     * Verifies that a directory selects the CSV files directly in it, sorted.
+     */
+    @Test
+    void resolve_WithDirectory_ListsCsvFilesSorted() throws IOException {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        Path second = Files.writeString(intake.resolve("b.csv"), SECOND_CSV);
+        Path first = Files.writeString(intake.resolve("a.csv"), FIRST_CSV);
+        Files.writeString(intake.resolve("notes.txt"), "not an input");
+        Files.writeString(Files.createDirectories(intake.resolve("nested")).resolve("c.csv"), SECOND_CSV);
+
+        // When
+        BatchRunner.Inputs inputs = BatchRunner.resolve(intake.toString());
+
+        // Then
+        assertAll(
+                () -> assertEquals(intake, inputs.base(), "Directory should be the base"),
+                () -> assertEquals(List.of(first, second), inputs.files(), "Only CSV files directly inside expected")
+        );
+    }
+
+    /**
+     * Verifies that a recursive glob matches files below the part before its first wildcard.
+     */
+    @Test
+    void resolve_WithRecursiveGlob_MatchesNestedFiles() throws IOException {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        Path top = Files.writeString(intake.resolve("a.csv"), FIRST_CSV);
+        Path nested = Files.writeString(Files.createDirectories(intake.resolve("uni")).resolve("b.csv"), SECOND_CSV);
+        Files.writeString(intake.resolve("uni").resolve("b.txt"), "not an input");
+
+        // When
+        BatchRunner.Inputs flat = BatchRunner.resolve(intake + "/*.csv");
+        BatchRunner.Inputs recursive = BatchRunner.resolve(intake + "/**.csv");
+
+        // Then
+        assertAll(
+                () -> assertEquals(intake, flat.base(), "Part before the wildcard should be the base"),
+                () -> assertEquals(List.of(top), flat.files(), "Single star should not cross directories"),
+                () -> assertEquals(List.of(top, nested), recursive.files(), "Double star should cross directories")
+        );
+    }
+
+    /**
+     * Verifies that a missing directory is reported.
+     */
+    @Test
+    void resolve_WithMissingDirectory_ThrowsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> BatchRunner.resolve(tempDir.resolve("missing").toString()));
+    }
+
+    /**
+     * Verifies that results keep the input's relative path with a JSON extension.
+     */
+    @Test
+    void outputName_WithCsvOrOtherExtension_UsesJsonExtension() {
+        assertAll(
+                () -> assertEquals(Path.of("uni", "a.json"), BatchRunner.outputName(Path.of("uni", "a.csv"))),
+                () -> assertEquals(Path.of("a.csv.gz.json"), BatchRunner.outputName(Path.of("a.csv.gz"))),
+                () -> assertEquals(Path.of("a.txt.json"), BatchRunner.outputName(Path.of("a.txt")))
+        );
+    }
+
+    // =================================================
+    // TEST CASES: RUN
+    // =================================================
+
+    /**
+     * Verifies that each file's result equals a single-file run, in every ingest mode.
+     * @param ingestMode How the files are read
+     */
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(CommandLineOptions.IngestMode.class)
+    void run_WithSeveralFiles_WritesResultPerFile(CommandLineOptions.IngestMode ingestMode) throws Exception {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        Files.writeString(intake.resolve("a.csv"), FIRST_CSV);
+        Files.writeString(Files.createDirectories(intake.resolve("uni")).resolve("b.csv"), SECOND_CSV);
+        Path output = tempDir.resolve("out");
+
+        // When
+        BatchRunner.Summary summary = runner(ingestMode, 1).run(BatchRunner.resolve(intake + "/**.csv"), output);
+
+        // Then
+        assertAll(
+                () -> assertEquals(singleRun(FIRST_CSV), Files.readString(output.resolve("a.json")), "First result"),
+                () -> assertEquals(singleRun(SECOND_CSV), Files.readString(output.resolve("uni").resolve("b.json")),
+                        "Nested result should keep its directory"),
+                () -> assertEquals(0, summary.failures(), "No file should fail"),
+                () -> assertEquals(List.of(2, 1), summary.files().stream().map(BatchRunner.FileResult::uniqueApplicants).toList(),
+                        "Unique applicants per file, in input order")
+        );
+    }
+
+    /**
+     * Verifies that a gzip-compressed file in the directory gives the same result in every ingest mode.
+     * @param ingestMode How the files are read
+     */
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(CommandLineOptions.IngestMode.class)
+    void run_WithGzipFile_WritesDecompressedResult(CommandLineOptions.IngestMode ingestMode) throws Exception {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(intake.resolve("a.csv.gz")))) {
+            out.write(FIRST_CSV.getBytes(StandardCharsets.UTF_8));
+        }
+        Path output = tempDir.resolve("out");
+
+        // When
+        BatchRunner.Summary summary = runner(ingestMode, 1).run(BatchRunner.resolve(intake.toString()), output);
+
+        // Then
+        assertAll(
+                () -> assertEquals(0, summary.failures(), "No file should fail"),
+                () -> assertEquals(singleRun(FIRST_CSV), Files.readString(output.resolve("a.csv.gz.json")),
+                        "Result should equal the uncompressed run")
+        );
+    }
+
+    /**
+     * Verifies that a file and its compressed copy both get a result, and that inputs whose
+     * results would overwrite each other are reported instead.
+     */
+    @Test
+    void run_WithSameNameCompressedAndCollidingFiles_KeepsEveryResult() throws Exception {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        Path plain = Files.writeString(intake.resolve("a.csv"), FIRST_CSV);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(intake.resolve("a.csv.gz")))) {
+            out.write(SECOND_CSV.getBytes(StandardCharsets.UTF_8));
+        }
+        Path colliding = Files.writeString(intake.resolve("a"), SECOND_CSV);
+        Path output = tempDir.resolve("out");
+
+        // When
+        BatchRunner.Summary fromDirectory = runner(CommandLineOptions.IngestMode.STREAM, 2)
+                .run(BatchRunner.resolve(intake.toString()), output);
+        BatchRunner.Summary withCollision = runner(CommandLineOptions.IngestMode.STREAM, 2)
+                .run(new BatchRunner.Inputs(intake, List.of(plain, colliding)), tempDir.resolve("collision"));
+
+        // Then
+        assertAll(
+                () -> assertEquals(0, fromDirectory.failures(), "No file should fail"),
+                () -> assertEquals(singleRun(FIRST_CSV), Files.readString(output.resolve("a.json")), "Plain result"),
+                () -> assertEquals(singleRun(SECOND_CSV), Files.readString(output.resolve("a.csv.gz.json")),
+                        "Compressed result"),
+                () -> assertEquals(1, withCollision.failures(), "Colliding input should fail"),
+                () -> assertNotNull(withCollision.files().get(1).error(), "Second input should report the collision"),
+                () -> assertEquals(singleRun(FIRST_CSV), Files.readString(tempDir.resolve("collision").resolve("a.json")),
+                        "First result should not be overwritten")
+        );
+    }
+
+    /**
+     * Verifies the summary JSON, including a file that disappeared before it was read.
+     */
+    @Test
+    void run_WithMissingFile_ReportsFailureInSummary() throws Exception {
+        // Given
+        Path intake = Files.createDirectories(tempDir.resolve("intake"));
+        Path present = Files.writeString(intake.resolve("a.csv"), FIRST_CSV);
+        Path missing = intake.resolve("gone.csv");
+        BatchRunner.Inputs inputs = new BatchRunner.Inputs(intake, List.of(present, missing));
+
+        // When
+        BatchRunner.Summary summary = runner(CommandLineOptions.IngestMode.STREAM, 4).run(inputs, tempDir.resolve("out"));
+        JsonObject json = JsonParser.parseString(summary.toJson()).getAsJsonObject();
+
+        // Then
+        JsonArray files = json.getAsJsonArray("files");
+        assertAll(
+                () -> assertEquals(1, json.get("failures").getAsLong(), "One failure expected"),
+                () -> assertEquals(Files.size(present), json.get("totalBytes").getAsLong(), "Bytes of read files expected"),
+                () -> assertEquals(Files.size(present), files.get(0).getAsJsonObject().get("bytes").getAsLong()),
+                () -> assertTrue(files.get(0).getAsJsonObject().has("megabytesPerSecond"), "Throughput expected"),
+                () -> assertTrue(files.get(1).getAsJsonObject().has("error"), "Missing file should report an error")
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static BatchRunner runner(CommandLineOptions.IngestMode ingestMode, int concurrency) {
+        return new BatchRunner(() -> new ApplicantService(new ApplicantRepository()), PipelineMetrics.DISABLED,
+                ingestMode, 2, concurrency);
+    }
+
+    private static String singleRun(String csv) {
+        return new ApplicantsProcessor(new ApplicantService(new ApplicantRepository()))
+                .processApplicants(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,253 @@
+package internship.applicantProcessor;
+
+import internship.applicantProcessor.service.OutputOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link CommandLineOptions}.
+ * Verifies positional input handling, option parsing and defaults.
+ */
+class CommandLineOptionsTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String DEFAULT_FILE = "input.csv";
+
+    // =================================================
+    // TEST CASES: INPUT FILE
+    // =================================================
+
+    /**
+     * Verifies that the default file and stream ingest are used without arguments.
+     */
+    @Test
+    void parse_WithNoArguments_UsesDefaults() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[0], DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals(DEFAULT_FILE, options.inputFile(), "Should fall back to default file"),
+                () -> assertEquals(CommandLineOptions.IngestMode.STREAM, options.ingestMode(),
+                        "Should default to stream ingest"),
+                () -> assertFalse(options.outputOptions().includeRejections(), "Rejections should be off by default"),
+                () -> assertEquals(CommandLineOptions.StoreMode.MAP, options.storeMode(), "Should default to map store"),
+                () -> assertFalse(options.metrics(), "Metrics should be off by default"),
+                () -> assertFalse(options.serve(), "Should print the output once by default")
+        );
+    }
+
+    /**
+     * Verifies that a blank first argument selects the default file, like before options existed.
+     */
+    @Test
+    void parse_WithBlankFirstArgument_UsesDefaultFile() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{" ", "other.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertEquals(DEFAULT_FILE, options.inputFile(), "Blank argument should select default file");
+    }
+
+    /**
+     * Verifies that a dash names standard input, which the server cannot reload.
+     */
+    @Test
+    void parse_WithDash_SelectsStandardInput() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"-"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals(InputSources.STANDARD_INPUT, options.inputFile(), "Dash should be the input"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CommandLineOptions.parse(new String[]{"--serve=8080", "-"}, DEFAULT_FILE),
+                        "Server mode should reject standard input")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: OPTIONS
+    // =================================================
+
+    /**
+     * Verifies that options may appear before or after the input file.
+     */
+    @Test
+    void parse_WithIngestOption_SelectsMappedMode() {
+        // When
+        CommandLineOptions before = CommandLineOptions.parse(new String[]{"--ingest=mapped", "data.csv"}, DEFAULT_FILE);
+        CommandLineOptions after = CommandLineOptions.parse(new String[]{"data.csv", "--ingest=MAPPED"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals("data.csv", before.inputFile(), "Option should not be taken as file"),
+                () -> assertEquals(CommandLineOptions.IngestMode.MAPPED, before.ingestMode(), "Mapped mode expected"),
+                () -> assertEquals(CommandLineOptions.IngestMode.MAPPED, after.ingestMode(), "Mode is case-insensitive")
+        );
+    }
+
+    /**
+     * Verifies that the parallel mode and thread count are parsed together.
+     */
+    @Test
+    void parse_WithParallelOptions_SelectsModeAndThreads() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(
+                new String[]{"--ingest=parallel", "--threads=32", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals(CommandLineOptions.IngestMode.PARALLEL, options.ingestMode(), "Parallel mode expected"),
+                () -> assertEquals(32, options.threads(), "Thread count should be parsed")
+        );
+    }
+
+    /**
+     * Verifies that the rejections flag enables the rejections block.
+     */
+    @Test
+    void parse_WithRejectionsFlag_IncludesRejections() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"data.csv", "--rejections"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals("data.csv", options.inputFile(), "Flag should not be taken as file"),
+                () -> assertTrue(options.outputOptions().includeRejections(), "Rejections should be included")
+        );
+    }
+
+    /**
+     * Verifies that the store option selects the columnar repository.
+     */
+    @Test
+    void parse_WithStoreOption_SelectsColumnarStore() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--store=columnar", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertEquals(CommandLineOptions.StoreMode.COLUMNAR, options.storeMode(), "Columnar store expected");
+    }
+
+    /**
+     * Verifies that the store option selects the concurrent repository.
+     */
+    @Test
+    void parse_WithConcurrentStore_SelectsConcurrentStore() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--store=concurrent", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertEquals(CommandLineOptions.StoreMode.CONCURRENT, options.storeMode(), "Concurrent store expected");
+    }
+
+    /**
+     * Verifies that the percentiles flag adds score percentiles only.
+     */
+    @Test
+    void parse_WithPercentilesFlag_IncludesScorePercentiles() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--percentiles", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertTrue(options.outputOptions().includeScorePercentiles(), "Percentiles should be included"),
+                () -> assertFalse(options.outputOptions().includeRejections(), "Rejections should stay off"),
+                () -> assertFalse(options.outputOptions().includeMemoryUsage(), "Memory usage should stay off")
+        );
+    }
+
+    /**
+     * Verifies that the metrics flag enables pipeline metrics without changing the output.
+     */
+    @Test
+    void parse_WithMetricsFlag_EnablesMetrics() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--metrics", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertTrue(options.metrics(), "Metrics should be enabled"),
+                () -> assertEquals("data.csv", options.inputFile(), "Input file should follow the flag"),
+                () -> assertEquals(OutputOptions.DEFAULT, options.outputOptions(), "Output should be unchanged")
+        );
+    }
+
+    /**
+     * Verifies that the serve option selects server mode on the given port.
+     */
+    @Test
+    void parse_WithServeOption_SelectsServerPort() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(
+                new String[]{"--serve=8080", "--ingest=mapped", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertTrue(options.serve(), "Server mode should be selected"),
+                () -> assertEquals(8080, options.serverPort(), "Port should be parsed"),
+                () -> assertEquals(CommandLineOptions.IngestMode.MAPPED, options.ingestMode(), "Ingest mode should be kept")
+        );
+    }
+
+    /**
+     * Verifies the batch options and their defaults.
+     */
+    @Test
+    void parse_WithBatchOptions_SelectsBatchMode() {
+        // When
+        CommandLineOptions defaults = CommandLineOptions.parse(new String[]{"--batch", "intake"}, DEFAULT_FILE);
+        CommandLineOptions options = CommandLineOptions.parse(
+                new String[]{"--batch", "--output-dir=results", "--concurrency=2", "intake/*.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertTrue(defaults.batch(), "Batch mode should be selected"),
+                () -> assertEquals(CommandLineOptions.DEFAULT_OUTPUT_DIRECTORY, defaults.outputDirectory(),
+                        "Default output directory expected"),
+                () -> assertEquals(Runtime.getRuntime().availableProcessors(), defaults.concurrency(),
+                        "Concurrency should default to the available processors"),
+                () -> assertEquals("intake/*.csv", options.inputFile(), "Glob should be the input"),
+                () -> assertEquals("results", options.outputDirectory(), "Output directory should be parsed"),
+                () -> assertEquals(2, options.concurrency(), "Concurrency should be parsed"),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> CommandLineOptions.parse(new String[]{"--batch", "--serve=8080"}, DEFAULT_FILE),
+                        "Batch and server modes should not combine")
+        );
+    }
+
+    /**
+     * Verifies that the off-heap store and the memory report are parsed together.
+     */
+    @Test
+    void parse_WithOffHeapStoreAndMemory_SelectsStoreAndMemoryUsage() {
+        // When
+        CommandLineOptions options = CommandLineOptions.parse(
+                new String[]{"--store=off-heap", "--memory", "data.csv"}, DEFAULT_FILE);
+
+        // Then
+        assertAll(
+                () -> assertEquals(CommandLineOptions.StoreMode.OFF_HEAP, options.storeMode(), "Off-heap store expected"),
+                () -> assertTrue(options.outputOptions().includeMemoryUsage(), "Memory usage should be included"),
+                () -> assertFalse(options.outputOptions().includeRejections(), "Rejections should stay off")
+        );
+    }
+
+    /**
+     * Verifies rejection of unknown options and values.
+     * @param option Invalid option
+     */
+    @ParameterizedTest(name = "Reject {0}")
+    @ValueSource(strings = {"--unknown", "--ingest=carrier-pigeon", "--threads=0", "--threads=many", "--rejections=yes", "--store=tape", "--percentiles=90", "--serve=http", "--serve=-1", "--serve=65536", "--concurrency=0", "--output-dir="})
+    void parse_WithInvalidOption_ThrowsIllegalArgumentException(String option) {
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{option}, DEFAULT_FILE),
+                "Should reject invalid option: " + option);
+    }
+}
@@ -0,0 +1,201 @@
+package internship.applicantProcessor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link InputSources}.
+ * Verifies resolution of standard input, files and classpath resources, gzip detection by
+ * magic bytes, and which inputs can be memory-mapped.
+ */
+class InputSourcesTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String CSV = """
+            name,email,delivery_datetime,score
+            Ana Pop,ana@example.com,2024-01-01T09:00:00,9.5
+            """;
+    private static final String RESOURCE = "input.csv";
+    private static final InputStream STANDARD_INPUT = System.in;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        System.setIn(STANDARD_INPUT);
+    }
+
+    // =================================================
+    // TEST CASES: RESOLUTION
+    // =================================================
+
+    /**
+     * Verifies that a file system path is read from disk.
+     */
+    @Test
+    void open_WithFilePath_ReadsFile() throws IOException {
+        // Given
+        Path csvFile = Files.writeString(tempDir.resolve("applicants.csv"), CSV);
+
+        // When
+        String content = read(csvFile.toString());
+
+        // Then
+        assertEquals(CSV, content, "File content expected");
+    }
+
+    /**
+     * Verifies that a name without a file falls back to the classpath resource.
+     */
+    @Test
+    void open_WithResourceName_FallsBackToClasspath() throws IOException {
+        // Given
+        assertFalse(Files.exists(Path.of(RESOURCE)), "No file should shadow the resource");
+
+        // When
+        String content = read(RESOURCE);
+
+        // Then
+        assertTrue(content.startsWith("name,email"), "Bundled resource expected");
+    }
+
+    /**
+     * Verifies that a name matching neither a file nor a resource yields no stream.
+     */
+    @Test
+    void open_WithUnknownName_ReturnsNull() throws IOException {
+        assertNull(InputSources.open(tempDir.resolve("missing.csv").toString(), getClass().getClassLoader()));
+    }
+
+    /**
+     * Verifies that a dash reads standard input and closing it leaves standard input open.
+     */
+    @Test
+    void open_WithDash_ReadsStandardInputWithoutClosingIt() throws IOException {
+        // Given
+        boolean[] closed = new boolean[1];
+        System.setIn(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        });
+
+        // When
+        String content = read(InputSources.STANDARD_INPUT);
+
+        // Then
+        assertAll(
+                () -> assertEquals(CSV, content, "Standard input content expected"),
+                () -> assertFalse(closed[0], "Standard input should stay open")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: COMPRESSION
+    // =================================================
+
+    /**
+     * Verifies that gzip content is decompressed whatever the file is called.
+     */
+    @Test
+    void open_WithGzipFile_DecompressesByMagicBytes() throws IOException {
+        // Given
+        Path compressed = Files.write(tempDir.resolve("applicants.csv"), gzip(CSV));
+
+        // When
+        String content = read(compressed.toString());
+
+        // Then
+        assertEquals(CSV, content, "Decompressed content expected");
+    }
+
+    /**
+     * Verifies that gzip content on standard input is decompressed.
+     */
+    @Test
+    void open_WithGzipStandardInput_Decompresses() throws IOException {
+        // Given
+        System.setIn(new ByteArrayInputStream(gzip(CSV)));
+
+        // When
+        String content = read(InputSources.STANDARD_INPUT);
+
+        // Then
+        assertEquals(CSV, content, "Decompressed content expected");
+    }
+
+    /**
+     * Verifies that inputs shorter than the magic bytes are passed through.
+     */
+    @Test
+    void decompressIfGzip_WithShortInput_ReturnsInput() throws IOException {
+        assertAll(
+                () -> assertArrayEquals(new byte[0], readAll(new byte[0])),
+                () -> assertArrayEquals(new byte[]{0x1f}, readAll(new byte[]{0x1f}))
+        );
+    }
+
+    // =================================================
+    // TEST CASES: MAPPING
+    // =================================================
+
+    /**
+     * Verifies that only uncompressed files can be memory-mapped.
+     */
+    @Test
+    void isMappable_WithEachKindOfInput_AcceptsOnlyUncompressedFiles() throws IOException {
+        // Given
+        Path plain = Files.writeString(tempDir.resolve("plain.csv"), CSV);
+        Path compressed = Files.write(tempDir.resolve("compressed.csv.gz"), gzip(CSV));
+
+        // Then
+        assertAll(
+                () -> assertTrue(InputSources.isMappable(plain.toString()), "Plain file should be mappable"),
+                () -> assertFalse(InputSources.isMappable(compressed.toString()), "Gzip file should be streamed"),
+                () -> assertFalse(InputSources.isMappable(InputSources.STANDARD_INPUT), "Standard input should be streamed"),
+                () -> assertFalse(InputSources.isMappable(RESOURCE), "Classpath resource should be streamed"),
+                () -> assertFalse(InputSources.isMappable(tempDir.toString()), "Directory should not be mappable")
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private String read(String name) throws IOException {
+        try (InputStream in = InputSources.open(name, getClass().getClassLoader())) {
+            assertNotNull(in, "Input should be found: " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] readAll(byte[] content) throws IOException {
+        try (InputStream in = InputSources.decompressIfGzip(new ByteArrayInputStream(content))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,103 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.model.Applicant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ApplicantRecordParser}.
+ * Verifies byte-level validation and conversion of CSV records to applicants.
+ */
+class ApplicantRecordParserTest {
+
+    private final ApplicantRecordParser parser = new ApplicantRecordParser();
+
+    // =================================================
+    // TEST CASES: VALID RECORDS
+    // =================================================
+
+    /**
+     * Verifies that a valid record with multi-byte characters and padding is fully decoded.
+     */
+    @Test
+    void parse_WithValidRecord_ReturnsApplicant() throws IOException {
+        // When
+        DecodedApplicantRow row = parser.parse(recordOf(" Ionică Sergiu Ramos , chiarel@ionicaromass.ro ,2023-01-24T16:32:19, 9.00"));
+
+        // Then
+        assertNotNull(row);
+        assertTrue(row.isValid(), "Row should be valid");
+        Applicant applicant = row.toApplicant();
+        assertAll(
+                () -> assertEquals("Ionică", applicant.name().firstName(), "First name should be decoded"),
+                () -> assertEquals("Ramos", applicant.name().lastName(), "Last name should be trimmed"),
+                () -> assertEquals("chiarel@ionicaromass.ro", applicant.email(), "Email should be trimmed"),
+                () -> assertEquals(9.0, applicant.score(), 0.001, "Score should be parsed")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: INVALID RECORDS
+    // =================================================
+
+    /**
+     * Verifies that blank lines and rows without a name are skipped rather than rejected.
+     * @param line CSV line to parse
+     */
+    @ParameterizedTest(name = "Skip \"{0}\"")
+    @CsvSource(value = {
+            "''",                                                        // Blank line
+            "',john@example.com,2023-05-01T10:00:00,9.5'",               // Missing name
+            "'   ,john@example.com'"                                     // Blank name, short row
+    })
+    void parse_WithBlankName_ReturnsNull(String line) throws IOException {
+        assertNull(parser.parse(recordOf(line)), "Record should be skipped: " + line);
+    }
+
+    /**
+     * Verifies that invalid records are rejected with the first failing check.
+     * @param line CSV line to parse
+     * @param reason Expected rejection reason
+     */
+    @ParameterizedTest(name = "Reject \"{0}\" as {1}")
+    @CsvSource(value = {
+            "'John Doe,john@example.com,2023-05-01T10:00:00', WRONG_FIELD_COUNT",
+            "'John Doe,john@example.com,2023-05-01T10:00:00,9.5,extra', WRONG_FIELD_COUNT",
+            "'John,bad-email,2023-05-01T10:00:00,9.5', BAD_NAME",
+            "'John Doe,jöhn@example.com,2023-05-01T10:00:00,9.5', BAD_EMAIL",
+            "'John Doe,john@example.com,2023-05-01 10:00:00,9.5', BAD_DATETIME",
+            "'John Doe,john@example.com,2023-02-30T10:00:00,9.5', BAD_DATETIME",
+            "'John Doe,john@example.com,2023-05-01T10:00:00,10.5', BAD_SCORE"
+    })
+    void parse_WithInvalidRecord_ReturnsRejectedRow(String line, RejectionReason reason) throws IOException {
+        // When
+        DecodedApplicantRow row = parser.parse(recordOf(line));
+
+        // Then
+        assertNotNull(row);
+        assertEquals(reason, row.rejectionReason(), "Unexpected reason for: " + line);
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static CsvRecord recordOf(String line) throws IOException {
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+        tokenizer.reset(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)), 0, true);
+        CsvRecord record = new CsvRecord();
+        if (!tokenizer.next(record)) {
+            // An empty input still stands for one blank line
+            tokenizer.reset(ByteBuffer.wrap("\n".getBytes(StandardCharsets.UTF_8)), 0, true);
+            tokenizer.next(record);
+        }
+        return record;
+    }
+}
@@ -0,0 +1,222 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import internship.applicantProcessor.utils.RegexApplicantEntryValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ApplicantRowDecoder}.
+ * Verifies that the fused decoder accepts exactly the rows accepted by the validators
+ * and produces the same applicants as the multi-pass parsing.
+ */
+class ApplicantRowDecoderTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long FUZZ_SEED = 20240127L;
+    private static final int FUZZ_ITERATIONS = 50_000;
+    private static final List<String> NAMES = List.of("John Doe", " Anna  Maria\tSmith ", "Ionică Sergiu Ramos", "Doe");
+    private static final List<String> EMAILS = List.of("john@example.com", " a@b.co ", "user.name@sub.domain.com");
+    private static final List<String> DATETIMES = List.of("2024-01-15T14:30:00", "2024-02-29T23:59:59", "2023-02-28T00:00:00");
+    private static final List<String> SCORES = List.of("0", "10", "10.00", "5.5", "7.25", " 9.99 ");
+    private static final String[] FUZZ_ALPHABET = {"0", "1", "2", "3", "9", ".", "@", "-", ":", "T", "a", " ", "\t", "ț"};
+
+    private final ApplicantRowDecoder decoder = new ApplicantRowDecoder();
+
+    // =================================================
+    // TEST CASES: VALID ROWS
+    // =================================================
+
+    /**
+     * Verifies that all fields of a valid row are decoded.
+     */
+    @Test
+    void decode_WithValidRow_ProducesApplicant() {
+        // When
+        DecodedApplicantRow row = decoder.decode(" Anna Maria Louisa Smith ", "anna@example.com",
+                "2024-02-29T12:30:05", "7.25");
+
+        // Then
+        assertTrue(row.isValid(), "Row should be valid");
+        Applicant applicant = row.toApplicant();
+        assertAll(
+                () -> assertEquals("Anna", applicant.name().firstName(), "First name should be decoded"),
+                () -> assertEquals(List.of("Maria", "Louisa"), applicant.name().middleNames(), "Middle names should be decoded"),
+                () -> assertEquals("Smith", applicant.name().lastName(), "Last name should be decoded"),
+                () -> assertEquals("anna@example.com", applicant.email(), "Email should be decoded"),
+                () -> assertEquals("2024-02-29T12:30:05", applicant.deliveryDateTime().dateTime().toString(),
+                        "Date-time should be decoded"),
+                () -> assertEquals(725, row.scoreHundredths(), "Score should be exact in hundredths"),
+                () -> assertEquals(7.25, applicant.score(), "Score should be converted to points")
+        );
+    }
+
+    /**
+     * Verifies that UTF-8 byte views decode to the same applicant as strings.
+     */
+    @Test
+    void decode_WithByteViews_MatchesStringDecoding() {
+        // Given
+        String[] fields = {"Ionică Sergiu Ștefănescu", "chiarel@ionicaromass.ro", "2023-01-24T16:32:19", "9.00"};
+
+        // When
+        Applicant fromStrings = decoder.decode(fields[0], fields[1], fields[2], fields[3]).toApplicant();
+        Applicant fromBytes = decoder.decode(utf8View(fields[0]), utf8View(fields[1]),
+                utf8View(fields[2]), utf8View(fields[3])).toApplicant();
+
+        // Then
+        assertEquals(fromStrings, fromBytes, "Byte views should decode to the same applicant");
+    }
+
+    // =================================================
+    // TEST CASES: INVALID ROWS
+    // =================================================
+
+    /**
+     * Verifies that well-formed but non-existent date-times are rejected instead of throwing.
+     * @param deliveryDateTime Date-time that matches the format but not the calendar
+     */
+    @ParameterizedTest(name = "Reject {0}")
+    @ValueSource(strings = {"2023-02-29T10:00:00", "2024-02-30T10:00:00", "2024-04-31T10:00:00",
+            "2024-13-01T10:00:00", "2024-00-10T10:00:00", "2024-01-00T10:00:00",
+            "2024-01-01T24:00:00", "2024-01-01T10:60:00", "2024-01-01T10:00:60"})
+    void decode_WithCalendarInvalidDateTime_ReturnsInvalidRow(String deliveryDateTime) {
+        // When
+        DecodedApplicantRow row = decoder.decode("John Doe", "john@example.com", deliveryDateTime, "9");
+
+        // Then
+        assertFalse(row.isValid(), "Non-existent date-time should be rejected: " + deliveryDateTime);
+    }
+
+    /**
+     * Verifies that a rejected row reports the first field that fails, in column order.
+     * @param name Name field
+     * @param email Email field
+     * @param deliveryDateTime Delivery date-time field
+     * @param score Score field
+     * @param expected Expected rejection reason
+     */
+    @ParameterizedTest(name = "{4}: {0}|{1}|{2}|{3}")
+    @CsvSource(delimiter = '|', value = {
+            "John|john@example.com|2024-01-01T10:00:00|9|BAD_NAME",
+            "John|bad-email|bad-date|11|BAD_NAME",
+            "John Doe|bad-email|2024-01-01T10:00:00|9|BAD_EMAIL",
+            "John Doe|bad-email|bad-date|11|BAD_EMAIL",
+            "John Doe|john@example.com|2024-02-30T10:00:00|11|BAD_DATETIME",
+            "John Doe|john@example.com|2024-01-01T10:00:00|10.001|BAD_SCORE"
+    })
+    void decode_WithInvalidField_ReportsFirstFailingField(String name, String email, String deliveryDateTime,
+                                                           String score, RejectionReason expected) {
+        // When
+        DecodedApplicantRow row = decoder.decode(name, email, deliveryDateTime, score);
+
+        // Then
+        assertFalse(row.isValid(), "Row should be rejected");
+        assertEquals(expected, row.rejectionReason(), "First failing field should be reported");
+    }
+
+    /**
+     * Verifies that the reused result does not keep the previous row's validity.
+     */
+    @Test
+    void decode_AfterValidRow_ResetsResult() {
+        // Given
+        decoder.decode("John Doe", "john@example.com", "2024-01-01T10:00:00", "9");
+
+        // When
+        DecodedApplicantRow row = decoder.decode("John Doe", "john@example.com", "2024-01-01T10:00:00", "11");
+
+        // Then
+        assertFalse(row.isValid(), "Result should reflect the latest row only");
+        assertEquals(RejectionReason.BAD_SCORE, row.rejectionReason(), "Reason should belong to the latest row");
+        assertThrows(IllegalStateException.class, row::toApplicant, "Invalid row cannot build an applicant");
+    }
+
+    // =================================================
+    // TEST CASES: DIFFERENTIAL DECODING
+    // =================================================
+
+    /**
+     * Verifies on mutated rows that the decoder accepts exactly the rows accepted by the regex
+     * rules and the calendar, and builds the same applicant as the multi-pass parsing.
+     */
+    @Test
+    void decode_WithFuzzedRows_MatchesMultiPassParsing() {
+        Random random = new Random(FUZZ_SEED);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            // Given
+            String name = mutate(NAMES, random);
+            String email = mutate(EMAILS, random);
+            String deliveryDateTime = mutate(DATETIMES, random);
+            String score = mutate(SCORES, random);
+            Applicant expected = parseMultiPass(name, email, deliveryDateTime, score);
+
+            // When
+            DecodedApplicantRow row = decoder.decode(name, email, deliveryDateTime, score);
+
+            // Then
+            String description = String.join("|", name, email, deliveryDateTime, score);
+            assertEquals(expected != null, row.isValid(), () -> "Validity mismatch for " + description);
+            if (expected != null) {
+                assertEquals(expected, row.toApplicant(), () -> "Applicant mismatch for " + description);
+            }
+        }
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    /**
+     * Reference decoding: regex validation of the trimmed fields, then the model parsers.
+     */
+    private static Applicant parseMultiPass(String name, String email, String deliveryDateTime, String score) {
+        name = name.trim();
+        email = email.trim();
+        deliveryDateTime = deliveryDateTime.trim();
+        score = score.trim();
+        if (!RegexApplicantEntryValidator.isValidName(name)
+                || !RegexApplicantEntryValidator.isValidEmail(email)
+                || !RegexApplicantEntryValidator.isValidDeliveryDateTime(deliveryDateTime)
+                || !RegexApplicantEntryValidator.isValidScore(score)) {
+            return null;
+        }
+        try {
+            return new Applicant(
+                    ApplicantName.parsePreValidated(name),
+                    email,
+                    ApplicantDeliveryDateTime.parsePreValidated(deliveryDateTime),
+                    Double.parseDouble(score));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static String mutate(List<String> seeds, Random random) {
+        StringBuilder value = new StringBuilder(seeds.get(random.nextInt(seeds.size())));
+        if (random.nextInt(3) == 0) {
+            int position = random.nextInt(value.length());
+            value.replace(position, position + 1, FUZZ_ALPHABET[random.nextInt(FUZZ_ALPHABET.length)]);
+        }
+        return value.toString();
+    }
+
+    private static ByteSpan utf8View(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return new ByteSpan().set(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}
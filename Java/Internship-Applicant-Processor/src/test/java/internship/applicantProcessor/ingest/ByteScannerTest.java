@@ -0,0 +1,168 @@
+package internship.applicantProcessor.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ByteScanner} returned by {@link ByteScanners#create()}.
+ * Verifies it against the byte-by-byte scanner on heap and direct buffers, so that the same
+ * tests cover the Vector API scanner when the build and the JVM enable it.
+ */
+class ByteScannerTest {
+    private static final long SEED = 20240207L;
+    private static final int LENGTH = 1_000;
+    private static final int RANGES = 2_000;
+    private static final ByteScanner SCALAR = ScalarByteScanner.INSTANCE;
+
+    private final ByteScanner scanner = ByteScanners.create();
+
+    // =================================================
+    // TEST CASES: DELIMITER SCANNING
+    // =================================================
+
+    /**
+     * Verifies that delimiters are found past several vectors of plain bytes.
+     * @param offset Index of the delimiter
+     */
+    @ParameterizedTest(name = "Delimiter at {0}")
+    @ValueSource(ints = {0, 1, 31, 32, 63, 64, 65, 127, 200})
+    void indexOfSpecial_WithDelimiterAfterPlainBytes_FindsDelimiter(int offset) {
+        // Given
+        byte[] bytes = "x".repeat(256).getBytes(StandardCharsets.US_ASCII);
+        bytes[offset] = '"';
+        bytes[offset + 20] = ',';
+
+        // When & Then
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(bytes), direct(bytes)}) {
+            assertEquals(offset, scanner.indexOfSpecial(buffer, 0, bytes.length),
+                    "Should find the first delimiter in " + buffer);
+        }
+    }
+
+    /**
+     * Verifies that a range without delimiters ends at its upper bound, ignoring bytes past it.
+     */
+    @Test
+    void indexOfSpecial_WithoutDelimiterInRange_ReturnsEnd() {
+        // Given
+        byte[] bytes = ("a".repeat(150) + "\n").getBytes(StandardCharsets.US_ASCII);
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(150, scanner.indexOfSpecial(ByteBuffer.wrap(bytes), 3, 150)),
+                () -> assertEquals(150, scanner.indexOfSpecial(direct(bytes), 3, 150)),
+                () -> assertEquals(7, scanner.indexOfSpecial(ByteBuffer.wrap(bytes), 7, 7),
+                        "An empty range should return its end")
+        );
+    }
+
+    /**
+     * Verifies delimiter and byte searches against the scalar scanner on random ranges.
+     */
+    @Test
+    void indexOf_WithRandomRanges_MatchesScalarScanner() {
+        // Given
+        Random random = new Random(SEED);
+        byte[] bytes = randomBytes(random, 0.02);
+
+        // When & Then
+        for (ByteBuffer buffer : buffers(bytes)) {
+            for (int i = 0; i < RANGES; i++) {
+                int from = random.nextInt(LENGTH);
+                int to = from + random.nextInt(LENGTH - from + 1);
+                byte value = (byte) random.nextInt(256);
+                assertEquals(SCALAR.indexOfSpecial(buffer, from, to), scanner.indexOfSpecial(buffer, from, to),
+                        "Delimiter in [" + from + ", " + to + ") of " + buffer);
+                assertEquals(SCALAR.indexOf(buffer, from, to, value), scanner.indexOf(buffer, from, to, value),
+                        "Byte " + value + " in [" + from + ", " + to + ") of " + buffer);
+            }
+        }
+    }
+
+    // =================================================
+    // TEST CASES: ASCII CHECKS
+    // =================================================
+
+    /**
+     * Verifies that a single non-ASCII byte anywhere in the range fails the check.
+     * @param offset Index of the non-ASCII byte
+     */
+    @ParameterizedTest(name = "Non-ASCII byte at {0}")
+    @ValueSource(ints = {0, 31, 32, 63, 64, 99})
+    void isAscii_WithOneNonAsciiByte_ReturnsFalse(int offset) {
+        // Given
+        byte[] bytes = "a".repeat(100).getBytes(StandardCharsets.US_ASCII);
+        bytes[offset] = (byte) 0x80;
+
+        // When & Then
+        assertAll(
+                () -> assertFalse(scanner.isAscii(ByteBuffer.wrap(bytes), 0, bytes.length)),
+                () -> assertFalse(scanner.isAscii(direct(bytes), 0, bytes.length)),
+                () -> assertTrue(scanner.isAscii(ByteBuffer.wrap(bytes), offset + 1, bytes.length),
+                        "Bytes before the range should be ignored")
+        );
+    }
+
+    /**
+     * Verifies ASCII checks against the scalar scanner on random ranges.
+     */
+    @Test
+    void isAscii_WithRandomRanges_MatchesScalarScanner() {
+        // Given
+        Random random = new Random(SEED);
+        byte[] bytes = randomBytes(random, 0.002);
+
+        // When & Then
+        for (ByteBuffer buffer : buffers(bytes)) {
+            for (int i = 0; i < RANGES; i++) {
+                int from = random.nextInt(LENGTH);
+                int to = from + random.nextInt(LENGTH - from + 1);
+                assertEquals(SCALAR.isAscii(buffer, from, to), scanner.isAscii(buffer, from, to),
+                        "ASCII check of [" + from + ", " + to + ") of " + buffer);
+            }
+        }
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    /**
+     * Returns lowercase letters with delimiters and non-ASCII bytes each mixed in at a rate.
+     */
+    private static byte[] randomBytes(Random random, double rate) {
+        byte[] specials = {',', '"', '\\', '\n', '\r'};
+        byte[] bytes = new byte[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            double roll = random.nextDouble();
+            if (roll < rate) {
+                bytes[i] = specials[random.nextInt(specials.length)];
+            } else if (roll < 2 * rate) {
+                bytes[i] = (byte) (0x80 + random.nextInt(0x80));
+            } else {
+                bytes[i] = (byte) ('a' + random.nextInt(26));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes as a heap buffer, a heap buffer with an array offset and a direct buffer.
+     */
+    private static ByteBuffer[] buffers(byte[] bytes) {
+        byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        return new ByteBuffer[]{ByteBuffer.wrap(bytes), ByteBuffer.wrap(padded).position(3).slice(), direct(bytes)};
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(0, bytes);
+    }
+}
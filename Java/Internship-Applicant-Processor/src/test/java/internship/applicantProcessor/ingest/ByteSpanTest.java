@@ -0,0 +1,94 @@
+package internship.applicantProcessor.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ByteSpan}.
+ * Verifies trimming, character view and UTF-8 decoding of byte ranges.
+ */
+class ByteSpanTest {
+
+    // =================================================
+    // TEST CASES: TRIMMING
+    // =================================================
+
+    /**
+     * Verifies that trimming matches {@link String#trim()} on the decoded value.
+     * @param text Text with surrounding whitespace or control characters
+     */
+    @ParameterizedTest(name = "Trim \"{0}\"")
+    @ValueSource(strings = {"  John Doe  ", "\tȘtefănescu\r", "\u0001x\u001F", "   ", "", "no-trim"})
+    void trim_WithSurroundingWhitespace_MatchesStringTrim(String text) {
+        // When
+        ByteSpan span = spanOf(text).trim();
+
+        // Then
+        assertEquals(text.trim(), span.decode(), "Trimmed span should decode like String.trim()");
+    }
+
+    // =================================================
+    // TEST CASES: CHARACTER VIEW
+    // =================================================
+
+    /**
+     * Verifies that multi-byte characters are never exposed as ASCII.
+     */
+    @Test
+    void charAt_WithMultiByteCharacters_ExposesNonAsciiCharacters() {
+        // Given
+        ByteSpan span = spanOf("aț");
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(3, span.length(), "Length is counted in bytes"),
+                () -> assertEquals('a', span.charAt(0), "ASCII bytes map to the same character"),
+                () -> assertTrue(span.charAt(1) > 0x7F, "Lead byte should be non-ASCII"),
+                () -> assertTrue(span.charAt(2) > 0x7F, "Continuation byte should be non-ASCII")
+        );
+    }
+
+    /**
+     * Verifies sub-sequences and the ISO-8859-1 string view.
+     */
+    @Test
+    void subSequence_WithinSpan_ReturnsNarrowerView() {
+        // Given
+        ByteSpan span = spanOf("john@example.com");
+
+        // When
+        CharSequence domain = span.subSequence(5, 16);
+
+        // Then
+        assertEquals("example.com", domain.toString(), "Sub-sequence should cover the requested range");
+    }
+
+    /**
+     * Verifies bounds checking against the span rather than the whole buffer.
+     */
+    @Test
+    void charAt_OutsideSpan_ThrowsIndexOutOfBounds() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.UTF_8));
+        ByteSpan span = new ByteSpan().set(buffer, 1, 3);
+
+        // When & Then
+        assertThrows(IndexOutOfBoundsException.class, () -> span.charAt(2),
+                "Index past the span should be rejected");
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static ByteSpan spanOf(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new ByteSpan().set(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}
@@ -0,0 +1,191 @@
+package internship.applicantProcessor.ingest;
+
+import com.opencsv.CSVReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link CsvRecordTokenizer}.
+ * Verifies that records are split exactly as OpenCSV's default reader splits them.
+ */
+class CsvRecordTokenizerTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String[] FUZZ_ALPHABET = {
+            "a", "b", "Z", "7", " ", "\t", ",", ",", "\"", "\"", "\\", "\n", "\r", "\r\n", "ț", "😀", "\u2003"
+    };
+    private static final int FUZZ_ITERATIONS = 20_000;
+    private static final String MALFORMED = "<malformed>";
+
+    // =================================================
+    // TEST CASES: RECORD SPLITTING
+    // =================================================
+
+    /**
+     * Verifies typical applicant rows, including quoted fields, against OpenCSV.
+     * @param csv CSV content to tokenize
+     */
+    @ParameterizedTest(name = "Tokenize {0}")
+    @ValueSource(strings = {
+            "John Doe,john@example.com,2023-05-01T10:00:00,9.5\n",
+            "\"Doe, John\",john@example.com,2023-05-01T10:00:00,9.5",
+            "\"John \"\"JJ\"\" Doe\",john@example.com,2023-05-01T10:00:00,9.5\r\n",
+            "\"John\nDoe\",john@example.com,2023-05-01T10:00:00,9.5\n",
+            "John Doe, \"john@example.com\",2023-05-01T10:00:00,9.5",
+            "Jo\\hn\\,Doe,a\\\"b,c\n",
+            "Speranța Cruce,speranta_cruce@gmail.com,2023-01-24T20:14:53,2.33\n\n,,,\n",
+            "abc\"def\"ghi,x\rnext,line"
+    })
+    void next_WithKnownRows_MatchesOpenCsv(String csv) {
+        assertEquals(parseWithOpenCsv(csv), parseWithTokenizer(csv),
+                "Tokenizer should split records like OpenCSV");
+    }
+
+    /**
+     * Verifies that an unterminated quote at end of input is reported as an error.
+     */
+    @Test
+    void next_WithUnterminatedQuote_ThrowsIOException() {
+        // Given
+        CsvRecordTokenizer tokenizer = tokenizerFor("a,\"never closed\nstill open", true);
+        CsvRecord record = new CsvRecord();
+
+        // When & Then
+        assertThrows(IOException.class, () -> tokenizer.next(record),
+                "Unterminated quote should be rejected like OpenCSV does");
+    }
+
+    /**
+     * Verifies record offsets, which order records the same way line numbers do.
+     */
+    @Test
+    void next_WithSeveralRecords_ReportsAbsoluteOffsets() throws IOException {
+        // Given
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+        tokenizer.reset(ByteBuffer.wrap("a,b\r\nc,d\n".getBytes(StandardCharsets.UTF_8)), 100, true);
+        CsvRecord record = new CsvRecord();
+
+        // When
+        tokenizer.next(record);
+        long firstOffset = record.offset();
+        tokenizer.next(record);
+        long secondOffset = record.offset();
+
+        // Then
+        assertAll(
+                () -> assertEquals(100, firstOffset, "First record starts at the window base"),
+                () -> assertEquals(105, secondOffset, "Second record starts after the CRLF terminator"),
+                () -> assertFalse(tokenizer.next(record), "No further records expected")
+        );
+    }
+
+    /**
+     * Verifies that a record touching the end of a non-final window is left for the next window.
+     */
+    @Test
+    void next_WithIncompleteRecordBeforeWindowEnd_LeavesPositionAtRecordStart() throws IOException {
+        // Given
+        CsvRecordTokenizer tokenizer = tokenizerFor("first,row\nsecond,ro", false);
+        CsvRecord record = new CsvRecord();
+
+        // When
+        boolean first = tokenizer.next(record);
+        boolean second = tokenizer.next(record);
+
+        // Then
+        assertAll(
+                () -> assertTrue(first, "First record is complete"),
+                () -> assertFalse(second, "Second record needs more input"),
+                () -> assertEquals(10, tokenizer.position(), "Position should stay at the second record")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: DIFFERENTIAL FUZZING
+    // =================================================
+
+    /**
+     * Compares the tokenizer with OpenCSV on random inputs made of separators, quotes,
+     * escapes, line breaks, whitespace and multi-byte characters.
+     */
+    @Test
+    void next_WithFuzzedInput_MatchesOpenCsv() {
+        Random random = new Random(20240124L);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String csv = randomCsv(random);
+            assertEquals(parseWithOpenCsv(csv), parseWithTokenizer(csv),
+                    "Mismatch for input: " + csv.replace("\n", "\\n").replace("\r", "\\r"));
+        }
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static String randomCsv(Random random) {
+        StringBuilder csv = new StringBuilder();
+        int length = random.nextInt(32);
+        for (int i = 0; i < length; i++) {
+            csv.append(FUZZ_ALPHABET[random.nextInt(FUZZ_ALPHABET.length)]);
+        }
+        return csv.toString();
+    }
+
+    private static CsvRecordTokenizer tokenizerFor(String csv, boolean endOfInput) {
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer();
+        tokenizer.reset(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)), 0, endOfInput);
+        return tokenizer;
+    }
+
+    /**
+     * Parses with OpenCSV; a malformed input is represented by a trailing marker record.
+     */
+    static List<List<String>> parseWithOpenCsv(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new StringReader(csv))) {
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                records.add(Arrays.asList(line));
+            }
+        } catch (Exception e) {
+            records.add(List.of(MALFORMED));
+        }
+        return records;
+    }
+
+    /**
+     * Parses with the tokenizer, using the same malformed-input marker as {@link #parseWithOpenCsv}.
+     */
+    static List<List<String>> parseWithTokenizer(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        CsvRecordTokenizer tokenizer = tokenizerFor(csv, true);
+        CsvRecord record = new CsvRecord();
+        ByteSpan span = new ByteSpan();
+        try {
+            while (tokenizer.next(record)) {
+                List<String> fields = new ArrayList<>();
+                for (int i = 0; i < record.fieldCount(); i++) {
+                    fields.add(record.field(i, span).decode());
+                }
+                records.add(fields);
+            }
+        } catch (IOException e) {
+            records.add(List.of(MALFORMED));
+        }
+        return records;
+    }
+}
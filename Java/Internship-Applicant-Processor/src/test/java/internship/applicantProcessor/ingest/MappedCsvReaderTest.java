@@ -0,0 +1,126 @@
+package internship.applicantProcessor.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link MappedCsvReader}.
+ * Verifies windowed mapping, range reads and error reporting.
+ */
+class MappedCsvReaderTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String CSV_CONTENT =
+            "name,email,delivery_datetime,score\n" +
+            "Speranța Cruce,speranta_cruce@gmail.com,2023-01-24T20:14:53,2.33\r\n" +
+            "\"Ionică \"\"Sergiu\"\" Ramos\",chiarel@ionicaromass.ro,2023-01-24T16:32:19,9.00\n" +
+            "\"Carla\nȘtefănescu\",carlita_ste@yahoo.com,2023-01-23T23:59:01,5.20\n" +
+            "\n" +
+            "Robin Hoffman-Rus,robman@dasmail.de,2023-01-23T12:00:46,8.99";
+
+    @TempDir
+    Path tempDir;
+
+    // =================================================
+    // TEST CASES: WINDOWED MAPPING
+    // =================================================
+
+    /**
+     * Verifies that records crossing window boundaries are re-read whole from the next window.
+     * @param windowSize Mapping window size in bytes
+     */
+    @ParameterizedTest(name = "Window of {0} bytes")
+    @ValueSource(ints = {90, 128, 200, 1 << 20})
+    void readAll_WithVariousWindowSizes_MatchesOpenCsv(int windowSize) throws IOException {
+        // Given
+        Path csvFile = write(CSV_CONTENT);
+
+        // When
+        List<List<String>> records = readRange(csvFile, windowSize, 0, Long.MAX_VALUE);
+
+        // Then
+        assertEquals(CsvRecordTokenizerTest.parseWithOpenCsv(CSV_CONTENT), records,
+                "Windowed reading should not change the records");
+    }
+
+    /**
+     * Verifies that a record longer than the window is reported instead of silently truncated.
+     */
+    @Test
+    void readAll_WithRecordLongerThanWindow_ThrowsIOException() throws IOException {
+        // Given
+        Path csvFile = write(CSV_CONTENT);
+
+        // When & Then
+        assertThrows(IOException.class, () -> readRange(csvFile, 16, 0, Long.MAX_VALUE),
+                "Records longer than a window cannot be mapped");
+    }
+
+    // =================================================
+    // TEST CASES: RANGE READS
+    // =================================================
+
+    /**
+     * Verifies that consecutive ranges read every record exactly once when each range
+     * starts where the previous one stopped.
+     */
+    @Test
+    void read_WithConsecutiveRanges_ReadsEachRecordOnce() throws IOException {
+        // Given
+        Path csvFile = write(CSV_CONTENT);
+        List<List<String>> records = new ArrayList<>();
+
+        // When
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            MappedCsvReader reader = new MappedCsvReader(channel, 128);
+            long next = 0;
+            for (long boundary = 50; next < channel.size(); boundary += 50) {
+                next = reader.read(next, boundary, record -> records.add(fields(record)));
+            }
+        }
+
+        // Then
+        assertEquals(CsvRecordTokenizerTest.parseWithOpenCsv(CSV_CONTENT), records,
+                "Ranges should partition the records");
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("applicants.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private static List<List<String>> readRange(Path csvFile, int windowSize, long from, long to) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            new MappedCsvReader(channel, windowSize).read(from, to, record -> records.add(fields(record)));
+        }
+        return records;
+    }
+
+    private static List<String> fields(CsvRecord record) {
+        ByteSpan span = new ByteSpan();
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < record.fieldCount(); i++) {
+            fields.add(record.field(i, span).decode());
+        }
+        return fields;
+    }
+}
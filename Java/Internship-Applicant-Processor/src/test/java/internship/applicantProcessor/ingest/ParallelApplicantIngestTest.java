@@ -0,0 +1,258 @@
+package internship.applicantProcessor.ingest;
+
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.metrics.PipelineStage;
+import internship.applicantProcessor.model.Applicant;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ParallelApplicantIngest}.
+ * Verifies that parallel ranges merge to exactly the sequential result, accepted rows,
+ * rejection counts and rows read, including when range boundaries fall inside quoted fields.
+ */
+class ParallelApplicantIngestTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long SEED = 20240125L;
+    private static final int ROW_COUNT = 2_000;
+    private static final int EMAIL_COUNT = 300;
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.close();
+    }
+
+    // =================================================
+    // TEST CASES: EQUIVALENCE
+    // =================================================
+
+    /**
+     * Verifies that every chunk size yields the sequential result: same applicants, same
+     * last-seen winners, same first-seen order, same accepted rows and same rejection counts.
+     * @param minChunkSize Minimum range size in bytes
+     */
+    @ParameterizedTest(name = "Chunks of at least {0} bytes")
+    @ValueSource(longs = {1, 7, 64, 1_000, 1 << 20})
+    void ingest_WithGeneratedInput_MatchesSequentialRead(long minChunkSize) throws IOException {
+        // Given
+        Path csvFile = Files.writeString(tempDir.resolve("generated.csv"), generateCsv(new Random(SEED)),
+                StandardCharsets.UTF_8);
+
+        // When
+        ParallelApplicantIngest.Result parallel = ingest(csvFile, minChunkSize);
+
+        // Then
+        ParallelApplicantIngest.Result sequential = readSequentially(csvFile);
+        assertEquals(List.copyOf(sequential.applicants()), List.copyOf(parallel.applicants()),
+                "Parallel ingest should match sequential ingest");
+        assertEquals(sequential.acceptedRows(), parallel.acceptedRows(), "Accepted rows should match sequential ingest");
+        for (RejectionReason reason : RejectionReason.values()) {
+            assertEquals(sequential.rejections().get(reason), parallel.rejections().get(reason),
+                    "Rejection count should match sequential ingest for " + reason);
+        }
+    }
+
+    /**
+     * Verifies that line boundaries inside a quoted field are not taken as record starts,
+     * even when the quoted text looks like a valid record.
+     */
+    @Test
+    void ingest_WithRecordLikeTextInsideQuotes_IgnoresFakeRecords() throws IOException {
+        // Given
+        String csv = """
+                name,email,delivery_datetime,score
+                John Doe,john@example.com,2023-05-01T10:00:00,9.5
+                "Jane
+                Fake Person,fake@example.com,2023-05-01T10:00:00,10
+                Doe",jane@example.com,2023-05-02T10:00:00,8
+                """;
+        Path csvFile = Files.writeString(tempDir.resolve("quoted.csv"), csv, StandardCharsets.UTF_8);
+
+        // When
+        ParallelApplicantIngest.Result result = ingest(csvFile, 1);
+
+        // Then
+        assertEquals(List.of("john@example.com", "jane@example.com"),
+                result.applicants().stream().map(Applicant::email).toList(),
+                "Text inside the quoted name must not become an applicant");
+        assertEquals(1, result.rejections().get(RejectionReason.BAD_NAME), "Only the header should be rejected");
+    }
+
+    /**
+     * Verifies that every record, skipped rows included, is counted once however the file is
+     * split, that accepted rows and replacements match a sequential read across ranges, and
+     * that each row stage is timed on the workers.
+     * @param minChunkSize Minimum range size in bytes
+     */
+    @ParameterizedTest(name = "Chunks of at least {0} bytes")
+    @ValueSource(longs = {1, 64, 1 << 20})
+    void ingest_WithMetrics_CountsEveryRowOnceAndTimesEachStage(long minChunkSize) throws IOException {
+        // Given
+        String csv = generateCsv(new Random(SEED)) + ",blank@example.com,2023-05-01T10:00:00,9\n"
+                + "  ,spaces@example.com,2023-05-01T10:00:00,9\n";
+        Path csvFile = Files.writeString(tempDir.resolve("metrics.csv"), csv, StandardCharsets.UTF_8);
+        PipelineMetrics metrics = new PipelineMetrics();
+
+        // When
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            new ParallelApplicantIngest(pool, minChunkSize, metrics).ingest(channel);
+        }
+
+        // Then
+        assertAll(
+                () -> assertEquals(countRecords(csvFile), metrics.getRowsRead(), "Every record should be read once"),
+                () -> assertArrayEquals(countAccepted(csvFile),
+                        new long[]{metrics.getRowsAccepted(), metrics.getReplacements()},
+                        "Accepted rows and replacements should match a sequential read"),
+                () -> assertTrue(metrics.stageNanos(PipelineStage.CSV_DECODE) > 0, "Decoding should be timed"),
+                () -> assertTrue(metrics.stageNanos(PipelineStage.VALIDATION) > 0, "Validation should be timed"),
+                () -> assertTrue(metrics.stageNanos(PipelineStage.MODEL_PARSE) > 0, "Model parsing should be timed")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: ERRORS
+    // =================================================
+
+    /**
+     * Verifies that an unterminated quote at the end of the file is reported.
+     */
+    @Test
+    void ingest_WithUnterminatedQuote_ThrowsIOException() throws IOException {
+        // Given
+        Path csvFile = Files.writeString(tempDir.resolve("broken.csv"),
+                "John Doe,john@example.com,2023-05-01T10:00:00,9.5\n\"Jane Doe,jane@example.com\n",
+                StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThrows(IOException.class, () -> ingest(csvFile, 1), "Unterminated quote should fail the ingest");
+    }
+
+    /**
+     * Verifies that an empty file yields no applicants.
+     */
+    @Test
+    void ingest_WithEmptyFile_ReturnsNoApplicants() throws IOException {
+        // Given
+        Path csvFile = Files.writeString(tempDir.resolve("empty.csv"), "", StandardCharsets.UTF_8);
+
+        // When & Then
+        assertTrue(ingest(csvFile, 1).applicants().isEmpty(), "Empty file should have no applicants");
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static ParallelApplicantIngest.Result ingest(Path csvFile, long minChunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            return new ParallelApplicantIngest(pool, minChunkSize).ingest(channel);
+        }
+    }
+
+    private static ParallelApplicantIngest.Result readSequentially(Path csvFile) throws IOException {
+        ApplicantRecordParser parser = new ApplicantRecordParser();
+        Map<String, Applicant> applicants = new LinkedHashMap<>();
+        RejectionCounts rejections = new RejectionCounts();
+        long[] accepted = new long[1];
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            new MappedCsvReader(channel).readAll(record -> {
+                DecodedApplicantRow row = parser.parse(record);
+                if (row != null && row.isValid()) {
+                    Applicant applicant = row.toApplicant();
+                    applicants.put(applicant.email(), applicant);
+                    accepted[0]++;
+                } else if (row != null) {
+                    rejections.increment(row.rejectionReason());
+                }
+            });
+        }
+        return new ParallelApplicantIngest.Result(applicants.values(), accepted[0], rejections);
+    }
+
+    private static long countRecords(Path csvFile) throws IOException {
+        long[] records = new long[1];
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            new MappedCsvReader(channel).readAll(record -> records[0]++);
+        }
+        return records[0];
+    }
+
+    /**
+     * Counts the valid rows of a file and those whose email was already accepted.
+     */
+    private static long[] countAccepted(Path csvFile) throws IOException {
+        ApplicantRecordParser parser = new ApplicantRecordParser();
+        Set<String> emails = new HashSet<>();
+        long[] counts = new long[2];
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            new MappedCsvReader(channel).readAll(record -> {
+                DecodedApplicantRow row = parser.parse(record);
+                if (row != null && row.isValid()) {
+                    counts[0]++;
+                    if (!emails.add(row.toApplicant().email())) {
+                        counts[1]++;
+                    }
+                }
+            });
+        }
+        return counts;
+    }
+
+    /**
+     * Generates rows with duplicate emails, invalid rows, CRLF endings and quoted names
+     * that span lines and contain record-like text.
+     */
+    private static String generateCsv(Random random) {
+        StringBuilder csv = new StringBuilder("name,email,delivery_datetime,score\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String email = "user" + random.nextInt(EMAIL_COUNT) + "@example.com";
+            String dateTime = String.format("2023-01-%02dT%02d:%02d:00",
+                    20 + random.nextInt(5), random.nextInt(24), random.nextInt(60));
+            String score = random.nextInt(1001) / 100 + "." + random.nextInt(10);
+            String name = switch (random.nextInt(6)) {
+                case 0 -> "\"Ana\nFake Row,fake" + i + "@example.com," + dateTime + ",9\nPopescu\"";
+                case 1 -> "\"Ionică \"\"Sergiu\"\" Ramos\"";
+                case 2 -> "X";
+                default -> "Person" + i + " Surname" + random.nextInt(10);
+            };
+            String lineEnd = random.nextBoolean() ? "\n" : "\r\n";
+            csv.append(name).append(',').append(email).append(',')
+                    .append(dateTime).append(',').append(score).append(lineEnd);
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package internship.applicantProcessor.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link PipelineMetrics} and {@link StageClock}.
+ * Verifies counting, stage timing, reset, and publication on the platform MBean server.
+ */
+class PipelineMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        PipelineMetrics.unregister();
+    }
+
+    // =================================================
+    // TEST CASES: COUNTERS
+    // =================================================
+
+    /**
+     * Verifies that the disabled metrics record nothing.
+     */
+    @Test
+    void record_WhenDisabled_RecordsNothing() {
+        // Given
+        PipelineMetrics metrics = PipelineMetrics.DISABLED;
+
+        // When
+        metrics.recordRowsRead(3);
+        metrics.recordAccepted(true);
+        metrics.recordRejected(2);
+        metrics.addNanos(PipelineStage.RANKING, 1_000);
+        metrics.startClock().lap(PipelineStage.CSV_DECODE);
+
+        // Then
+        assertAll(
+                () -> assertFalse(metrics.isEnabled(), "Disabled metrics should say so"),
+                () -> assertEquals(0, metrics.getRowsRead(), "No rows read expected"),
+                () -> assertEquals(0, metrics.getRowsAccepted(), "No rows accepted expected"),
+                () -> assertEquals(0, metrics.getReplacements(), "No replacements expected"),
+                () -> assertEquals(0, metrics.getRowsRejected(), "No rows rejected expected"),
+                () -> assertEquals(0, metrics.getRankingNanos(), "No ranking time expected"),
+                () -> assertEquals(0, metrics.getCsvDecodeNanos(), "No decoding time expected")
+        );
+    }
+
+    /**
+     * Verifies that enabled metrics add up counts and stage times, and reset clears them.
+     */
+    @Test
+    void record_WhenEnabled_AddsUpUntilReset() {
+        // Given
+        PipelineMetrics metrics = new PipelineMetrics();
+
+        // When
+        metrics.recordRowsRead(3);
+        metrics.recordAccepted(false);
+        metrics.recordAccepted(true);
+        metrics.recordAccepted(3, 2);
+        metrics.recordRejected(1);
+        metrics.addNanos(PipelineStage.JSON_OUTPUT, 500);
+        metrics.addNanos(PipelineStage.JSON_OUTPUT, 250);
+
+        // Then
+        assertAll(
+                () -> assertEquals(3, metrics.getRowsRead(), "Rows read should add up"),
+                () -> assertEquals(5, metrics.getRowsAccepted(), "Each accepted row should count"),
+                () -> assertEquals(3, metrics.getReplacements(), "Only replacements should count as such"),
+                () -> assertEquals(1, metrics.getRowsRejected(), "Rejected rows should count"),
+                () -> assertEquals(750, metrics.getJsonOutputNanos(), "Stage time should add up"),
+                () -> assertEquals(0, metrics.getValidationNanos(), "Other stages should stay at zero")
+        );
+
+        // When
+        metrics.reset();
+
+        // Then
+        assertAll(
+                () -> assertEquals(0, metrics.getRowsRead(), "Reset should clear rows read"),
+                () -> assertEquals(0, metrics.getRowsAccepted(), "Reset should clear rows accepted"),
+                () -> assertEquals(0, metrics.getJsonOutputNanos(), "Reset should clear stage time")
+        );
+    }
+
+    /**
+     * Verifies that a clock charges the time since the previous lap to the given stage.
+     */
+    @Test
+    void lap_WhenEnabled_ChargesElapsedTimeToStage() throws InterruptedException {
+        // Given
+        PipelineMetrics metrics = new PipelineMetrics();
+        StageClock clock = metrics.startClock();
+
+        // When
+        Thread.sleep(2);
+        clock.lap(PipelineStage.MODEL_PARSE);
+        clock.lap(PipelineStage.REPOSITORY_INSERT);
+
+        // Then
+        assertAll(
+                () -> assertTrue(metrics.getModelParseNanos() >= 2_000_000, "Sleep should be charged to the stage"),
+                () -> assertTrue(metrics.getRepositoryInsertNanos() < metrics.getModelParseNanos(),
+                        "Next lap should only be charged the time since the previous one")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: JMX
+    // =================================================
+
+    /**
+     * Verifies that registered metrics are readable over JMX and a new registration replaces them.
+     */
+    @Test
+    void register_WhenCalledTwice_PublishesLatestMetrics() throws Exception {
+        // Given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(PipelineMetrics.OBJECT_NAME);
+        PipelineMetrics first = new PipelineMetrics();
+        PipelineMetrics second = new PipelineMetrics();
+        first.recordRowsRead(1);
+        second.recordRowsRead(2);
+
+        // When
+        first.register();
+        second.register();
+
+        // Then
+        assertEquals(2L, server.getAttribute(name, "RowsRead"), "Latest registration should be published");
+
+        // When
+        PipelineMetrics.unregister();
+
+        // Then
+        assertFalse(server.isRegistered(name), "Unregister should remove the metrics");
+    }
+
+    /**
+     * Verifies that reset can be invoked over JMX.
+     */
+    @Test
+    void register_WhenResetInvokedOverJmx_ClearsCounters() throws Exception {
+        // Given
+        PipelineMetrics metrics = new PipelineMetrics();
+        metrics.recordRejected(4);
+        metrics.register();
+
+        // When
+        ManagementFactory.getPlatformMBeanServer()
+                .invoke(new ObjectName(PipelineMetrics.OBJECT_NAME), "reset", null, null);
+
+        // Then
+        assertEquals(0, metrics.getRowsRejected(), "Reset over JMX should clear the counters");
+    }
+}
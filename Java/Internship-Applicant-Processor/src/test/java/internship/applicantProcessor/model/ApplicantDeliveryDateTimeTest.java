@@ -7,6 +7,9 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +23,8 @@ class ApplicantDeliveryDateTimeTest {
     // TEST CONSTANTS
     // =================================================
     private static final String VALID_ISO_DATE = "2024-01-15T14:30:00";
+    private static final long FUZZ_SEED = 20240128L;
+    private static final int FUZZ_ITERATIONS = 10_000;
 
     // =================================================
     // TEST CASES: PARSING VALIDATION
@@ -63,6 +68,80 @@ class ApplicantDeliveryDateTimeTest {
         );
     }
 
+    /**
+     * Verifies that the fixed-layout decoder agrees with the ISO formatter on random
+     * date-times, including years before 1970 and leap days, at an offset into the text.
+     */
+    @Test
+    void decodeEpochSecond_WithRandomDateTimes_MatchesIsoFormatter() {
+        Random random = new Random(FUZZ_SEED);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            // Given
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+                    random.nextLong(-62_000_000_000L, 253_000_000_000L), 0, ZoneOffset.UTC);
+            String text = String.format("%04d-%02d-%02dT%02d:%02d:%02d", dateTime.getYear(), dateTime.getMonthValue(),
+                    dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+
+            // When
+            long epochSecond = ApplicantDeliveryDateTime.decodeEpochSecond("x," + text, 2);
+
+            // Then
+            assertEquals(LocalDateTime.parse(text).toEpochSecond(ZoneOffset.UTC), epochSecond, "Mismatch for " + text);
+        }
+    }
+
+    /**
+     * Verifies that text in the fixed layout naming a non-existent date or time is invalid.
+     * @param text Date-time in the fixed layout
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-02-30T10:00:00", // February 30
+            "2023-02-29T10:00:00", // Leap day outside a leap year
+            "1900-02-29T10:00:00", // Century years are not leap years
+            "2024-04-31T10:00:00", // April has 30 days
+            "2024-13-01T10:00:00", // Month 13
+            "2024-00-10T10:00:00", // Month 0
+            "2024-01-00T10:00:00", // Day 0
+            "2024-01-15T24:00:00", // Hour 24
+            "2024-01-15T23:60:00", // Minute 60
+            "2024-01-15T23:59:60", // Leap second
+            "2024-01-15 10:00:00", // Space separator
+            "2024/01/15T10:00:00", // Slash separators
+            "2024-0a-15T10:00:00"  // Non-digit
+    })
+    void decodeEpochSecond_WithInvalidDateTime_ReturnsInvalid(String text) {
+        // When & Then
+        assertEquals(ApplicantDeliveryDateTime.INVALID_EPOCH_SECOND, ApplicantDeliveryDateTime.decodeEpochSecond(text, 0));
+        assertThrows(DateTimeParseException.class, () -> ApplicantDeliveryDateTime.parsePreValidated(text));
+    }
+
+    /**
+     * Verifies that leap days of leap years, including years divisible by 400, are decoded.
+     */
+    @Test
+    void decodeEpochSecond_WithLeapDays_ReturnsEpochSecond() {
+        // When & Then
+        assertAll(
+                () -> assertEquals(LocalDateTime.parse("2024-02-29T23:59:59").toEpochSecond(ZoneOffset.UTC),
+                        ApplicantDeliveryDateTime.decodeEpochSecond("2024-02-29T23:59:59", 0)),
+                () -> assertEquals(LocalDateTime.parse("2000-02-29T00:00:00").toEpochSecond(ZoneOffset.UTC),
+                        ApplicantDeliveryDateTime.decodeEpochSecond("2000-02-29T00:00:00", 0))
+        );
+    }
+
+    /**
+     * Verifies that other ISO-8601 layouts are still parsed by the formatter.
+     */
+    @Test
+    void parsePreValidated_WithoutSeconds_FallsBackToIsoFormatter() {
+        // When
+        ApplicantDeliveryDateTime result = ApplicantDeliveryDateTime.parsePreValidated("2024-01-15T14:30");
+
+        // Then
+        assertEquals(LocalDateTime.parse(VALID_ISO_DATE), result.dateTime());
+    }
+
     // =================================================
     // TEST CASES: DATE COMPARISON
     // =================================================
@@ -175,6 +254,81 @@ class ApplicantDeliveryDateTimeTest {
         );
     }
 
+    // =================================================
+    // TEST CASES: EPOCH-SECOND REPRESENTATION
+    // =================================================
+
+    /**
+     * Verifies that calendar fields convert to the same epoch second as {@link LocalDateTime},
+     * across leap years, century years and years before 1970.
+     */
+    @Test
+    void toEpochSecond_WithRandomDateTimes_MatchesLocalDateTime() {
+        Random random = new Random(FUZZ_SEED);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            // Given
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+                    random.nextLong(-70_000_000_000L, 250_000_000_000L), 0, ZoneOffset.UTC);
+
+            // When
+            long epochSecond = ApplicantDeliveryDateTime.toEpochSecond(dateTime.getYear(), dateTime.getMonthValue(),
+                    dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+
+            // Then
+            assertEquals(dateTime.toEpochSecond(ZoneOffset.UTC), epochSecond, "Epoch second mismatch for " + dateTime);
+            assertEquals(dateTime, ApplicantDeliveryDateTime.ofEpochSecond(epochSecond).dateTime(),
+                    "Round trip mismatch for " + dateTime);
+        }
+    }
+
+    /**
+     * Verifies that day and midday checks use calendar days before 1970 too.
+     */
+    @Test
+    void isAfterMidday_BeforeEpoch_UsesCalendarDay() {
+        // Given
+        ApplicantDeliveryDateTime morning = parse("1969-12-31T11:59:59");
+        ApplicantDeliveryDateTime afternoon = parse("1969-12-31T12:00:00");
+
+        // When & Then
+        assertAll(
+                () -> assertFalse(morning.isAfterMidday(), "Morning before 1970 is not after midday"),
+                () -> assertTrue(afternoon.isAfterMidday(), "Afternoon before 1970 is after midday"),
+                () -> assertTrue(morning.isOnSameDate(afternoon), "Both are on the same day"),
+                () -> assertFalse(afternoon.isOnSameDate(parse("1970-01-01T00:00:00")), "Midnight starts a new day")
+        );
+    }
+
+    /**
+     * Verifies that sub-second precision is rejected rather than silently truncated.
+     */
+    @Test
+    void constructor_WithFractionalSecond_ThrowsIllegalArgumentException() {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.parse("2024-01-15T14:30:00.5");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ApplicantDeliveryDateTime(dateTime),
+                "Fractional seconds cannot be stored as epoch seconds");
+    }
+
+    /**
+     * Verifies that equality and hashing follow the wrapped date-time.
+     */
+    @Test
+    void equals_WithSameDateTime_IsEqual() {
+        // Given
+        ApplicantDeliveryDateTime parsed = parse(VALID_ISO_DATE);
+        ApplicantDeliveryDateTime constructed = new ApplicantDeliveryDateTime(LocalDateTime.parse(VALID_ISO_DATE));
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(parsed, constructed, "Same date-time should be equal"),
+                () -> assertEquals(parsed.hashCode(), constructed.hashCode(), "Equal values should hash equally"),
+                () -> assertNotEquals(parsed, parse("2024-01-15T14:30:01"), "Different seconds should differ")
+        );
+    }
+
     // =================================================
     // HELPER METHODS
     // =================================================
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,6 +16,13 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class ApplicantNameTest {
 
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long FUZZ_SEED = 20240205L;
+    private static final int FUZZ_ITERATIONS = 10_000;
+    private static final String FUZZ_ALPHABET = "ab- \t\n\u000B\f\r\u0001ăß";
+
     // =================================================
     // TEST CASES: PARSING VALIDATION
     // =================================================
@@ -104,4 +113,31 @@ class ApplicantNameTest {
         assertEquals(List.of("Michael", "James"), result.middleNames(),
                 "Should preserve middle name order and quantity");
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies on random names with runs of every whitespace character, other control
+     * characters and non-ASCII letters that the parts equal a regular expression split.
+     */
+    @Test
+    void parsePreValidated_WithRandomNames_MatchesRegexSplit() {
+        Random random = new Random(FUZZ_SEED);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            // Given
+            StringBuilder fullName = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                fullName.append(FUZZ_ALPHABET.charAt(random.nextInt(FUZZ_ALPHABET.length())));
+            }
+            String[] parts = fullName.toString().trim().split("\\s+");
+            ApplicantName expected = new ApplicantName(parts[0],
+                    parts.length > 2 ? Arrays.asList(parts).subList(1, parts.length - 1) : null,
+                    parts[parts.length - 1]);
+
+            // When
+            ApplicantName actual = ApplicantName.parsePreValidated(fullName.toString());
+
+            // Then
+            assertEquals(expected, actual, "Mismatch for \"" + fullName + "\"");
+        }
+    }
+}
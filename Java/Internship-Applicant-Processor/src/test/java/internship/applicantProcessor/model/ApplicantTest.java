@@ -6,6 +6,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,6 +88,127 @@ class ApplicantTest {
                 "Score adjustment should match expected value");
     }
 
+    /**
+     * Verifies that adjusted scores which are equal in hundredths tie exactly, even where
+     * the double sums differ in the last bit (0.01 + 1.0 vs 2.01 - 1.0).
+     */
+    @Test
+    void calculateAdjustedScoreHundredths_WithBonusAndMalus_TiesExactly() {
+        // Given
+        ApplicantDeliveryDateTime earliest = parse("2024-01-01T09:00:00");
+        ApplicantDeliveryDateTime latest = parse("2024-01-03T13:00:00");
+        Applicant withBonus = new Applicant(TEST_NAME, TEST_EMAIL, earliest, 0.01);
+        Applicant withMalus = new Applicant(TEST_NAME, TEST_EMAIL, latest, 2.01);
+
+        // When
+        int bonusResult = withBonus.calculateAdjustedScoreHundredths(earliest, latest);
+        int malusResult = withMalus.calculateAdjustedScoreHundredths(earliest, latest);
+
+        // Then
+        assertEquals(101, bonusResult, "Bonus should add 100 hundredths");
+        assertEquals(bonusResult, malusResult, "Equal adjusted scores should tie");
+        assertEquals(1.01, withMalus.calculateAdjustedScore(earliest, latest), "Double result should be exact");
+    }
+
+    /**
+     * Verifies that the adjusted score from epoch days matches the one from delivery times.
+     */
+    @ParameterizedTest(name = "Delivered {0} with score {1}")
+    @CsvSource({
+            "2024-01-01T09:00:00, 9.5",
+            "2024-01-02T15:00:00, 5.0",
+            "2024-01-03T11:59:59, 0.0",
+            "2024-01-03T12:00:00, 0.5"
+    })
+    void calculateAdjustedScoreHundredths_FromEpochDays_MatchesDeliveryTimes(String delivery, double score) {
+        // Given
+        ApplicantDeliveryDateTime earliest = parse("2024-01-01T09:00:00");
+        ApplicantDeliveryDateTime latest = parse("2024-01-03T13:00:00");
+        Applicant applicant = new Applicant(TEST_NAME, TEST_EMAIL, parse(delivery), score);
+
+        // When & Then
+        assertEquals(applicant.calculateAdjustedScoreHundredths(earliest, latest),
+                applicant.calculateAdjustedScoreHundredths(earliest.epochDay(), latest.epochDay()));
+    }
+
+    // =================================================
+    // TEST CASES: COMPACT REPRESENTATION
+    // =================================================
+
+    /**
+     * Verifies that every valid two-decimal score survives the hundredths representation exactly.
+     */
+    @Test
+    void score_WithEveryTwoDecimalScore_RoundTripsExactly() {
+        for (int hundredths = 0; hundredths <= 1000; hundredths++) {
+            // Given
+            String text = hundredths / 100 + "." + String.format("%02d", hundredths % 100);
+            double score = Double.parseDouble(text);
+
+            // When
+            Applicant applicant = new Applicant(TEST_NAME, TEST_EMAIL, BASE_DATE, score);
+
+            // Then
+            assertEquals(hundredths, applicant.scoreHundredths(), "Hundredths mismatch for " + text);
+            assertEquals(score, applicant.score(), "Score mismatch for " + text);
+        }
+    }
+
+    /**
+     * Verifies that scores with more than two decimals are rejected instead of rounded.
+     * @param score Score that is not a whole number of hundredths
+     */
+    @ParameterizedTest(name = "Reject score {0}")
+    @ValueSource(doubles = {0.001, 5.555, Double.NaN, Double.POSITIVE_INFINITY, 1e300})
+    void constructor_WithSubHundredthScore_ThrowsIllegalArgumentException(double score) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Applicant(TEST_NAME, TEST_EMAIL, BASE_DATE, score),
+                "Score should be rejected: " + score);
+    }
+
+    /**
+     * Verifies that the compact factory and the public constructor build equal applicants.
+     */
+    @Test
+    void ofCompact_WithSameValues_EqualsConstructedApplicant() {
+        // Given
+        Applicant constructed = new Applicant(TEST_NAME, TEST_EMAIL, BASE_DATE, 7.25);
+
+        // When
+        Applicant compact = Applicant.ofCompact(TEST_NAME, TEST_EMAIL, BASE_DATE.epochSecond(), 725);
+
+        // Then
+        assertAll(
+                () -> assertEquals(constructed, compact, "Applicants should be equal"),
+                () -> assertEquals(constructed.hashCode(), compact.hashCode(), "Hash codes should be equal"),
+                () -> assertEquals(BASE_DATE, compact.deliveryDateTime(), "Delivery should convert back"),
+                () -> assertEquals(7.25, compact.score(), "Score should convert back")
+        );
+    }
+
+    /**
+     * Verifies that an applicant with an unparsed name splits it on first access, caches
+     * the result and equals the applicant built from the parsed name.
+     */
+    @Test
+    void ofUnparsedName_WithFullName_ParsesNameOnFirstAccess() {
+        // Given
+        Applicant parsed = Applicant.ofCompact(new ApplicantName("John", List.of("Michael"), "Doe"),
+                TEST_EMAIL, BASE_DATE.epochSecond(), 725);
+
+        // When
+        Applicant unparsed = Applicant.ofUnparsedName("John \t Michael Doe", TEST_EMAIL, BASE_DATE.epochSecond(), 725);
+
+        // Then
+        assertAll(
+                () -> assertEquals("Doe", unparsed.name().lastName(), "Last name should be parsed"),
+                () -> assertSame(unparsed.name(), unparsed.name(), "Parsed name should be cached"),
+                () -> assertEquals(parsed, unparsed, "Applicants should be equal"),
+                () -> assertEquals(parsed.hashCode(), unparsed.hashCode(), "Hash codes should be equal"),
+                () -> assertEquals(parsed.toString(), unparsed.toString(), "String forms should be equal")
+        );
+    }
+
     // =================================================
     // TEST CASES: PRIVATE METHOD VALIDATION
     // =================================================
@@ -4,6 +4,7 @@ import internship.applicantProcessor.model.Applicant;
 import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
 import internship.applicantProcessor.model.ApplicantName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -64,4 +65,54 @@ class ApplicantRepositoryTest {
         assertTrue(repository.getApplicants().contains(applicant),
                 "Repository should contain the added applicant");
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that an applicant is found by email, and the last one added for it wins.
+     */
+    @Test
+    void findApplicant_WithStoredEmail_ReturnsLastApplicant() {
+        // Given
+        Applicant first = new Applicant(TEST_NAME, "john.doe@test.com", TEST_DATE, TEST_SCORE);
+        Applicant second = new Applicant(TEST_NAME, "john.doe@test.com", TEST_DATE, 9.0);
+
+        // When
+        repository.addApplicant(first);
+        repository.addApplicant(second);
+
+        // Then
+        assertAll(
+                () -> assertSame(second, repository.findApplicant("john.doe@test.com"), "Last applicant should be found"),
+                () -> assertNull(repository.findApplicant("jane@test.com"), "Missing email should not be found")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: STATISTICS
+    // =================================================
+
+    /**
+     * Verifies that replacing the only applicant at the earliest time and with the top score
+     * retracts both from the statistics.
+     */
+    @Test
+    void getStatistics_AfterReplacingEarliestApplicant_RetractsOldValues() {
+        // Given
+        ApplicantDeliveryDateTime later = ApplicantDeliveryDateTime.parsePreValidated("2024-01-02T10:00:00");
+        repository.addApplicant(new Applicant(TEST_NAME, "a@test.com", TEST_DATE, 9.5));
+        repository.addApplicant(new Applicant(TEST_NAME, "b@test.com", later, 4.0));
+
+        // When
+        repository.addApplicant(new Applicant(TEST_NAME, "a@test.com", later, 6.0));
+
+        // Then
+        ApplicantStatistics statistics = repository.getStatistics();
+        assertNotNull(statistics);
+        assertAll(
+                () -> assertEquals(2, statistics.count(), "Replacement should not add to the count"),
+                () -> assertEquals(later.epochSecond(), statistics.earliestDeliveryEpochSecond(),
+                        "Earliest time should be recomputed"),
+                () -> assertEquals(600, statistics.scoreAtRank(0), "Old top score should be retracted"),
+                () -> assertEquals(400, statistics.scoreAtRank(1))
+        );
+    }
+}
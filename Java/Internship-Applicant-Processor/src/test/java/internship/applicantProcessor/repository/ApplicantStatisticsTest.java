@@ -0,0 +1,249 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ApplicantStatistics}.
+ * Verifies the incremental aggregates, including retraction of replaced applicants.
+ */
+class ApplicantStatisticsTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long DAY_ONE = 1_704_067_200L;
+    private static final long DAY_TWO = DAY_ONE + 86_400;
+    private static final ApplicantName TEST_NAME = new ApplicantName("John", null, "Doe");
+
+    private ApplicantStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new ApplicantStatistics();
+    }
+
+    // =================================================
+    // TEST CASES: COUNT AND DELIVERY RANGE
+    // =================================================
+
+    /**
+     * Verifies that empty statistics report no delivery range.
+     */
+    @Test
+    void earliestDeliveryEpochSecond_WhenEmpty_ThrowsIllegalStateException() {
+        // When & Then
+        assertAll(
+                () -> assertTrue(statistics.isEmpty(), "New statistics should be empty"),
+                () -> assertThrows(IllegalStateException.class, statistics::earliestDeliveryEpochSecond),
+                () -> assertThrows(IllegalStateException.class, statistics::latestDeliveryEpochSecond)
+        );
+    }
+
+    /**
+     * Verifies count and delivery range after additions.
+     */
+    @Test
+    void add_WithSeveralApplicants_TracksCountAndDeliveryRange() {
+        // When
+        statistics.add(500, DAY_TWO);
+        statistics.add(700, DAY_ONE);
+        statistics.add(600, DAY_TWO + 10);
+
+        // Then
+        assertAll(
+                () -> assertEquals(3, statistics.count()),
+                () -> assertEquals(DAY_ONE, statistics.earliestDeliveryEpochSecond()),
+                () -> assertEquals(DAY_TWO + 10, statistics.latestDeliveryEpochSecond())
+        );
+    }
+
+    /**
+     * Verifies that retracting one of several applicants at an extreme keeps the range fresh.
+     */
+    @Test
+    void remove_WithSharedExtreme_KeepsRange() {
+        // Given
+        statistics.add(500, DAY_ONE);
+        statistics.add(600, DAY_ONE);
+        statistics.add(700, DAY_TWO);
+
+        // When
+        statistics.remove(500, DAY_ONE);
+
+        // Then
+        assertAll(
+                () -> assertFalse(statistics.isDeliveryRangeStale(), "Another applicant still holds the earliest time"),
+                () -> assertEquals(DAY_ONE, statistics.earliestDeliveryEpochSecond())
+        );
+    }
+
+    /**
+     * Verifies that retracting the only applicant at an extreme marks the range stale until
+     * it is recomputed.
+     */
+    @Test
+    void remove_WithOnlyApplicantAtExtreme_MarksRangeStale() {
+        // Given
+        statistics.add(500, DAY_ONE);
+        statistics.add(700, DAY_TWO);
+        statistics.add(800, DAY_TWO + 5);
+
+        // When
+        statistics.remove(500, DAY_ONE);
+
+        // Then
+        assertTrue(statistics.isDeliveryRangeStale(), "Earliest time is no longer known");
+        statistics.recomputeDeliveryRange(LongStream.of(DAY_TWO, DAY_TWO + 5));
+        assertAll(
+                () -> assertFalse(statistics.isDeliveryRangeStale()),
+                () -> assertEquals(DAY_TWO, statistics.earliestDeliveryEpochSecond()),
+                () -> assertEquals(DAY_TWO + 5, statistics.latestDeliveryEpochSecond()),
+                () -> assertEquals(2, statistics.count())
+        );
+    }
+
+    // =================================================
+    // TEST CASES: SCORE INDEX
+    // =================================================
+
+    /**
+     * Verifies ranked scores with duplicate scores.
+     */
+    @Test
+    void scoreAtRank_WithDuplicateScores_RanksHighestFirst() {
+        // Given
+        statistics.add(900, DAY_ONE);
+        statistics.add(500, DAY_ONE);
+        statistics.add(900, DAY_ONE);
+        statistics.add(700, DAY_ONE);
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(900, statistics.scoreAtRank(0)),
+                () -> assertEquals(900, statistics.scoreAtRank(1)),
+                () -> assertEquals(700, statistics.scoreAtRank(2)),
+                () -> assertEquals(500, statistics.scoreAtRank(3))
+        );
+    }
+
+    /**
+     * Verifies that a retracted score no longer counts.
+     */
+    @Test
+    void remove_WithScore_RetractsScore() {
+        // Given
+        statistics.add(900, DAY_ONE);
+        statistics.add(300, DAY_ONE);
+        statistics.add(400, DAY_ONE);
+
+        // When
+        statistics.remove(900, DAY_ONE);
+
+        // Then
+        assertAll(
+                () -> assertEquals(400, statistics.scoreAtRank(0)),
+                () -> assertEquals(300, statistics.scoreAtRank(1))
+        );
+    }
+
+    /**
+     * Verifies argument checks of the score queries.
+     */
+    @Test
+    void scoreQueries_OutOfRange_Throw() {
+        // Given
+        statistics.add(900, DAY_ONE);
+
+        // When & Then
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> statistics.scoreAtRank(1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> statistics.scoreAtRank(-1))
+        );
+    }
+
+    // =================================================
+    // TEST CASES: COLLECTOR
+    // =================================================
+
+    /**
+     * Verifies that collected statistics match statistics built by adding each applicant,
+     * on sequential and parallel streams.
+     */
+    @Test
+    void collector_WithSequentialAndParallelStreams_MatchesIncrementalStatistics() {
+        // Given
+        Random random = new Random(DAY_ONE);
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Applicant applicant = Applicant.ofCompact(TEST_NAME, "user" + i + "@test.com",
+                    DAY_ONE + random.nextInt(3 * 86_400), random.nextInt(1001));
+            applicants.add(applicant);
+            statistics.add(applicant.scoreHundredths(), applicant.deliveryEpochSecond());
+        }
+
+        // When
+        ApplicantStatistics sequential = applicants.stream().collect(ApplicantStatistics.collector());
+        ApplicantStatistics parallel = applicants.parallelStream().collect(ApplicantStatistics.collector());
+
+        // Then
+        for (ApplicantStatistics collected : List.of(sequential, parallel)) {
+            assertAll(
+                    () -> assertEquals(statistics.count(), collected.count()),
+                    () -> assertEquals(statistics.earliestDeliveryEpochSecond(), collected.earliestDeliveryEpochSecond()),
+                    () -> assertEquals(statistics.latestDeliveryEpochSecond(), collected.latestDeliveryEpochSecond()),
+                    () -> assertEquals(statistics.scores().topAverage(0.5), collected.scores().topAverage(0.5)),
+                    () -> assertEquals(statistics.scores().percentile(90), collected.scores().percentile(90)),
+                    () -> assertEquals(statistics.scoreAtRank(0), collected.scoreAtRank(0))
+            );
+        }
+    }
+
+    /**
+     * Verifies that combining keeps the number of applicants at each extreme, so a later
+     * retraction only marks the range stale once all of them are gone.
+     */
+    @Test
+    void combine_WithSharedExtremes_AddsExtremeCounts() {
+        // Given
+        statistics.add(500, DAY_ONE);
+        statistics.add(600, DAY_TWO);
+        ApplicantStatistics other = new ApplicantStatistics();
+        other.add(700, DAY_ONE);
+        other.add(800, DAY_ONE + 10);
+
+        // When
+        statistics.combine(other);
+        statistics.remove(500, DAY_ONE);
+
+        // Then
+        assertAll(
+                () -> assertFalse(statistics.isDeliveryRangeStale(), "Another applicant still holds the earliest time"),
+                () -> assertEquals(DAY_ONE, statistics.earliestDeliveryEpochSecond()),
+                () -> assertEquals(DAY_TWO, statistics.latestDeliveryEpochSecond()),
+                () -> assertEquals(3, statistics.count()),
+                () -> assertEquals(800, statistics.scoreAtRank(0))
+        );
+    }
+
+    /**
+     * Verifies that an empty stream collects empty statistics.
+     */
+    @Test
+    void collector_WithNoApplicants_ReturnsEmptyStatistics() {
+        // When
+        ApplicantStatistics collected = List.<Applicant>of().stream().collect(ApplicantStatistics.collector());
+
+        // Then
+        assertTrue(collected.isEmpty());
+    }
+}
@@ -0,0 +1,18 @@
+package internship.applicantProcessor.repository;
+
+/**
+ * Comprehensive tests for {@link ColumnarApplicantRepository}.
+ * Runs the shared contract of {@link EncodedApplicantRepositoryContractTest} across index and
+ * column growth.
+ */
+class ColumnarApplicantRepositoryTest extends EncodedApplicantRepositoryContractTest<ColumnarApplicantRepository> {
+
+    ColumnarApplicantRepositoryTest() {
+        super(20240129L, 20_000, 5_000);
+    }
+
+    @Override
+    protected ColumnarApplicantRepository createRepository() {
+        return new ColumnarApplicantRepository();
+    }
+}
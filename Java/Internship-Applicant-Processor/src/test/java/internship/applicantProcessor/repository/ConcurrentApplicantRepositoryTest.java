@@ -0,0 +1,247 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ConcurrentApplicantRepository}.
+ * Verifies that writes carrying line sequence numbers end in the same state as adding the
+ * lines in order on one thread, whatever order and thread they arrive on.
+ */
+class ConcurrentApplicantRepositoryTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final ApplicantName TEST_NAME = new ApplicantName("John", null, "Doe");
+    private static final String TEST_EMAIL = "john.doe@test.com";
+    private static final ApplicantDeliveryDateTime TEST_DATE =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T10:00:00");
+    private static final long SHUFFLE_SEED = 20240131L;
+    private static final int ROWS = 50_000;
+    private static final int EMAIL_COUNT = 8_000;
+    private static final int WRITER_THREADS = 8;
+
+    private ConcurrentApplicantRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ConcurrentApplicantRepository();
+    }
+
+    // =================================================
+    // TEST CASES: SEQUENCE ORDERING
+    // =================================================
+
+    /**
+     * Verifies that a write with a higher sequence number replaces the stored applicant.
+     */
+    @Test
+    void addApplicant_WithHigherSequence_ReplacesApplicant() {
+        // Given
+        Applicant earlier = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 5.0);
+        Applicant later = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 8.0);
+
+        // When
+        repository.addApplicant(earlier, 3);
+        repository.addApplicant(later, 7);
+
+        // Then
+        assertEquals(List.of(later), List.copyOf(repository.getApplicants()), "Later line should win");
+    }
+
+    /**
+     * Verifies that a lookup by email returns the applicant with the highest sequence number.
+     */
+    @Test
+    void findApplicant_WithOutOfOrderWrites_ReturnsHighestSequence() {
+        // Given
+        Applicant earlier = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 5.0);
+        Applicant later = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 8.0);
+
+        // When
+        repository.addApplicant(later, 7);
+        repository.addApplicant(earlier, 3);
+
+        // Then
+        assertAll(
+                () -> assertSame(later, repository.findApplicant(TEST_EMAIL), "Later line should be found"),
+                () -> assertNull(repository.findApplicant("missing@test.com"), "Missing email should not be found")
+        );
+    }
+
+    /**
+     * Verifies that a write arriving late with a lower sequence number is ignored.
+     */
+    @Test
+    void addApplicant_WithLowerSequence_KeepsApplicant() {
+        // Given
+        Applicant earlier = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 5.0);
+        Applicant later = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 8.0);
+
+        // When
+        repository.addApplicant(later, 7);
+        repository.addApplicant(earlier, 3);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, repository.getUniqueApplicantCount(), "Email should be counted once"),
+                () -> assertEquals(List.of(later), List.copyOf(repository.getApplicants()), "Later line should win")
+        );
+    }
+
+    /**
+     * Verifies that an equal sequence number keeps the stored applicant.
+     */
+    @Test
+    void addApplicant_WithEqualSequence_KeepsApplicant() {
+        // Given
+        Applicant stored = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 5.0);
+        Applicant duplicate = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 8.0);
+
+        // When
+        repository.addApplicant(stored, 4);
+        repository.addApplicant(duplicate, 4);
+
+        // Then
+        assertEquals(List.of(stored), List.copyOf(repository.getApplicants()), "Stored applicant should stay");
+    }
+
+    /**
+     * Verifies that emails are listed in order of their first line, even when a later line
+     * of an email arrives first.
+     */
+    @Test
+    void getApplicants_WithOutOfOrderWrites_ListsByFirstLine() {
+        // Given
+        Applicant a = new Applicant(TEST_NAME, "a@test.com", TEST_DATE, 5.0);
+        Applicant b = new Applicant(TEST_NAME, "b@test.com", TEST_DATE, 6.0);
+        Applicant aLater = new Applicant(TEST_NAME, "a@test.com", TEST_DATE, 7.0);
+
+        // When
+        repository.addApplicant(aLater, 5);
+        repository.addApplicant(b, 2);
+        repository.addApplicant(a, 1);
+
+        // Then
+        assertEquals(List.of(aLater, b), List.copyOf(repository.getApplicants()),
+                "a should come first with its last line's applicant");
+    }
+
+    /**
+     * Verifies that writes without a sequence number behave like the base repository.
+     */
+    @Test
+    void addApplicant_WithoutSequence_KeepsLastApplicantInFirstSeenOrder() {
+        // Given
+        Applicant a = new Applicant(TEST_NAME, "a@test.com", TEST_DATE, 5.0);
+        Applicant b = new Applicant(TEST_NAME, "b@test.com", TEST_DATE, 6.0);
+        Applicant aLater = new Applicant(TEST_NAME, "a@test.com", TEST_DATE, 7.0);
+
+        // When
+        repository.addApplicant(a);
+        repository.addApplicant(b);
+        repository.addApplicant(aLater);
+
+        // Then
+        assertEquals(List.of(aLater, b), List.copyOf(repository.getApplicants()), "Last write per email should win");
+    }
+
+    /**
+     * Verifies null handling.
+     */
+    @Test
+    void addApplicant_WithNullApplicant_ThrowsNullPointerException() {
+        // When & Then
+        assertAll(
+                () -> assertThrows(NullPointerException.class, () -> repository.addApplicant(null)),
+                () -> assertThrows(NullPointerException.class, () -> repository.addApplicant(null, 0))
+        );
+    }
+
+    /**
+     * Verifies that the returned snapshot cannot be modified.
+     */
+    @Test
+    void getApplicants_ReturnsUnmodifiableSnapshot() {
+        // Given
+        repository.addApplicant(new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 5.0), 0);
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> repository.getApplicants().clear());
+    }
+
+    // =================================================
+    // TEST CASES: CONCURRENT WRITERS
+    // =================================================
+
+    /**
+     * Verifies that shuffled lines written from several threads give the same applicants, in
+     * the same order, as a {@link LinkedHashMap} filled in line order.
+     */
+    @Test
+    void addApplicant_FromShuffledConcurrentWriters_MatchesSequentialOrder() throws Exception {
+        // Given
+        Random random = new Random(SHUFFLE_SEED);
+        List<Applicant> lines = new ArrayList<>(ROWS);
+        Map<String, Applicant> expected = new LinkedHashMap<>();
+        for (int i = 0; i < ROWS; i++) {
+            Applicant applicant = new Applicant(
+                    new ApplicantName("First" + i, null, "Last" + random.nextInt(100)),
+                    "user" + random.nextInt(EMAIL_COUNT) + "@test.com",
+                    TEST_DATE,
+                    random.nextInt(1001) / 100.0);
+            lines.add(applicant);
+            expected.put(applicant.email(), applicant);
+        }
+        List<Integer> order = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+
+        // When
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS)) {
+            for (int t = 0; t < WRITER_THREADS; t++) {
+                int writer = t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = writer; i < ROWS; i += WRITER_THREADS) {
+                        int line = order.get(i);
+                        repository.addApplicant(lines.get(line), line);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : writers) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertAll(
+                () -> assertEquals(expected.size(), repository.getUniqueApplicantCount(), "Unique count mismatch"),
+                () -> assertEquals(List.copyOf(expected.values()), List.copyOf(repository.getApplicants()),
+                        "Applicants or their order differ from the sequential result")
+        );
+    }
+}
@@ -0,0 +1,208 @@
+package internship.applicantProcessor.repository;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contract tests shared by the repositories that encode applicants into their own storage,
+ * {@link ColumnarApplicantRepository} and {@link OffHeapApplicantRepository}.
+ * Verifies that they keep the {@link ApplicantStore} contract, list applicants in
+ * first-seen order and round-trip every field exactly. Subclasses create the repository,
+ * size the random inserts so that their storage grows, and add store-specific cases.
+ * @param <R> Repository under test
+ */
+abstract class EncodedApplicantRepositoryContractTest<R extends ApplicantStore> {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    protected static final ApplicantName TEST_NAME = new ApplicantName("John", null, "Doe");
+    protected static final String TEST_EMAIL = "john.doe@test.com";
+    protected static final ApplicantDeliveryDateTime TEST_DATE =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T10:00:00");
+    private static final String[] NAME_PARTS = {"Ana", "Ionică", "Ștefănescu", "Hoffman-Rus", "O'Neil", "X"};
+
+    protected final long fuzzSeed;
+    protected final int fuzzIterations;
+    protected final int emailCount;
+    protected R repository;
+
+    /**
+     * @param fuzzSeed Seed of the random inserts
+     * @param fuzzIterations Number of random inserts
+     * @param emailCount Number of distinct emails, and of applicants in the index growth test
+     */
+    protected EncodedApplicantRepositoryContractTest(long fuzzSeed, int fuzzIterations, int emailCount) {
+        this.fuzzSeed = fuzzSeed;
+        this.fuzzIterations = fuzzIterations;
+        this.emailCount = emailCount;
+    }
+
+    /**
+     * Creates an empty repository for each test.
+     */
+    protected abstract R createRepository();
+
+    @BeforeEach
+    void setUp() {
+        repository = createRepository();
+    }
+
+    // =================================================
+    // TEST CASES: CONTRACT
+    // =================================================
+
+    /**
+     * Verifies that an added applicant is stored and read back equal.
+     */
+    @Test
+    void addApplicant_WithValidInput_StoresApplicant() {
+        // Given
+        Applicant applicant = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 7.5);
+
+        // When
+        repository.addApplicant(applicant);
+
+        // Then
+        assertEquals(1, repository.getUniqueApplicantCount(), "Repository should contain exactly one applicant");
+        assertTrue(repository.getApplicants().contains(applicant), "Repository should contain the added applicant");
+    }
+
+    /**
+     * Verifies that every stored email is found after the index grows, and a missing one is not.
+     */
+    @Test
+    void findApplicant_AfterIndexGrows_FindsEveryEmail() {
+        // Given
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < emailCount; i++) {
+            applicants.add(new Applicant(TEST_NAME, "applicant" + i + "@test.com", TEST_DATE, i % 11 * 0.5));
+        }
+
+        // When
+        applicants.forEach(repository::addApplicant);
+
+        // Then
+        for (Applicant applicant : applicants) {
+            assertEquals(applicant, repository.findApplicant(applicant.email()), "Stored email should be found");
+        }
+        assertNull(repository.findApplicant("missing@test.com"), "Missing email should not be found");
+    }
+
+    /**
+     * Verifies that the last applicant per email wins, including a shorter replacement name
+     * written in place and a longer one appended.
+     */
+    @Test
+    void addApplicant_WithSameEmail_KeepsLastApplicant() {
+        // Given
+        Applicant first = new Applicant(new ApplicantName("Johnathan", List.of("Middle"), "Doe"), TEST_EMAIL, TEST_DATE, 5.0);
+        Applicant shorter = new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 6.0);
+        Applicant longer = new Applicant(new ApplicantName("Jo", List.of("Anne", "Marie"), "Doe-Smith"),
+                TEST_EMAIL, TEST_DATE, 7.0);
+
+        // When & Then
+        repository.addApplicant(first);
+        repository.addApplicant(shorter);
+        assertEquals(List.of(shorter), List.copyOf(repository.getApplicants()), "Shorter name should replace in place");
+        repository.addApplicant(longer);
+        assertEquals(List.of(longer), List.copyOf(repository.getApplicants()), "Longer name should replace");
+    }
+
+    /**
+     * Verifies that the applicants view cannot modify the repository.
+     */
+    @Test
+    void getApplicants_WhenModified_ThrowsUnsupportedOperationException() {
+        // Given
+        repository.addApplicant(new Applicant(TEST_NAME, TEST_EMAIL, TEST_DATE, 7.5));
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class,
+                () -> repository.getApplicants().add(new Applicant(TEST_NAME, "other@test.com", TEST_DATE, 1.0)),
+                "View should be read-only");
+        assertThrows(UnsupportedOperationException.class, () -> repository.getApplicants().clear(),
+                "View should be read-only");
+    }
+
+    // =================================================
+    // TEST CASES: ROUND TRIP
+    // =================================================
+
+    /**
+     * Verifies that null and empty middle names stay distinct, and that name parts longer
+     * than a page or a one-byte length survive.
+     */
+    @Test
+    void getApplicants_WithUnusualNames_RoundTripsExactly() {
+        // Given
+        List<Applicant> applicants = List.of(
+                new Applicant(new ApplicantName("A", null, "B"), "a@test.com", TEST_DATE, 1.0),
+                new Applicant(new ApplicantName("A", List.of(), "B"), "b@test.com", TEST_DATE, 1.0),
+                new Applicant(new ApplicantName("ț".repeat(200), null, "B"), "c@test.com", TEST_DATE, 1.0),
+                new Applicant(new ApplicantName("A", null, "x".repeat(ByteArena.PAGE_SIZE + 1)), "d@test.com", TEST_DATE, 1.0),
+                new Applicant(new ApplicantName("", null, ""), "ĕmail@test.com", TEST_DATE, 1.0)
+        );
+
+        // When
+        applicants.forEach(repository::addApplicant);
+
+        // Then
+        assertEquals(applicants, List.copyOf(repository.getApplicants()), "Applicants should round-trip exactly");
+    }
+
+    /**
+     * Verifies on random inserts with duplicate emails that the repository matches a
+     * last-seen-wins map in content and first-seen order, across the growth of its storage.
+     */
+    @Test
+    void addApplicant_WithRandomDuplicates_MatchesInsertionOrderedMap() {
+        // Given
+        Random random = new Random(fuzzSeed);
+        Map<String, Applicant> expected = new LinkedHashMap<>();
+
+        // When
+        for (int i = 0; i < fuzzIterations; i++) {
+            Applicant applicant = randomApplicant(random);
+            expected.put(applicant.email(), applicant);
+            repository.addApplicant(applicant);
+        }
+
+        // Then
+        assertEquals(expected.size(), repository.getUniqueApplicantCount(), "Unique count should match");
+        assertEquals(new ArrayList<>(expected.values()), List.copyOf(repository.getApplicants()),
+                "Applicants and order should match");
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    protected Applicant randomApplicant(Random random) {
+        int middleCount = random.nextInt(4) - 1;
+        List<String> middleNames = null;
+        if (middleCount >= 0) {
+            String[] middles = new String[middleCount];
+            for (int i = 0; i < middleCount; i++) {
+                middles[i] = NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+            }
+            middleNames = List.of(middles);
+        }
+        ApplicantName name = new ApplicantName(NAME_PARTS[random.nextInt(NAME_PARTS.length)], middleNames,
+                NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+        String email = "user" + random.nextInt(emailCount) + (random.nextBoolean() ? "@example.com" : "@exâmple.ro");
+        long deliveryEpochSecond = TEST_DATE.epochSecond() + random.nextInt(3 * 86_400);
+        return Applicant.ofCompact(name, email, deliveryEpochSecond, random.nextInt(1001));
+    }
+}
@@ -0,0 +1,54 @@
+package internship.applicantProcessor.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link OffHeapApplicantRepository}.
+ * Runs the shared contract of {@link EncodedApplicantRepositoryContractTest} across index and
+ * slab growth, and verifies that the off-heap size is reported.
+ */
+class OffHeapApplicantRepositoryTest extends EncodedApplicantRepositoryContractTest<OffHeapApplicantRepository> {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    // More than one slab of records
+    private static final int EMAIL_COUNT = 40_000;
+
+    OffHeapApplicantRepositoryTest() {
+        super(20240130L, 60_000, EMAIL_COUNT);
+    }
+
+    @Override
+    protected OffHeapApplicantRepository createRepository() {
+        return new OffHeapApplicantRepository();
+    }
+
+    // =================================================
+    // TEST CASES: MEMORY
+    // =================================================
+
+    /**
+     * Verifies that off-heap bytes are reported and grow with the stored applicants.
+     */
+    @Test
+    void getOffHeapBytes_AfterAddingApplicants_Grows() {
+        // Given
+        long empty = repository.getOffHeapBytes();
+        Random random = new Random(fuzzSeed);
+
+        // When
+        for (int i = 0; i < fuzzIterations; i++) {
+            repository.addApplicant(randomApplicant(random));
+        }
+
+        // Then
+        assertTrue(empty > 0, "The empty index already lives off-heap");
+        assertTrue(repository.getOffHeapBytes() > empty, "Records and arena pages should be counted");
+        assertEquals(0, new ApplicantRepository().getOffHeapBytes(), "The map repository is heap-only");
+    }
+}
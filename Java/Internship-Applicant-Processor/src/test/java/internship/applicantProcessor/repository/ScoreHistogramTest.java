@@ -0,0 +1,185 @@
+package internship.applicantProcessor.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ScoreHistogram}.
+ * Verifies every query against the same query answered from a sorted array.
+ */
+class ScoreHistogramTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long SEED = 20240205L;
+    private static final double[] PERCENTILES = {0, 1, 10, 25, 33.3, 50, 75, 90, 99, 100};
+    private static final double[] FRACTIONS = {0.01, 0.1, 0.25, 0.5, 0.9, 1};
+
+    // =================================================
+    // TEST CASES: QUERIES
+    // =================================================
+
+    /**
+     * Verifies ranks, top sums, top averages and percentiles against a sorted array, with
+     * out-of-range scores at both ends for some sizes.
+     * @param size Number of scores
+     */
+    @ParameterizedTest(name = "{0} scores")
+    @ValueSource(ints = {1, 2, 5, 6, 97, 1_000})
+    void queries_WithRandomScores_MatchSortedArray(int size) {
+        // Given
+        Random random = new Random(SEED + size);
+        int[] scores = IntStream.range(0, size).map(i -> random.nextInt(1001)).toArray();
+        if (size > 5) {
+            scores[0] = -250;
+            scores[1] = 1_250;
+            scores[2] = 1_250;
+        }
+        ScoreHistogram histogram = ScoreHistogram.of(Arrays.stream(scores));
+        int[] descending = Arrays.stream(scores).boxed().sorted((a, b) -> b - a).mapToInt(Integer::intValue).toArray();
+
+        // When & Then
+        assertEquals(size, histogram.count());
+        for (int rank = 0; rank < size; rank++) {
+            assertEquals(descending[rank], histogram.scoreAtRank(rank), "rank " + rank);
+        }
+        for (double fraction : FRACTIONS) {
+            int n = (int) Math.ceil(fraction * size - 1e-9);
+            assertEquals(sortAndAverage(scores, n), histogram.topAverage(fraction), "top fraction " + fraction);
+        }
+        for (double percentile : PERCENTILES) {
+            assertEquals(referencePercentile(descending, percentile), histogram.percentile(percentile), 1e-9,
+                    "percentile " + percentile);
+        }
+    }
+
+    /**
+     * Verifies that the top average is bit-for-bit that of sorting the scores as doubles and
+     * averaging the highest ones, where an exact sum divided once would round differently.
+     */
+    @Test
+    void topAverage_ComparedToSortAndAverage_IsBitForBitEqual() {
+        // Given
+        int[] scores = {224, 943, 689, 865, 144, 267};
+        Random random = new Random(SEED);
+        int[] many = IntStream.range(0, 100_000).map(i -> random.nextInt(1001)).toArray();
+
+        // When
+        double average = ScoreHistogram.of(Arrays.stream(scores)).topAverage(0.5);
+        double manyAverage = ScoreHistogram.of(Arrays.stream(many)).topAverage(0.5);
+
+        // Then
+        assertAll(
+                () -> assertEquals(8.323333333333332, average, "Compensated double average expected"),
+                () -> assertEquals(sortAndAverage(scores, 3), average),
+                () -> assertEquals(sortAndAverage(many, 50_000), manyAverage)
+        );
+    }
+
+    /**
+     * Verifies the median of odd and even counts.
+     */
+    @Test
+    void percentile_Median_IsMiddleOrAverageOfMiddles() {
+        // When & Then
+        assertAll(
+                () -> assertEquals(5.0, ScoreHistogram.of(IntStream.of(100, 500, 900)).percentile(50)),
+                () -> assertEquals(6.0, ScoreHistogram.of(IntStream.of(100, 500, 700, 900)).percentile(50)),
+                () -> assertEquals(0.0, new ScoreHistogram().percentile(50), "Empty histogram should give 0.0")
+        );
+    }
+
+    /**
+     * Verifies that the top count takes the fraction as its decimal value, so that floating
+     * point products just above a whole number do not round up.
+     */
+    @Test
+    void topCount_WithDecimalFraction_RoundsUpExactly() {
+        // Given
+        ScoreHistogram histogram = ScoreHistogram.of(IntStream.range(0, 30));
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(3, histogram.topCount(0.1), "0.1 * 30 should be exactly 3"),
+                () -> assertEquals(15, histogram.topCount(0.5)),
+                () -> assertEquals(1, histogram.topCount(0.001), "Any positive fraction keeps one score"),
+                () -> assertEquals(30, histogram.topCount(1))
+        );
+    }
+
+    /**
+     * Verifies that a removed score no longer counts, in and out of the dense range.
+     */
+    @Test
+    void remove_WithDenseAndOutlierScores_RetractsThem() {
+        // Given
+        ScoreHistogram histogram = ScoreHistogram.of(IntStream.of(300, 2_000, 700));
+
+        // When
+        histogram.remove(2_000);
+        histogram.remove(300);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, histogram.count()),
+                () -> assertEquals(700, histogram.scoreAtRank(0)),
+                () -> assertEquals(7.0, histogram.percentile(0))
+        );
+    }
+
+    /**
+     * Verifies argument checks.
+     */
+    @Test
+    void queries_WithInvalidArguments_Throw() {
+        // Given
+        ScoreHistogram histogram = ScoreHistogram.of(IntStream.of(500));
+
+        // When & Then
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.topAverage(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.topAverage(1.5)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.topAverage(Double.NaN)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.percentile(100.5)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> histogram.scoreAtRank(1))
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    /**
+     * Averages the highest scores the way the service did before the histogram: sorted by
+     * score as doubles, descending, then {@link java.util.stream.DoubleStream#average()}.
+     */
+    private static double sortAndAverage(int[] scores, int n) {
+        return Arrays.stream(scores).mapToDouble(score -> score / 100.0).boxed()
+                .sorted(Comparator.reverseOrder())
+                .limit(n)
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(0.0);
+    }
+
+    private static double referencePercentile(int[] descending, double percentile) {
+        int[] ascending = new int[descending.length];
+        for (int i = 0; i < descending.length; i++) {
+            ascending[i] = descending[descending.length - 1 - i];
+        }
+        double position = (ascending.length - 1) * percentile / 100;
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return (ascending[lower] + (position - lower) * (ascending[upper] - ascending[lower])) / 100.0;
+    }
+}
@@ -0,0 +1,238 @@
+package internship.applicantProcessor.server;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.ApplicantsProcessor;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ApplicantQueryServer}.
+ * Verifies each endpoint over HTTP, request validation, and that cached responses only change
+ * on reload.
+ */
+class ApplicantQueryServerTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String CSV = """
+            name,email,delivery_datetime,score
+            Ana Maria Pop,ana@example.com,2024-01-01T09:00:00,9.50
+            Ion Ionescu,ion@example.com,2024-01-01T10:00:00,8
+            Radu Dima,radu@example.com,2024-01-01T11:00:00,7
+            Elena Marin,elena@example.com,2024-01-01T12:00:00,6
+            """;
+    // Ends inside a quoted field after two valid rows
+    private static final String CORRUPT_CSV = """
+            name,email,delivery_datetime,score
+            Ana Maria Pop,ana@example.com,2024-01-01T09:00:00,9.50
+            Ion Ionescu,ion@example.com,2024-01-01T10:00:00,8
+            "Radu Dima,radu@example.com
+            """;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final AtomicInteger loads = new AtomicInteger();
+    private String input = CSV;
+    private ApplicantRepository repository;
+    private ApplicantQueryServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ApplicantQueryServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), this::load);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    // =================================================
+    // TEST CASES: QUERIES
+    // =================================================
+
+    /**
+     * Verifies the aggregate queries against the loaded dataset.
+     */
+    @Test
+    void get_AggregateQueries_AnswersFromDataset() throws Exception {
+        // When
+        JsonObject top = json(get("/applicants/top"));
+        JsonObject topTwo = json(get("/applicants/top?k=2"));
+        JsonObject count = json(get("/applicants/count"));
+        JsonObject average = json(get("/applicants/average"));
+        JsonObject stats = json(get("/stats"));
+
+        // Then
+        assertAll(
+                () -> assertEquals("[\"Pop\",\"Ionescu\",\"Dima\"]", top.get("topApplicants").toString(),
+                        "Top three expected by default"),
+                () -> assertEquals("[\"Pop\",\"Ionescu\"]", topTwo.get("topApplicants").toString(), "Top two expected"),
+                () -> assertEquals(4, count.get("uniqueApplicants").getAsInt(), "Unique applicants expected"),
+                () -> assertEquals(8.75, average.get("averageScore").getAsDouble(), "Top half average expected"),
+                () -> assertEquals(4, stats.get("uniqueApplicants").getAsInt(), "Batch output expected")
+        );
+    }
+
+    /**
+     * Verifies the lookup of an applicant by email.
+     */
+    @Test
+    void get_ApplicantByEmail_ReturnsApplicant() throws Exception {
+        // When
+        JsonObject applicant = json(get("/applicants?email=ana%40example.com"));
+
+        // Then
+        assertAll(
+                () -> assertEquals("Ana", applicant.get("firstName").getAsString(), "First name expected"),
+                () -> assertEquals("[\"Maria\"]", applicant.get("middleNames").toString(), "Middle names expected"),
+                () -> assertEquals("Pop", applicant.get("lastName").getAsString(), "Last name expected"),
+                () -> assertEquals("2024-01-01T09:00:00", applicant.get("deliveryDateTime").getAsString(),
+                        "Delivery date-time should keep the input format"),
+                () -> assertEquals(9.5, applicant.get("score").getAsDouble(), "Score expected")
+        );
+    }
+
+    /**
+     * Verifies the status of invalid requests.
+     * @param method HTTP method
+     * @param path Path and query
+     * @param status Expected status
+     */
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+            "GET, /applicants?email=nobody@example.com, 404",
+            "GET, /applicants, 400",
+            "GET, /applicants/top?k=many, 400",
+            "GET, /applicants/top?k=1001, 400",
+            "GET, /unknown, 404",
+            "POST, /applicants/count, 405",
+            "GET, /reload, 405"
+    })
+    void send_InvalidRequest_ReturnsErrorStatus(String method, String path, int status) throws Exception {
+        // When
+        HttpResponse<String> response = send(method, path);
+
+        // Then
+        assertAll(
+                () -> assertEquals(status, response.statusCode(), "Status expected"),
+                () -> assertTrue(json(response).has("error"), "Error message expected")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: CACHING AND RELOAD
+    // =================================================
+
+    /**
+     * Verifies that cached responses survive changes to the data until a reload.
+     */
+    @Test
+    void reload_AfterDataChanges_InvalidatesCachedResponses() throws Exception {
+        // Given
+        assertEquals(4, json(get("/applicants/count")).get("uniqueApplicants").getAsInt());
+        repository.addApplicant(new Applicant(new ApplicantName("Late", null, "Comer"), "late@example.com",
+                ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T13:00:00"), 10));
+
+        // When
+        int cachedCount = json(get("/applicants/count")).get("uniqueApplicants").getAsInt();
+        HttpResponse<String> reload = send("POST", "/reload");
+        int reloadedCount = json(get("/applicants/count")).get("uniqueApplicants").getAsInt();
+
+        // Then
+        assertAll(
+                () -> assertEquals(4, cachedCount, "Cached response should not change before reload"),
+                () -> assertEquals(200, reload.statusCode(), "Reload should succeed"),
+                () -> assertEquals(4, reloadedCount, "Reload should read the input again"),
+                () -> assertEquals(2, loads.get(), "Input should be loaded once per reload")
+        );
+    }
+
+    /**
+     * Verifies that a reload whose input fails part way keeps serving the previous dataset.
+     */
+    @Test
+    void reload_WithCorruptInput_KeepsPreviousDataset() throws Exception {
+        // Given
+        input = CORRUPT_CSV;
+
+        // When
+        HttpResponse<String> reload = send("POST", "/reload");
+        int count = json(get("/applicants/count")).get("uniqueApplicants").getAsInt();
+        JsonObject applicant = json(get("/applicants?email=elena%40example.com"));
+
+        // Then
+        assertAll(
+                () -> assertEquals(500, reload.statusCode(), "Failed reload should be reported"),
+                () -> assertEquals(4, count, "Previous dataset should be kept"),
+                () -> assertEquals("Marin", applicant.get("lastName").getAsString(),
+                        "Uncached queries should also use the previous dataset")
+        );
+    }
+
+    /**
+     * Verifies that the query parameter parser decodes names and values.
+     */
+    @Test
+    void queryParameter_WithEncodedPairs_DecodesValue() {
+        assertAll(
+                () -> assertEquals("a+b@x.com", ApplicantQueryServer.queryParameter("k=3&email=a%2Bb%40x.com", "email")),
+                () -> assertEquals("", ApplicantQueryServer.queryParameter("email", "email")),
+                () -> assertNull(ApplicantQueryServer.queryParameter("k=3", "email")),
+                () -> assertNull(ApplicantQueryServer.queryParameter(null, "email"))
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private ApplicantService load() throws IOException {
+        loads.incrementAndGet();
+        repository = new ApplicantRepository();
+        ApplicantService service = new ApplicantService(repository);
+        new ApplicantsProcessor(service).ingestApplicants(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        return service;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("GET", path);
+        assertEquals(200, response.statusCode(), "GET " + path + " should succeed");
+        assertEquals(List.of("application/json; charset=utf-8"), response.headers().allValues("Content-Type"));
+        return response;
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonObject json(HttpResponse<String> response) {
+        return JsonParser.parseString(response.body()).getAsJsonObject();
+    }
+}
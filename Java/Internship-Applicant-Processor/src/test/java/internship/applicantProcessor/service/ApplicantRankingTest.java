@@ -0,0 +1,110 @@
+package internship.applicantProcessor.service;
+
+import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
+import internship.applicantProcessor.model.ApplicantName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ApplicantRanking}.
+ * Verifies that the packed keys order applicants like the field-by-field comparison.
+ */
+class ApplicantRankingTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long SEED = 20240204L;
+    private static final ApplicantName TEST_NAME = new ApplicantName("John", null, "Doe");
+    private static final ApplicantDeliveryDateTime EARLIEST =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-01T09:00:00");
+    private static final ApplicantDeliveryDateTime LATEST =
+            ApplicantDeliveryDateTime.parsePreValidated("2024-01-03T14:00:00");
+    private static final int[] EDGE_VALUES = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1000, -1, 0, 1, 999, 1000,
+            Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+
+    // =================================================
+    // TEST CASES: KEY PACKING
+    // =================================================
+
+    /**
+     * Verifies that packed keys order pairs by the first value descending, then the second
+     * descending, including the int extremes.
+     */
+    @Test
+    void pack_WithEdgeAndRandomValues_OrdersBothValuesDescending() {
+        // Given
+        Random random = new Random(SEED);
+        List<int[]> pairs = new ArrayList<>();
+        for (int high : EDGE_VALUES) {
+            for (int low : EDGE_VALUES) {
+                pairs.add(new int[]{high, low});
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            pairs.add(new int[]{random.nextInt(), random.nextInt()});
+        }
+        Comparator<int[]> expectedOrder = Comparator.comparingInt((int[] p) -> p[0]).reversed()
+                .thenComparing(Comparator.comparingInt((int[] p) -> p[1]).reversed());
+
+        // When & Then
+        for (int[] a : pairs) {
+            for (int[] b : pairs) {
+                assertEquals(Integer.signum(expectedOrder.compare(a, b)),
+                        Long.signum(Long.compare(ApplicantRanking.pack(a[0], a[1]), ApplicantRanking.pack(b[0], b[1]))),
+                        () -> a[0] + "," + a[1] + " vs " + b[0] + "," + b[1]);
+            }
+        }
+    }
+
+    // =================================================
+    // TEST CASES: RANKING ORDER
+    // =================================================
+
+    /**
+     * Verifies on random applicants with many ties that the key order matches comparing
+     * adjusted score, score, delivery time and email one by one.
+     */
+    @Test
+    void comparator_WithRandomApplicants_MatchesFieldByFieldOrder() {
+        // Given
+        Random random = new Random(SEED);
+        List<Applicant> applicants = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            applicants.add(Applicant.ofCompact(TEST_NAME, "user" + i + "@test.com",
+                    EARLIEST.epochSecond() + random.nextInt(3) * 86_400L + random.nextInt(2) * 43_200L,
+                    random.nextInt(21) * 50));
+        }
+        Comparator<Applicant> fieldByField = Comparator
+                .comparingInt((Applicant a) -> a.calculateAdjustedScoreHundredths(EARLIEST, LATEST)).reversed()
+                .thenComparing(Comparator.comparingInt(Applicant::scoreHundredths).reversed())
+                .thenComparingLong(Applicant::deliveryEpochSecond)
+                .thenComparing(Applicant::email);
+
+        // When
+        List<Applicant> byKeys = applicants.stream().sorted(new ApplicantRanking(EARLIEST, LATEST).comparator()).toList();
+
+        // Then
+        assertEquals(applicants.stream().sorted(fieldByField).toList(), byKeys);
+    }
+
+    /**
+     * Verifies that the score key ranks higher scores first.
+     */
+    @Test
+    void scoreKey_WithHigherScore_IsLower() {
+        // Given
+        Applicant high = Applicant.ofCompact(TEST_NAME, "a@test.com", EARLIEST.epochSecond(), 900);
+        Applicant low = Applicant.ofCompact(TEST_NAME, "b@test.com", EARLIEST.epochSecond(), 100);
+
+        // When & Then
+        assertTrue(ApplicantRanking.scoreKey(high) < ApplicantRanking.scoreKey(low));
+    }
+}
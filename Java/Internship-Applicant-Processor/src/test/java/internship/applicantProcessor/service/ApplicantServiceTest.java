@@ -1,9 +1,15 @@
 package internship.applicantProcessor.service;
 
+import internship.applicantProcessor.ingest.RejectionReason;
+import internship.applicantProcessor.metrics.PipelineMetrics;
 import internship.applicantProcessor.model.Applicant;
 import internship.applicantProcessor.model.ApplicantDeliveryDateTime;
 import internship.applicantProcessor.model.ApplicantName;
 import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.repository.ApplicantStore;
+import internship.applicantProcessor.repository.ColumnarApplicantRepository;
+import internship.applicantProcessor.repository.ConcurrentApplicantRepository;
+import internship.applicantProcessor.repository.OffHeapApplicantRepository;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
@@ -14,7 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +44,7 @@ class ApplicantServiceTest {
     private static final ApplicantDeliveryDateTime LATE_DATE =
             ApplicantDeliveryDateTime.parsePreValidated("2024-01-03T14:00:00");
     private static final double TEST_SCORE = 7.5;
+    private static final long STATISTICS_SEED = 20240201L;
 
     @Mock
     private ApplicantRepository mockRepository;
@@ -65,6 +74,30 @@ class ApplicantServiceTest {
         verify(mockRepository).addApplicant(applicant);
     }
 
+    /**
+     * Verifies that merged applicants are stored and only replacements of applicants added
+     * before are counted, since their accepted rows are counted by the merge.
+     */
+    @Test
+    void addMergedApplicantsToRepository_WithEarlierApplicant_CountsOnlyItsReplacement() {
+        // Given
+        PipelineMetrics metrics = new PipelineMetrics();
+        ApplicantService service = new ApplicantService(new ApplicantRepository(), OutputOptions.DEFAULT, metrics);
+        service.addApplicantToRepository(new Applicant(TEST_NAME, TEST_EMAIL, EARLY_DATE, TEST_SCORE));
+        Applicant replacement = new Applicant(TEST_NAME, TEST_EMAIL, LATE_DATE, TEST_SCORE);
+        Applicant other = new Applicant(TEST_NAME, "other@test.com", LATE_DATE, TEST_SCORE);
+
+        // When
+        service.addMergedApplicantsToRepository(List.of(replacement, other));
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, service.getUniqueApplicantCount(), "Both emails should be stored"),
+                () -> assertEquals(1, metrics.getRowsAccepted(), "Only the direct insert should count as accepted"),
+                () -> assertEquals(1, metrics.getReplacements(), "The earlier applicant should count as replaced")
+        );
+    }
+
     // =================================================
     // TEST CASES: DATE-BASED OPERATIONS
     // =================================================
@@ -154,6 +187,351 @@ class ApplicantServiceTest {
         assertEquals(prettyJson, json);
     }
 
+    /**
+     * Verifies that adjusted scores equal in hundredths tie and fall back to the original score,
+     * even where the double sums differ in the last bit (0.01 + 1.0 vs 2.01 - 1.0).
+     */
+    @Test
+    void getTopApplicantsLastNames_WithEqualAdjustedScores_BreaksTieByOriginalScore() {
+        // Given
+        when(mockRepository.getApplicants()).thenReturn(List.of(
+                createTestApplicant("Early", 0.01, EARLY_DATE),
+                createTestApplicant("Middle", 0.0,
+                        ApplicantDeliveryDateTime.parsePreValidated("2024-01-02T10:00:00")),
+                createTestApplicant("Late", 2.01, LATE_DATE)
+        ));
+
+        // When
+        List<String> topApplicants = applicantService.getTopApplicantsLastNames();
+
+        // Then
+        assertEquals(List.of("Late", "Early", "Middle"), topApplicants,
+                "Tied adjusted scores should be ordered by original score");
+    }
+
+    /**
+     * Verifies that a larger shortlist equals a full sort of all applicants, with and without
+     * statistics to narrow the candidates.
+     */
+    @Test
+    void getTopApplicantsLastNames_WithShortlistCount_MatchesFullSort() {
+        // Given
+        ApplicantRepository repository = new ApplicantRepository();
+        ApplicantStore scanned = new ConcurrentApplicantRepository();
+        Random random = new Random(STATISTICS_SEED);
+        for (int i = 0; i < 2_000; i++) {
+            Applicant applicant = Applicant.ofCompact(new ApplicantName("First", null, "Last" + i),
+                    "user" + i + "@test.com", EARLY_DATE.epochSecond() + random.nextInt(3 * 86_400),
+                    random.nextInt(1001));
+            repository.addApplicant(applicant);
+            scanned.addApplicant(applicant);
+        }
+        ApplicantDeliveryDateTime earliest = new ApplicantService(repository).findEarliestDeliveryDate();
+        ApplicantDeliveryDateTime latest = new ApplicantService(repository).findLatestDeliveryDate();
+        assertNotNull(earliest);
+        assertNotNull(latest);
+        List<String> expected = repository.getApplicants().stream()
+                .sorted(Comparator.comparingInt((Applicant a) -> a.calculateAdjustedScoreHundredths(earliest, latest))
+                        .reversed()
+                        .thenComparing(Comparator.comparingInt(Applicant::scoreHundredths).reversed())
+                        .thenComparingLong(Applicant::deliveryEpochSecond)
+                        .thenComparing(Applicant::email))
+                .limit(50)
+                .map(applicant -> applicant.name().lastName())
+                .toList();
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(expected, new ApplicantService(repository).getTopApplicantsLastNames(50)),
+                () -> assertEquals(expected, new ApplicantService(scanned).getTopApplicantsLastNames(50)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new ApplicantService(repository).getTopApplicantsLastNames(-1))
+        );
+    }
+
+    /**
+     * Verifies that the output from maintained statistics matches the output computed by
+     * scanning, on random data with replacements that retract the earliest, latest and top
+     * applicants.
+     */
+    @Test
+    void getJsonFormatOutput_WithMaintainedStatistics_MatchesScannedStatistics() {
+        // Given
+        ApplicantStore[] withStatistics = {
+                new ApplicantRepository(), new ColumnarApplicantRepository(), new OffHeapApplicantRepository()
+        };
+        ApplicantStore scanned = new ConcurrentApplicantRepository();
+        Random random = new Random(STATISTICS_SEED);
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            Applicant applicant = Applicant.ofCompact(TEST_NAME, "user" + random.nextInt(300) + "@test.com",
+                    EARLY_DATE.epochSecond() + random.nextInt(3 * 86_400), random.nextInt(1001));
+            scanned.addApplicant(applicant);
+            for (ApplicantStore repository : withStatistics) {
+                repository.addApplicant(applicant);
+            }
+        }
+
+        // Then
+        assertNull(scanned.getStatistics(), "Reference repository should be scanned");
+        String expected = new ApplicantService(scanned).getJsonFormatOutput();
+        for (ApplicantStore repository : withStatistics) {
+            assertNotNull(repository.getStatistics());
+            assertEquals(expected, new ApplicantService(repository).getJsonFormatOutput(),
+                    repository.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Verifies that statistics computed in parallel for a large repository without maintained
+     * statistics give exactly the output of a repository that maintains them.
+     */
+    @Test
+    void getJsonFormatOutput_WithParallelStatisticsPass_MatchesMaintainedStatistics() {
+        // Given
+        ApplicantRepository maintained = new ApplicantRepository();
+        ApplicantStore scanned = new ConcurrentApplicantRepository();
+        Random random = new Random(STATISTICS_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            Applicant applicant = Applicant.ofCompact(new ApplicantName("First", null, "Last" + i),
+                    "user" + random.nextInt(80_000) + "@test.com",
+                    EARLY_DATE.epochSecond() + random.nextInt(3 * 86_400), random.nextInt(1001));
+            maintained.addApplicant(applicant);
+            scanned.addApplicant(applicant);
+        }
+        OutputOptions options = new OutputOptions(false, false, true);
+
+        // When
+        String expected = new ApplicantService(maintained, options).getJsonFormatOutput();
+        String actual = new ApplicantService(scanned, options).getJsonFormatOutput();
+
+        // Then
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertEquals(new ApplicantService(maintained).getTopApplicantsLastNames(50),
+                        new ApplicantService(scanned).getTopApplicantsLastNames(50))
+        );
+    }
+
+    /**
+     * Verifies that ranking a large repository with per-task heaps on a parallel stream
+     * equals a full sort, with heavy ties on the adjusted score, score and delivery time and,
+     * when all delivered on the same day, ties on score broken by delivery time and email.
+     */
+    @Test
+    void getTopApplicantsLastNames_WithParallelRankingAndHeavyTies_MatchesFullSort() {
+        // Given
+        ApplicantStore multiDay = new ConcurrentApplicantRepository();
+        ApplicantRepository sameDay = new ApplicantRepository();
+        Random random = new Random(STATISTICS_SEED);
+        for (int i = 0; i < 100_000; i++) {
+            String email = "user" + random.nextInt(1_000_000) + "@test.com";
+            int score = 990 + random.nextInt(11);
+            multiDay.addApplicant(Applicant.ofCompact(new ApplicantName("First", null, "Last" + i), email,
+                    EARLY_DATE.epochSecond() + 86_400L * random.nextInt(3) + 43_200 * random.nextInt(2), score));
+            sameDay.addApplicant(Applicant.ofCompact(new ApplicantName("First", null, "Last" + i), email,
+                    EARLY_DATE.epochSecond() + random.nextInt(60), score));
+        }
+        ApplicantDeliveryDateTime earliest = new ApplicantService(multiDay).findEarliestDeliveryDate();
+        ApplicantDeliveryDateTime latest = new ApplicantService(multiDay).findLatestDeliveryDate();
+        assertNotNull(earliest);
+        assertNotNull(latest);
+        List<String> expectedMultiDay = multiDay.getApplicants().stream()
+                .sorted(Comparator.comparingInt((Applicant a) -> a.calculateAdjustedScoreHundredths(earliest, latest))
+                        .reversed()
+                        .thenComparing(Comparator.comparingInt(Applicant::scoreHundredths).reversed())
+                        .thenComparingLong(Applicant::deliveryEpochSecond)
+                        .thenComparing(Applicant::email))
+                .limit(500)
+                .map(applicant -> applicant.name().lastName())
+                .toList();
+        List<String> expectedSameDay = sameDay.getApplicants().stream()
+                .sorted(Comparator.comparingInt(Applicant::scoreHundredths).reversed()
+                        .thenComparingLong(Applicant::deliveryEpochSecond)
+                        .thenComparing(Applicant::email))
+                .limit(500)
+                .map(applicant -> applicant.name().lastName())
+                .toList();
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(expectedMultiDay, new ApplicantService(multiDay).getTopApplicantsLastNames(500)),
+                () -> assertEquals(expectedMultiDay.subList(0, 3),
+                        new ApplicantService(multiDay).getTopApplicantsLastNames()),
+                () -> assertEquals(expectedSameDay, new ApplicantService(sameDay).getTopApplicantsLastNames(500))
+        );
+    }
+
+    /**
+     * Verifies that the store cannot change the output when scores tie on a single delivery day,
+     * although each store iterates in its own order.
+     */
+    @Test
+    void getJsonFormatOutput_WithTiedScoresOnOneDay_IsIndependentOfStore() {
+        // Given
+        List<ApplicantStore> stores = List.of(new ApplicantRepository(), new ColumnarApplicantRepository(),
+                new OffHeapApplicantRepository(), new ConcurrentApplicantRepository());
+        Random random = new Random(STATISTICS_SEED);
+        for (int i = 0; i < 10_000; i++) {
+            Applicant applicant = Applicant.ofCompact(new ApplicantName("First", null, "Last" + i),
+                    "user" + random.nextInt(1_000_000) + "@test.com", EARLY_DATE.epochSecond() + random.nextInt(2),
+                    995 + random.nextInt(6));
+            stores.forEach(store -> store.addApplicant(applicant));
+        }
+
+        // When
+        List<String> outputs = stores.stream()
+                .map(store -> new ApplicantService(store).getJsonFormatOutput())
+                .toList();
+        List<List<String>> topLists = stores.stream()
+                .map(store -> new ApplicantService(store).getTopApplicantsLastNames(100))
+                .toList();
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, outputs.stream().distinct().count(), "Every store should print the same output"),
+                () -> assertEquals(1, topLists.stream().distinct().count(), "Every store should rank the same way")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: REJECTIONS
+    // =================================================
+
+    /**
+     * Verifies that single and bulk rejections are summed per reason.
+     */
+    @Test
+    void recordRejection_WithSeveralReasons_CountsPerReason() {
+        // When
+        applicantService.recordRejection(RejectionReason.BAD_EMAIL);
+        applicantService.recordRejection(RejectionReason.BAD_EMAIL);
+        applicantService.recordRejections(RejectionReason.BAD_SCORE, 5);
+
+        // Then
+        assertEquals(2, applicantService.getRejectionCount(RejectionReason.BAD_EMAIL));
+        assertEquals(5, applicantService.getRejectionCount(RejectionReason.BAD_SCORE));
+        assertEquals(0, applicantService.getRejectionCount(RejectionReason.BAD_NAME));
+    }
+
+    /**
+     * Verifies that the rejections block is omitted by default.
+     */
+    @Test
+    void getJsonFormatOutput_WithDefaultOptions_OmitsRejections() {
+        // Given
+        when(mockRepository.getUniqueApplicantCount()).thenReturn(0);
+        when(mockRepository.getApplicants()).thenReturn(List.of());
+        applicantService.recordRejection(RejectionReason.BAD_NAME);
+
+        // When
+        String json = applicantService.getJsonFormatOutput();
+
+        // Then
+        assertFalse(json.contains("rejections"), "Rejections should only be printed when enabled");
+    }
+
+    /**
+     * Verifies that enabling rejections adds one count per reason, keyed by its JSON key.
+     */
+    @Test
+    void getJsonFormatOutput_WithRejectionsEnabled_IncludesCountPerReason() {
+        // Given
+        ApplicantService service = new ApplicantService(mockRepository, new OutputOptions(true, false));
+        when(mockRepository.getUniqueApplicantCount()).thenReturn(0);
+        when(mockRepository.getApplicants()).thenReturn(List.of());
+        service.recordRejection(RejectionReason.WRONG_FIELD_COUNT);
+        service.recordRejections(RejectionReason.BAD_DATETIME, 3);
+
+        // When
+        JsonObject rejections = new Gson().fromJson(service.getJsonFormatOutput(), JsonObject.class)
+                .getAsJsonObject("rejections");
+
+        // Then
+        assertEquals(RejectionReason.values().length, rejections.size(), "Every reason should be listed");
+        assertEquals(1, rejections.get("wrongFieldCount").getAsLong());
+        assertEquals(3, rejections.get("badDateTime").getAsLong());
+        assertEquals(0, rejections.get("badScore").getAsLong());
+    }
+
+    /**
+     * Verifies that enabling memory usage adds heap and off-heap byte counts.
+     */
+    @Test
+    void getJsonFormatOutput_WithMemoryUsageEnabled_IncludesHeapAndOffHeapBytes() {
+        // Given
+        ApplicantService service = new ApplicantService(mockRepository, new OutputOptions(false, true));
+        when(mockRepository.getUniqueApplicantCount()).thenReturn(0);
+        when(mockRepository.getApplicants()).thenReturn(List.of());
+        when(mockRepository.getOffHeapBytes()).thenReturn(4096L);
+
+        // When
+        JsonObject json = new Gson().fromJson(service.getJsonFormatOutput(), JsonObject.class);
+
+        // Then
+        JsonObject memory = json.getAsJsonObject("memory");
+        assertTrue(memory.get("heapUsedBytes").getAsLong() > 0, "Heap in use should be reported");
+        assertEquals(4096L, memory.get("offHeapBytes").getAsLong(), "Repository off-heap bytes should be reported");
+        assertFalse(json.has("rejections"), "Rejections should stay off");
+    }
+
+    // =================================================
+    // TEST CASES: SCORE DISTRIBUTION
+    // =================================================
+
+    /**
+     * Verifies median, percentiles and top-fraction averages computed from the applicants.
+     */
+    @Test
+    void getScorePercentile_WithApplicants_InterpolatesBetweenRanks() {
+        // Given
+        when(mockRepository.getApplicants()).thenReturn(List.of(
+                createTestApplicant("A", 2.0, EARLY_DATE),
+                createTestApplicant("B", 4.0, EARLY_DATE),
+                createTestApplicant("C", 6.0, EARLY_DATE),
+                createTestApplicant("D", 10.0, EARLY_DATE)
+        ));
+
+        // When & Then
+        assertAll(
+                () -> assertEquals(5.0, applicantService.getMedianScore(), "Median of an even count"),
+                () -> assertEquals(2.0, applicantService.getScorePercentile(0)),
+                () -> assertEquals(7.0, applicantService.getScorePercentile(75), 1e-9),
+                () -> assertEquals(10.0, applicantService.getAverageScoreOfTop(0.25)),
+                () -> assertEquals(8.0, applicantService.getAverageScoreOfTop(0.5)),
+                () -> assertThrows(IllegalArgumentException.class, () -> applicantService.getScorePercentile(101))
+        );
+    }
+
+    /**
+     * Verifies that enabling score percentiles adds them to the output, and that they match
+     * the service methods.
+     */
+    @Test
+    void getJsonFormatOutput_WithScorePercentilesEnabled_IncludesPercentiles() {
+        // Given
+        ApplicantService service = new ApplicantService(mockRepository, new OutputOptions(false, false, true));
+        when(mockRepository.getUniqueApplicantCount()).thenReturn(3);
+        when(mockRepository.getApplicants()).thenReturn(List.of(
+                createTestApplicant("A", 1.0, EARLY_DATE),
+                createTestApplicant("B", 5.0, LATE_DATE),
+                createTestApplicant("C", 9.0, EARLY_DATE)
+        ));
+
+        // When
+        JsonObject json = new Gson().fromJson(service.getJsonFormatOutput(), JsonObject.class);
+
+        // Then
+        JsonObject percentiles = json.getAsJsonObject("scorePercentiles");
+        assertNotNull(percentiles, "Percentiles block expected");
+        for (int percentile : new int[]{10, 25, 50, 75, 90, 99}) {
+            assertEquals(service.getScorePercentile(percentile), percentiles.get("p" + percentile).getAsDouble(),
+                    "p" + percentile);
+        }
+        assertEquals(5.0, percentiles.get("p50").getAsDouble(), "Median expected at p50");
+    }
+
     // =================================================
     // HELPER METHODS
     // =================================================
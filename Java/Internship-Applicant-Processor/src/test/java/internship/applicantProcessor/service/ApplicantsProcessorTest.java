@@ -1,13 +1,28 @@
 package internship.applicantProcessor.service;
 
+import internship.applicantProcessor.ingest.RejectionReason;
+import internship.applicantProcessor.metrics.PipelineMetrics;
+import internship.applicantProcessor.metrics.PipelineStage;
 import internship.applicantProcessor.model.Applicant;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.repository.ColumnarApplicantRepository;
+import internship.applicantProcessor.repository.ConcurrentApplicantRepository;
+import internship.applicantProcessor.repository.OffHeapApplicantRepository;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -62,6 +77,7 @@ class ApplicantsProcessorTest {
         String result = processor.processApplicants(inputStream);
 
         verify(applicantService, never()).addApplicantToRepository(any());
+        verify(applicantService).recordRejection(RejectionReason.BAD_EMAIL);
         assertEquals("{}", result);
     }
 
@@ -82,6 +98,7 @@ class ApplicantsProcessorTest {
         String result = processor.processApplicants(inputStream);
 
         verify(applicantService, never()).addApplicantToRepository(any());
+        verify(applicantService).recordRejection(RejectionReason.WRONG_FIELD_COUNT);
         assertEquals("{}", result);
     }
 
@@ -269,4 +286,274 @@ class ApplicantsProcessorTest {
         verify(applicantService, never()).addApplicantToRepository(any());
         assertEquals("{}", result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests handling of a well-formed but non-existent delivery date.
+     * Verifies that:
+     * - The row is skipped instead of aborting processing
+     * - Valid rows are still added
+     */
+    @Test
+    void testProcessApplicants_nonExistentDate_shouldSkipLine() {
+        String csv = "John Doe,john@example.com,2023-02-30T10:00:00,9.5\n" +
+                "Jane Doe,jane@example.com,2023-02-28T10:00:00,9.5\n";
+        InputStream inputStream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+
+        when(applicantService.getJsonFormatOutput()).thenReturn("{\"result\": \"ok\"}");
+
+        String result = processor.processApplicants(inputStream);
+
+        verify(applicantService, times(1)).addApplicantToRepository(any(Applicant.class));
+        assertEquals("{\"result\": \"ok\"}", result);
+    }
+
+    /**
+     * Tests that the memory-mapped path produces the same JSON as the stream path.
+     * Verifies that:
+     * - Both bundled input files give identical output
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"input.csv", "input2.csv"})
+    void testProcessApplicantsPath_bundledInput_shouldMatchStreamOutput(String resource, @TempDir Path tempDir) throws IOException {
+        Path csvFile = tempDir.resolve(resource);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            Files.copy(inputStream, csvFile);
+        }
+
+        String streamed;
+        try (InputStream inputStream = Files.newInputStream(csvFile)) {
+            streamed = realProcessor().processApplicants(inputStream);
+        }
+        String mapped = realProcessor().processApplicants(csvFile);
+
+        assertEquals(streamed, mapped);
+    }
+
+    /**
+     * Tests that the parallel path produces the same JSON as the stream path.
+     * Verifies that:
+     * - Both bundled input files give identical output
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"input.csv", "input2.csv"})
+    void testProcessApplicantsInParallel_bundledInput_shouldMatchStreamOutput(String resource, @TempDir Path tempDir) throws IOException {
+        Path csvFile = tempDir.resolve(resource);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            Files.copy(inputStream, csvFile);
+        }
+
+        String streamed;
+        try (InputStream inputStream = Files.newInputStream(csvFile)) {
+            streamed = realProcessor().processApplicants(inputStream);
+        }
+        String parallel;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            parallel = realProcessor().processApplicantsInParallel(csvFile, pool);
+        }
+
+        assertEquals(streamed, parallel);
+    }
+
+    /**
+     * Tests that the columnar repository produces the same JSON as the map repository.
+     * Verifies that:
+     * - Both bundled input files give identical output
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"input.csv", "input2.csv"})
+    void testProcessApplicants_columnarRepository_shouldMatchMapOutput(String resource) throws IOException {
+        String fromMap;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromMap = realProcessor().processApplicants(inputStream);
+        }
+        String fromColumns;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromColumns = new ApplicantsProcessor(new ApplicantService(new ColumnarApplicantRepository()))
+                    .processApplicants(inputStream);
+        }
+
+        assertEquals(fromMap, fromColumns);
+    }
+
+    /**
+     * Tests that the off-heap repository produces the same JSON as the map repository.
+     * Verifies that:
+     * - Both bundled input files give identical output
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"input.csv", "input2.csv"})
+    void testProcessApplicants_offHeapRepository_shouldMatchMapOutput(String resource) throws IOException {
+        String fromMap;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromMap = realProcessor().processApplicants(inputStream);
+        }
+        String fromOffHeap;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromOffHeap = new ApplicantsProcessor(new ApplicantService(new OffHeapApplicantRepository()))
+                    .processApplicants(inputStream);
+        }
+
+        assertEquals(fromMap, fromOffHeap);
+    }
+
+    /**
+     * Tests that the concurrent repository produces the same JSON as the map repository.
+     * Verifies that:
+     * - Both bundled input files give identical output
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"input.csv", "input2.csv"})
+    void testProcessApplicants_concurrentRepository_shouldMatchMapOutput(String resource) throws IOException {
+        String fromMap;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromMap = realProcessor().processApplicants(inputStream);
+        }
+        String fromConcurrent;
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(inputStream);
+            fromConcurrent = new ApplicantsProcessor(new ApplicantService(new ConcurrentApplicantRepository()))
+                    .processApplicants(inputStream);
+        }
+
+        assertEquals(fromMap, fromConcurrent);
+    }
+
+    /**
+     * Tests the memory-mapped path on a file ending inside a quoted field.
+     * Verifies that:
+     * - Empty JSON is returned, like the stream path
+     */
+    @Test
+    void testProcessApplicantsPath_unterminatedQuote_shouldReturnEmptyJson(@TempDir Path tempDir) throws IOException {
+        Path csvFile = Files.writeString(tempDir.resolve("broken.csv"),
+                "John Doe,john@example.com,2023-05-01T10:00:00,9.5\n\"Jane Doe,jane@example.com", StandardCharsets.UTF_8);
+
+        String result = realProcessor().processApplicants(csvFile);
+
+        assertEquals("{}", result);
+    }
+
+    /**
+     * Tests the throwing ingest variants on a file ending inside a quoted field.
+     * Verifies that:
+     * - Stream, mapped and parallel ingest throw instead of returning an empty result
+     */
+    @Test
+    void testIngestApplicants_unterminatedQuote_shouldThrowOnEveryPath(@TempDir Path tempDir) throws IOException {
+        String csv = "John Doe,john@example.com,2023-05-01T10:00:00,9.5\n\"Jane Doe,jane@example.com";
+        Path csvFile = Files.writeString(tempDir.resolve("broken.csv"), csv, StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> realProcessor()
+                        .ingestApplicants(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))),
+                () -> assertThrows(IOException.class, () -> realProcessor().ingestApplicants(csvFile)),
+                () -> assertThrows(IOException.class,
+                        () -> realProcessor().ingestApplicantsInParallel(csvFile, ForkJoinPool.commonPool()))
+        );
+    }
+
+    /**
+     * Tests that every ingest path reports the same rejection counts.
+     * Verifies that:
+     * - Each invalid row is counted under the first failing field
+     * - Blank rows are skipped without being counted
+     * - Stream, mapped and parallel output are identical
+     */
+    @Test
+    void testProcessApplicants_withRejectionsEnabled_shouldCountEachReasonOnEveryPath(@TempDir Path tempDir) throws IOException {
+        String csv = """
+                name,email,delivery_datetime,score
+                John Doe,john@example.com,2023-05-01T10:00:00,9.5
+                Jane Doe,jane@example.com,2023-05-01T10:00:00
+                Jane Doe,not-an-email,2023-05-01T10:00:00,9.5
+                Jane Doe,jane@example.com,2023-02-30T10:00:00,9.5
+                Jane Doe,jane@example.com,2023-05-01T10:00:00,10.5
+                ,jane@example.com,2023-05-01T10:00:00,9.5
+                """;
+        Path csvFile = Files.writeString(tempDir.resolve("rejections.csv"), csv, StandardCharsets.UTF_8);
+        OutputOptions options = new OutputOptions(true, false);
+
+        String streamed;
+        try (InputStream inputStream = Files.newInputStream(csvFile)) {
+            streamed = realProcessor(options).processApplicants(inputStream);
+        }
+        String mapped = realProcessor(options).processApplicants(csvFile);
+        String parallel;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            parallel = realProcessor(options).processApplicantsInParallel(csvFile, pool);
+        }
+
+        JsonObject rejections = JsonParser.parseString(streamed).getAsJsonObject().getAsJsonObject("rejections");
+        for (RejectionReason reason : RejectionReason.values()) {
+            assertEquals(1, rejections.get(reason.jsonKey()).getAsLong(), reason.jsonKey());
+        }
+        assertEquals(streamed, mapped);
+        assertEquals(streamed, parallel);
+    }
+
+    /**
+     * Tests that the stream, mapped and parallel paths report the same pipeline metrics.
+     * Verifies that:
+     * - Every row, header and skipped rows included, is read once
+     * - A repeated email counts as an accepted replacement, also when parallel ingest
+     *   collapses it before the insert
+     * - Every per-row stage and the output stages are timed
+     */
+    @Test
+    void testProcessApplicants_withMetrics_shouldCountRowsAndTimeStages(@TempDir Path tempDir) throws IOException {
+        String csv = """
+                name,email,delivery_datetime,score
+                John Doe,john@example.com,2023-05-01T10:00:00,9.5
+                Jane Doe,jane@example.com,2023-05-01T10:00:00,8.0
+                John Doe,john@example.com,2023-05-01T11:00:00,7.0
+                Jane Doe,not-an-email,2023-05-01T10:00:00,9.5
+                ,nobody@example.com,2023-05-01T10:00:00,9.5
+                """;
+        Path csvFile = Files.writeString(tempDir.resolve("metrics.csv"), csv, StandardCharsets.UTF_8);
+
+        PipelineMetrics streamed = new PipelineMetrics();
+        try (InputStream inputStream = Files.newInputStream(csvFile)) {
+            metricsProcessor(streamed).processApplicants(inputStream);
+        }
+        PipelineMetrics mapped = new PipelineMetrics();
+        metricsProcessor(mapped).processApplicants(csvFile);
+        PipelineMetrics parallel = new PipelineMetrics();
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            metricsProcessor(parallel).processApplicantsInParallel(csvFile, pool);
+        }
+
+        for (PipelineMetrics metrics : new PipelineMetrics[]{streamed, mapped, parallel}) {
+            assertAll(
+                    () -> assertEquals(6, metrics.getRowsRead()),
+                    () -> assertEquals(3, metrics.getRowsAccepted()),
+                    () -> assertEquals(1, metrics.getReplacements()),
+                    () -> assertEquals(2, metrics.getRowsRejected()),
+                    () -> {
+                        for (PipelineStage stage : PipelineStage.values()) {
+                            assertTrue(metrics.stageNanos(stage) > 0, stage.name());
+                        }
+                    }
+            );
+        }
+    }
+
+    private static ApplicantsProcessor metricsProcessor(PipelineMetrics metrics) {
+        return new ApplicantsProcessor(
+                new ApplicantService(new ApplicantRepository(), OutputOptions.DEFAULT, metrics), metrics);
+    }
+
+    private static ApplicantsProcessor realProcessor() {
+        return realProcessor(OutputOptions.DEFAULT);
+    }
+
+    private static ApplicantsProcessor realProcessor(OutputOptions outputOptions) {
+        return new ApplicantsProcessor(new ApplicantService(new ApplicantRepository(), outputOptions));
+    }
+}
@@ -0,0 +1,217 @@
+package internship.applicantProcessor.service;
+
+import internship.applicantProcessor.repository.ApplicantRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for the Flight Recorder events of {@link ApplicantsProcessor} and
+ * {@link ApplicantService}: {@link BatchParsedEvent}, {@link RepositoryGrowthEvent},
+ * {@link RankingComputedEvent} and {@link JsonEmittedEvent}.
+ * Verifies that they are off by default and carry the expected fields once enabled.
+ */
+class PipelineEventsTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final String BATCH_PARSED = "internship.applicantProcessor.BatchParsed";
+    private static final String REPOSITORY_GROWTH = "internship.applicantProcessor.RepositoryGrowth";
+    private static final String RANKING_COMPUTED = "internship.applicantProcessor.RankingComputed";
+    private static final String JSON_EMITTED = "internship.applicantProcessor.JsonEmitted";
+    private static final List<String> EVENT_NAMES = List.of(BATCH_PARSED, REPOSITORY_GROWTH, RANKING_COMPUTED, JSON_EMITTED);
+    private static final int APPLICANTS = 3_000;
+    private static final int INVALID_ROWS = 2;
+    private static final int DUPLICATE_ROWS = 500;
+
+    @TempDir
+    Path tempDir;
+
+    // =================================================
+    // TEST CASES: DEFAULT SETTINGS
+    // =================================================
+
+    /**
+     * Verifies that a recording that does not enable the events records none of them.
+     */
+    @Test
+    void processApplicants_WithoutEnabledEvents_RecordsNoPipelineEvents() throws IOException {
+        // When
+        List<RecordedEvent> events = record(false, () -> newProcessor().processApplicants(csvStream()));
+
+        // Then
+        assertTrue(events.stream().noneMatch(event -> EVENT_NAMES.contains(event.getEventType().getName())),
+                "Pipeline events should be disabled by default");
+    }
+
+    // =================================================
+    // TEST CASES: ENABLED EVENTS
+    // =================================================
+
+    /**
+     * Verifies the batch event of a stream input.
+     */
+    @Test
+    void processApplicants_WithEnabledEvents_RecordsStreamBatch() throws IOException {
+        // Given
+        byte[] csv = csv();
+
+        // When
+        List<RecordedEvent> events = record(true,
+                () -> newProcessor().processApplicants(new ByteArrayInputStream(csv)));
+
+        // Then
+        RecordedEvent batch = single(events, BATCH_PARSED);
+        assertAll(
+                () -> assertEquals("stream", batch.getString("mode"), "Mode should be stream"),
+                () -> assertEquals(APPLICANTS + INVALID_ROWS + 1, batch.getLong("rows"), "Header should count as a row"),
+                () -> assertEquals(APPLICANTS, batch.getLong("accepted"), "Valid rows should be accepted"),
+                () -> assertEquals(INVALID_ROWS + 1, batch.getLong("rejected"), "Invalid rows and header rejected"),
+                () -> assertEquals(csv.length, batch.getLong("bytes"), "Every byte should be counted")
+        );
+    }
+
+    /**
+     * Verifies that the mapped and parallel batch events report the same rows and the file size.
+     */
+    @Test
+    void processApplicants_WithEnabledEventsOnFile_RecordsMappedAndParallelBatches() throws IOException {
+        // Given
+        Path csvFile = Files.write(tempDir.resolve("applicants.csv"), csv());
+
+        // When
+        List<RecordedEvent> mapped = record(true, () -> newProcessor().processApplicants(csvFile));
+        List<RecordedEvent> parallel = record(true,
+                () -> newProcessor().processApplicantsInParallel(csvFile, ForkJoinPool.commonPool()));
+
+        // Then
+        for (RecordedEvent batch : List.of(single(mapped, BATCH_PARSED), single(parallel, BATCH_PARSED))) {
+            assertAll(
+                    () -> assertEquals(APPLICANTS, batch.getLong("accepted"), "Valid rows should be accepted"),
+                    () -> assertEquals(INVALID_ROWS + 1, batch.getLong("rejected"), "Invalid rows and header rejected"),
+                    () -> assertEquals(Files.size(csvFile), batch.getLong("bytes"), "File size should be reported")
+            );
+        }
+        assertEquals("parallel", single(parallel, BATCH_PARSED).getString("mode"), "Mode should be parallel");
+    }
+
+    /**
+     * Verifies that rows repeating an email count as accepted in the parallel batch event, as
+     * in the mapped one, although parallel ingest keeps only the last row per email.
+     */
+    @Test
+    void processApplicantsInParallel_WithDuplicateEmails_CountsEveryAcceptedRow() throws IOException {
+        // Given
+        StringBuilder duplicates = new StringBuilder(new String(csv(), StandardCharsets.UTF_8));
+        for (int i = 0; i < DUPLICATE_ROWS; i++) {
+            duplicates.append("Applicant Again,applicant").append(i * 5).append("@example.com,2024-01-04T10:00:00,")
+                    .append(i % 10).append('\n');
+        }
+        Path csvFile = Files.writeString(tempDir.resolve("duplicates.csv"), duplicates, StandardCharsets.UTF_8);
+
+        // When
+        List<RecordedEvent> mapped = record(true, () -> newProcessor().processApplicants(csvFile));
+        List<RecordedEvent> parallel = record(true,
+                () -> newProcessor().processApplicantsInParallel(csvFile, ForkJoinPool.commonPool()));
+
+        // Then
+        RecordedEvent mappedBatch = single(mapped, BATCH_PARSED);
+        RecordedEvent parallelBatch = single(parallel, BATCH_PARSED);
+        assertAll(
+                () -> assertEquals(APPLICANTS + DUPLICATE_ROWS, parallelBatch.getLong("accepted"),
+                        "Every valid row should be accepted"),
+                () -> assertEquals(mappedBatch.getLong("accepted"), parallelBatch.getLong("accepted"),
+                        "Accepted rows should match the mapped batch"),
+                () -> assertEquals(mappedBatch.getLong("rows"), parallelBatch.getLong("rows"),
+                        "Rows should match the mapped batch")
+        );
+    }
+
+    /**
+     * Verifies the growth events at each doubling from 1024 applicants, and the ranking and JSON events.
+     */
+    @Test
+    void processApplicants_WithEnabledEvents_RecordsGrowthRankingAndJson() throws IOException {
+        // When
+        String[] json = new String[1];
+        List<RecordedEvent> events = record(true, () -> json[0] = newProcessor().processApplicants(csvStream()));
+
+        // Then
+        List<RecordedEvent> growth = named(events, REPOSITORY_GROWTH);
+        RecordedEvent ranking = single(events, RANKING_COMPUTED);
+        RecordedEvent output = single(events, JSON_EMITTED);
+        assertAll(
+                () -> assertEquals(List.of(1024, 2048), growth.stream().map(event -> event.getInt("applicants")).toList(),
+                        "Growth should be reported at each power of two"),
+                () -> assertEquals(1024, growth.get(1).getLong("inserts"), "Inserts since the previous event expected"),
+                () -> assertEquals(APPLICANTS, ranking.getInt("n"), "Every applicant should be ranked"),
+                () -> assertEquals(3, ranking.getInt("k"), "Top three should be requested"),
+                () -> assertEquals(json[0].length(), output.getInt("length"), "JSON length should be reported"),
+                () -> assertEquals(APPLICANTS, output.getInt("uniqueApplicants"), "Unique applicants expected")
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private List<RecordedEvent> record(boolean enableEvents, IoAction action) throws IOException {
+        Path file = Files.createTempFile(tempDir, "recording", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enableEvents) {
+                EVENT_NAMES.forEach(recording::enable);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = named(events, name);
+        assertEquals(1, matching.size(), "One " + name + " event expected");
+        return matching.get(0);
+    }
+
+    private static ApplicantsProcessor newProcessor() {
+        return new ApplicantsProcessor(new ApplicantService(new ApplicantRepository()));
+    }
+
+    private static ByteArrayInputStream csvStream() {
+        return new ByteArrayInputStream(csv());
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("name,email,delivery_datetime,score\n");
+        for (int i = 0; i < APPLICANTS; i++) {
+            csv.append("Applicant Number,applicant").append(i).append("@example.com,2024-01-0")
+                    .append(1 + i % 3).append("T10:00:00,").append(i % 10).append('\n');
+        }
+        csv.append("Invalid,invalid@example.com,2024-01-01T10:00:00,5\n");
+        csv.append("Invalid Email,invalid-email,2024-01-01T10:00:00,5\n");
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+package internship.applicantProcessor.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TopKSelector}.
+ * Verifies that the selection equals a stable sort followed by a limit.
+ */
+class TopKSelectorTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long SEED = 20240202L;
+    private static final int ELEMENT_COUNT = 10_000;
+    private static final Comparator<int[]> BY_FIRST_DESCENDING = Comparator.comparingInt((int[] e) -> e[0]).reversed();
+
+    // =================================================
+    // TEST CASES: SELECTION
+    // =================================================
+
+    /**
+     * Verifies on random elements with many ties that the selection equals the first k
+     * elements of a stable sort, for small, large and oversized k.
+     * @param k Number of elements to keep
+     */
+    @ParameterizedTest(name = "k = {0}")
+    @ValueSource(ints = {0, 1, 3, 50, 500, ELEMENT_COUNT, ELEMENT_COUNT + 7})
+    void toSortedList_WithRandomTies_MatchesStableSortAndLimit(int k) {
+        // Given
+        Random random = new Random(SEED);
+        List<int[]> elements = new ArrayList<>();
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            // Few distinct keys, the second value records the offer order
+            elements.add(new int[]{random.nextInt(50), i});
+        }
+        TopKSelector<int[]> selector = new TopKSelector<>(k, BY_FIRST_DESCENDING);
+
+        // When
+        elements.forEach(selector::offer);
+
+        // Then
+        List<int[]> expected = elements.stream().sorted(BY_FIRST_DESCENDING).limit(k).toList();
+        List<int[]> actual = selector.toSortedList();
+        assertEquals(expected.size(), selector.size(), "Kept count mismatch");
+        assertArrayEquals(expected.toArray(), actual.toArray(), "Selection should equal a stable sort");
+    }
+
+    /**
+     * Verifies that ranking by two keys and a tiebreaker equals sorting by the same order.
+     * @param k Number of elements to keep
+     */
+    @ParameterizedTest(name = "k = {0}")
+    @ValueSource(ints = {1, 3, 500})
+    void toSortedList_WithKeys_MatchesSortByKeysAndTieBreak(int k) {
+        // Given
+        Random random = new Random(SEED);
+        List<int[]> elements = new ArrayList<>();
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            elements.add(new int[]{random.nextInt(10), random.nextInt(10), random.nextInt(10), i});
+        }
+        Comparator<int[]> byThird = Comparator.comparingInt((int[] e) -> e[2]);
+        TopKSelector<int[]> selector = new TopKSelector<>(k, e -> e[0], e -> -e[1], byThird);
+
+        // When
+        elements.forEach(selector::offer);
+
+        // Then
+        Comparator<int[]> order = Comparator.comparingInt((int[] e) -> e[0])
+                .thenComparing(Comparator.comparingInt((int[] e) -> e[1]).reversed())
+                .thenComparing(byThird);
+        assertArrayEquals(elements.stream().sorted(order).limit(k).toArray(), selector.toSortedList().toArray());
+    }
+
+    /**
+     * Verifies that elements equal to the worst kept one do not displace it.
+     */
+    @Test
+    void offer_WithEqualElements_KeepsEarlierOnes() {
+        // Given
+        TopKSelector<String> selector = new TopKSelector<>(2, Comparator.comparingInt(String::length));
+
+        // When
+        for (String element : List.of("bb", "aa", "cc", "d", "ee")) {
+            selector.offer(element);
+        }
+
+        // Then
+        assertEquals(List.of("d", "bb"), selector.toSortedList());
+    }
+
+    // =================================================
+    // TEST CASES: MERGE AND PARALLEL COLLECTION
+    // =================================================
+
+    /**
+     * Verifies that merging the selector of a later part keeps the earlier part's elements
+     * ahead on ties.
+     */
+    @Test
+    void merge_WithTiesAcrossParts_KeepsEarlierPartFirst() {
+        // Given
+        TopKSelector<String> first = new TopKSelector<>(3, Comparator.comparingInt(String::length));
+        TopKSelector<String> later = new TopKSelector<>(3, Comparator.comparingInt(String::length));
+        List.of("bb", "ccc", "dd").forEach(first::offer);
+        List.of("a", "ee", "ff").forEach(later::offer);
+
+        // When
+        TopKSelector<String> merged = first.merge(later);
+
+        // Then
+        assertEquals(List.of("a", "bb", "dd"), merged.toSortedList());
+    }
+
+    /**
+     * Verifies on heavy ties that per-part selectors merged by a parallel stream give exactly
+     * the sequential selection.
+     * @param k Number of elements to keep
+     */
+    @ParameterizedTest(name = "k = {0}")
+    @ValueSource(ints = {0, 1, 3, 50, 500})
+    void collector_WithParallelStream_MatchesSequentialSelection(int k) {
+        // Given
+        Random random = new Random(SEED);
+        List<int[]> elements = new ArrayList<>();
+        for (int i = 0; i < 10 * ELEMENT_COUNT; i++) {
+            elements.add(new int[]{random.nextInt(5), random.nextInt(3), i});
+        }
+
+        // When
+        List<int[]> sequential = elements.stream()
+                .collect(TopKSelector.collector(() -> new TopKSelector<>(k, e -> -e[0], e -> e[1], (a, b) -> 0)))
+                .toSortedList();
+        List<int[]> parallel = elements.parallelStream()
+                .collect(TopKSelector.collector(() -> new TopKSelector<>(k, e -> -e[0], e -> e[1], (a, b) -> 0)))
+                .toSortedList();
+
+        // Then
+        Comparator<int[]> order = Comparator.comparingInt((int[] e) -> -e[0]).thenComparingInt(e -> e[1]);
+        assertArrayEquals(elements.stream().sorted(order).limit(k).toArray(), sequential.toArray());
+        assertArrayEquals(sequential.toArray(), parallel.toArray(), "Parallel selection should equal sequential");
+    }
+
+    /**
+     * Verifies argument checks.
+     */
+    @Test
+    void constructor_WithInvalidArguments_Throws() {
+        // When & Then
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new TopKSelector<>(-1, Comparator.naturalOrder())),
+                () -> assertThrows(NullPointerException.class, () -> new TopKSelector<String>(3, null))
+        );
+    }
+}
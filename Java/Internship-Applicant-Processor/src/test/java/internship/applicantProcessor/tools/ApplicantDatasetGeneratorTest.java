@@ -0,0 +1,196 @@
+package internship.applicantProcessor.tools;
+
+import internship.applicantProcessor.ingest.RejectionReason;
+import internship.applicantProcessor.repository.ApplicantRepository;
+import internship.applicantProcessor.service.ApplicantService;
+import internship.applicantProcessor.service.ApplicantsProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprehensive tests for {@link ApplicantDatasetGenerator}.
+ * Verifies determinism, the duplicate and per-rule invalid rates as seen by the processor,
+ * and the shape of generated names.
+ */
+class ApplicantDatasetGeneratorTest {
+
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final int ROWS = 2_000;
+
+    private final ApplicantRepository repository = new ApplicantRepository();
+
+    // =================================================
+    // TEST CASES: DETERMINISM
+    // =================================================
+
+    /**
+     * Verifies that the same options give the same text, and another seed other text.
+     */
+    @Test
+    void write_WithSameSeed_GivesSameOutput() throws IOException {
+        // When
+        String first = generate("--rows=500", "--seed=7", "--duplicates=0.3", "--bad-email=0.1", "--unicode=0.5");
+        String second = generate("--rows=500", "--seed=7", "--duplicates=0.3", "--bad-email=0.1", "--unicode=0.5");
+        String otherSeed = generate("--rows=500", "--seed=8", "--duplicates=0.3", "--bad-email=0.1", "--unicode=0.5");
+
+        // Then
+        assertAll(
+                () -> assertEquals(first, second, "Same options should give the same file"),
+                () -> assertNotEquals(first, otherSeed, "Another seed should give another file")
+        );
+    }
+
+    /**
+     * Verifies the header and the number of lines.
+     */
+    @Test
+    void write_WithRowCount_WritesHeaderAndRows() throws IOException {
+        // When
+        List<String> lines = generate("--rows=" + ROWS).lines().toList();
+
+        // Then
+        assertAll(
+                () -> assertEquals(ApplicantDatasetGenerator.HEADER, lines.get(0), "Should start with the header"),
+                () -> assertEquals(ROWS + 1, lines.size(), "Should write one line per row after the header")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: DUPLICATES AND REJECTIONS
+    // =================================================
+
+    /**
+     * Verifies that rows without defects or duplicates are all accepted; only the header is rejected.
+     */
+    @Test
+    void write_WithDefaultRates_ProducesOnlyValidUniqueRows() throws IOException {
+        // When
+        ApplicantService service = process(generate("--rows=" + ROWS, "--unicode=0.5", "--middle-names=0.5"));
+
+        // Then
+        assertAll(
+                () -> assertEquals(ROWS, repository.getUniqueApplicantCount(), "Every row should be a new applicant"),
+                () -> assertEquals(1, totalRejections(service), "Only the header should be rejected")
+        );
+    }
+
+    /**
+     * Verifies that the duplicate rate reuses earlier emails for about that share of rows.
+     */
+    @Test
+    void write_WithDuplicateRate_ReusesEarlierEmails() throws IOException {
+        // When
+        process(generate("--rows=" + ROWS, "--duplicates=0.25"));
+
+        // Then
+        int unique = repository.getUniqueApplicantCount();
+        assertTrue(unique > ROWS * 0.7 && unique < ROWS * 0.8, "About 75% of emails should be new, got " + unique);
+    }
+
+    /**
+     * Verifies that each per-rule rate produces rows rejected for exactly that reason.
+     * @param option Rate option
+     * @param reason Expected rejection reason
+     */
+    @ParameterizedTest(name = "{0} rejected as {1}")
+    @CsvSource({
+            "bad-name, BAD_NAME",
+            "bad-email, BAD_EMAIL",
+            "bad-datetime, BAD_DATETIME",
+            "bad-score, BAD_SCORE",
+            "wrong-field-count, WRONG_FIELD_COUNT"
+    })
+    void write_WithRuleRateOne_RejectsEveryRowForThatRule(String option, RejectionReason reason) throws IOException {
+        // When
+        ApplicantService service = process(generate("--rows=" + ROWS, "--" + option + "=1"));
+
+        // Then
+        long headerRejections = reason == RejectionReason.BAD_NAME ? 1 : 0;
+        assertAll(
+                () -> assertEquals(0, repository.getUniqueApplicantCount(), "No row should be accepted"),
+                () -> assertEquals(ROWS + headerRejections, service.getRejectionCount(reason),
+                        "Every row should be rejected as " + reason),
+                () -> assertEquals(ROWS + 1, totalRejections(service), "No row should be rejected for another reason")
+        );
+    }
+
+    /**
+     * Verifies that a mix of rule rates rejects about that share of rows in total.
+     */
+    @Test
+    void write_WithMixedRuleRates_RejectsAboutTheirSum() throws IOException {
+        // When
+        ApplicantService service = process(generate("--rows=" + ROWS, "--bad-name=0.05", "--bad-email=0.05",
+                "--bad-datetime=0.05", "--bad-score=0.05", "--wrong-field-count=0.05"));
+
+        // Then
+        long rejected = totalRejections(service) - 1;
+        assertAll(
+                () -> assertTrue(rejected > ROWS * 0.2 && rejected < ROWS * 0.3, "About 25% rejected, got " + rejected),
+                () -> assertEquals(ROWS - rejected, repository.getUniqueApplicantCount(), "Other rows should be accepted")
+        );
+    }
+
+    // =================================================
+    // TEST CASES: NAMES
+    // =================================================
+
+    /**
+     * Verifies the name part length range and the Unicode share at its extremes.
+     */
+    @Test
+    void write_WithNameOptions_ShapesNames() throws IOException {
+        // When
+        List<String> ascii = names(generate("--rows=500", "--name-length=4-6", "--unicode=0"));
+        List<String> unicode = names(generate("--rows=500", "--name-length=4-6", "--unicode=1"));
+
+        // Then
+        assertAll(
+                () -> assertTrue(ascii.stream().flatMap(name -> List.of(name.split(" ")).stream())
+                        .allMatch(part -> part.length() >= 4 && part.length() <= 6), "Parts should have 4 to 6 letters"),
+                () -> assertTrue(ascii.stream().allMatch(name -> name.chars().allMatch(c -> c < 0x80)),
+                        "Names should be ASCII without Unicode share"),
+                () -> assertTrue(unicode.stream().allMatch(name -> name.chars().anyMatch(c -> c >= 0x80)),
+                        "Every name should have a non-ASCII letter with a Unicode share of 1")
+        );
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    private static String generate(String... args) throws IOException {
+        StringWriter out = new StringWriter();
+        new ApplicantDatasetGenerator(DatasetOptions.parse(args)).write(out);
+        return out.toString();
+    }
+
+    private ApplicantService process(String csv) {
+        ApplicantService service = new ApplicantService(repository);
+        new ApplicantsProcessor(service).processApplicants(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        return service;
+    }
+
+    private static long totalRejections(ApplicantService service) {
+        long total = 0;
+        for (RejectionReason reason : RejectionReason.values()) {
+            total += service.getRejectionCount(reason);
+        }
+        return total;
+    }
+
+    private static List<String> names(String csv) {
+        return csv.lines().skip(1).map(line -> line.substring(0, line.indexOf(','))).toList();
+    }
+}
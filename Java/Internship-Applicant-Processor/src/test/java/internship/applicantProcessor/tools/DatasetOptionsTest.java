@@ -0,0 +1,106 @@
+package internship.applicantProcessor.tools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DatasetOptions}.
+ * Verifies defaults, option parsing and the validation of values.
+ */
+class DatasetOptionsTest {
+
+    // =================================================
+    // TEST CASES: PARSING
+    // =================================================
+
+    /**
+     * Verifies that no arguments give the defaults, writing to standard output.
+     */
+    @Test
+    void parse_WithNoArguments_UsesDefaults() {
+        // When
+        DatasetOptions options = DatasetOptions.parse(new String[0]);
+
+        // Then
+        assertAll(
+                () -> assertEquals(DatasetOptions.DEFAULT, options, "Should equal the defaults"),
+                () -> assertNull(options.output(), "Should write to standard output"),
+                () -> assertEquals(0.0, options.invalidRate(), "Should only generate valid rows")
+        );
+    }
+
+    /**
+     * Verifies that every option is parsed into its component.
+     */
+    @Test
+    void parse_WithAllOptions_SetsEveryComponent() {
+        // When
+        DatasetOptions options = DatasetOptions.parse(new String[]{
+                "--rows=5000000000", "--seed=42", "--output=out.csv", "--duplicates=0.3",
+                "--bad-name=0.01", "--bad-email=0.02", "--bad-datetime=0.03", "--bad-score=0.04",
+                "--wrong-field-count=0.05", "--start=2023-12-30", "--days=3", "--name-length=2-20",
+                "--middle-names=0.5", "--unicode=0.25"});
+
+        // Then
+        assertAll(
+                () -> assertEquals(5_000_000_000L, options.rows(), "Row counts may exceed int"),
+                () -> assertEquals(42, options.seed()),
+                () -> assertEquals(Path.of("out.csv"), options.output()),
+                () -> assertEquals(0.3, options.duplicateRate()),
+                () -> assertEquals(0.15, options.invalidRate(), 1e-12, "Invalid rates should add up"),
+                () -> assertEquals(LocalDate.of(2023, 12, 30), options.firstDay()),
+                () -> assertEquals(3, options.days()),
+                () -> assertEquals(2, options.minNameLength()),
+                () -> assertEquals(20, options.maxNameLength()),
+                () -> assertEquals(0.5, options.middleNameRate()),
+                () -> assertEquals(0.25, options.unicodeRate())
+        );
+    }
+
+    /**
+     * Verifies that a single name length fixes both bounds.
+     */
+    @Test
+    void parse_WithSingleNameLength_FixesBothBounds() {
+        // When
+        DatasetOptions options = DatasetOptions.parse(new String[]{"--name-length=5"});
+
+        // Then
+        assertAll(
+                () -> assertEquals(5, options.minNameLength()),
+                () -> assertEquals(5, options.maxNameLength())
+        );
+    }
+
+    // =================================================
+    // TEST CASES: VALIDATION
+    // =================================================
+
+    /**
+     * Verifies that unknown options and invalid values are rejected.
+     * @param arg Invalid argument
+     */
+    @ParameterizedTest(name = "Reject \"{0}\"")
+    @ValueSource(strings = {"--colour=red", "input.csv", "--rows", "--rows=-1", "--rows=many", "--days=0",
+            "--duplicates=1.5", "--unicode=-0.1", "--name-length=5-3", "--name-length=0-3", "--start=2024-13-01"})
+    void parse_WithInvalidArgument_Throws(String arg) {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DatasetOptions.parse(new String[]{arg}));
+    }
+
+    /**
+     * Verifies that invalid rates may not add up to more than every row.
+     */
+    @Test
+    void parse_WithInvalidRatesAboveOne_Throws() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> DatasetOptions.parse(new String[]{"--bad-name=0.6", "--bad-score=0.6"}));
+    }
+}
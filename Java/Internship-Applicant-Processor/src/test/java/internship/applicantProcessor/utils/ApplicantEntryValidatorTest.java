@@ -1,11 +1,18 @@
 package internship.applicantProcessor.utils;
 
+import internship.applicantProcessor.ingest.ByteSpan;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -13,6 +20,16 @@ import static org.junit.jupiter.api.Assertions.*;
  * Verifies strict business rules for applicant data fields according to specifications.
  */
 class ApplicantEntryValidatorTest {
+    // =================================================
+    // TEST CONSTANTS
+    // =================================================
+    private static final long FUZZ_SEED = 20240126L;
+    private static final int FUZZ_ITERATIONS = 50_000;
+    private static final String[] FUZZ_ALPHABET = {
+            "a", "Z", "0", "1", "9", ".", "@", "-", "_", ":", "T", " ", "\t", "\n", "\u000B", "\u0001",
+            "ț", "😀", "\u0085", "\u00A0"
+    };
+
     // =================================================
     // TEST CASES: NAME VALIDATION
     // =================================================
@@ -239,4 +256,94 @@ class ApplicantEntryValidatorTest {
                         "Should require capital T separator")
         );
     }
-}
\ No newline at end of file
+
+    // =================================================
+    // TEST CASES: DIFFERENTIAL VALIDATION
+    // =================================================
+
+    /**
+     * Verifies that the hand-written name scanner agrees with the regex reference on
+     * mutated names, both on strings and on UTF-8 byte views.
+     */
+    @Test
+    void isValidName_WithFuzzedInputs_MatchesRegexReference() {
+        assertMatchesReference(List.of("John Doe", " Anna Maria Smith\t", "X Æ A-12 Musk", "Doe"),
+                ApplicantEntryValidator::isValidName, RegexApplicantEntryValidator::isValidName);
+    }
+
+    /**
+     * Verifies that the hand-written email scanner agrees with the regex reference on mutated emails.
+     */
+    @Test
+    void isValidEmail_WithFuzzedInputs_MatchesRegexReference() {
+        assertMatchesReference(List.of("john@example.com", "a@b.co", "user.name@sub.domain.com", "u_1@d-2.c"),
+                ApplicantEntryValidator::isValidEmail, RegexApplicantEntryValidator::isValidEmail);
+    }
+
+    /**
+     * Verifies that the hand-written datetime scanner agrees with the regex reference on mutated timestamps.
+     */
+    @Test
+    void isValidDeliveryDateTime_WithFuzzedInputs_MatchesRegexReference() {
+        assertMatchesReference(List.of("2024-01-15T14:30:00", "9999-12-31T23:59:59"),
+                ApplicantEntryValidator::isValidDeliveryDateTime, RegexApplicantEntryValidator::isValidDeliveryDateTime);
+    }
+
+    /**
+     * Verifies that the hand-written score scanner agrees with the regex reference on mutated scores.
+     */
+    @Test
+    void isValidScore_WithFuzzedInputs_MatchesRegexReference() {
+        assertMatchesReference(List.of("0", "10", "10.00", "5.5", "7.25"),
+                ApplicantEntryValidator::isValidScore, RegexApplicantEntryValidator::isValidScore);
+    }
+
+    // =================================================
+    // HELPER METHODS
+    // =================================================
+
+    /**
+     * Applies random insertions, deletions and replacements to seed values and checks that both
+     * implementations agree on every result.
+     */
+    private static void assertMatchesReference(List<String> seeds,
+                                               Predicate<CharSequence> scanner,
+                                               Predicate<CharSequence> reference) {
+        Random random = new Random(FUZZ_SEED);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            StringBuilder input = new StringBuilder(seeds.get(random.nextInt(seeds.size())));
+            int mutations = random.nextInt(4);
+            for (int m = 0; m < mutations; m++) {
+                mutate(input, random);
+            }
+
+            String value = input.toString();
+            boolean expected = reference.test(value);
+            assertEquals(expected, scanner.test(value), () -> "String mismatch for \"" + value + "\"");
+            assertEquals(expected, scanner.test(utf8View(value)), () -> "Byte view mismatch for \"" + value + "\"");
+        }
+    }
+
+    private static void mutate(StringBuilder input, Random random) {
+        int position = random.nextInt(input.length() + 1);
+        String replacement = FUZZ_ALPHABET[random.nextInt(FUZZ_ALPHABET.length)];
+        switch (random.nextInt(3)) {
+            case 0 -> input.insert(position, replacement);
+            case 1 -> {
+                if (position < input.length()) {
+                    input.deleteCharAt(position);
+                }
+            }
+            default -> {
+                if (position < input.length()) {
+                    input.replace(position, position + 1, replacement);
+                }
+            }
+        }
+    }
+
+    private static ByteSpan utf8View(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return new ByteSpan().set(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}